@@ -267,6 +267,7 @@ PRECEDING			: [pP] [rR] [eE] [cC] [eE] [dD] [iI] [nN] [gG];
 QUARTER				: [qQ] [uU] [aA] [rR] [tT] [eE] [rR];
 RANGE				: [rR] [aA] [nN] [gG] [eE];
 RESPECT				: [rR] [eE] [sS] [pP] [eE] [cC] [tT];
+RETURNING			: [rR] [eE] [tT] [uU] [rR] [nN] [iI] [nN] [gG];
 RIGHT				: [rR] [iI] [gG] [hH] [tT];
 ROLLUP				: [rR] [oO] [lL] [lL] [uU] [pP];
 ROW	    			: [rR] [oO] [wW];
@@ -55,14 +55,14 @@ targetEntity
  * A 'delete' statement
  */
 deleteStatement
-	: DELETE FROM? targetEntity whereClause?
+	: DELETE FROM? targetEntity whereClause? returningClause?
 	;
 
 /**
  * An 'update' statement
  */
 updateStatement
-	: UPDATE VERSIONED? targetEntity setClause whereClause?
+	: UPDATE VERSIONED? targetEntity setClause whereClause? returningClause?
 	;
 
 /**
@@ -83,7 +83,14 @@ assignment
  * An 'insert' statement
  */
 insertStatement
-	: INSERT INTO? targetEntity targetFields (queryExpression | valuesList)
+	: INSERT INTO? targetEntity targetFields (queryExpression | valuesList) returningClause?
+	;
+
+/**
+ * A 'returning' clause of a mutation statement, listing the attributes of the affected rows
+ */
+returningClause
+	: RETURNING simplePath (COMMA simplePath)*
 	;
 
 /**
@@ -1664,6 +1671,7 @@ rollup
 	| QUARTER
 	| RANGE
 	| RESPECT
+	| RETURNING
 //	| RIGHT
 	| ROLLUP
 	| ROW
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 /**
  * A command-oriented API often used for performing bulk operations against
  * the database. A stateless session has no persistence context, and always
@@ -98,6 +100,91 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each of the given entities, using JDBC batches
+	 * where possible. The statements are batched even when JDBC batching
+	 * is not enabled, in batches of up to 100 statements.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.2
+	 */
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Insert a row for each of the given entities, using {@code insert}
+	 * statements with a multi-row {@code values} list where the mapping
+	 * and the database allow it, and falling back to the batched inserts
+	 * of {@link #insertMultiple(List)} otherwise. The number of rows per
+	 * statement is the JDBC batch size when batching is enabled, and 100
+	 * otherwise, but is also limited by the number of JDBC parameters the
+	 * database accepts.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @see org.hibernate.dialect.Dialect#getParameterCountLimit()
+	 *
+	 * @since 6.2
+	 */
+	void bulkInsert(List<?> entities);
+
+	/**
+	 * Update the row of each of the given entities, using JDBC batches
+	 * where possible, as with {@link #insertMultiple(List)}.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @since 6.2
+	 */
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete the row of each of the given entities, using JDBC batches
+	 * where possible, as with {@link #insertMultiple(List)}.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @since 6.2
+	 */
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Update a row, or insert it if it does not exist yet. The entity
+	 * must have an identifier. Depending on the dialect, this is done
+	 * using a single SQL {@code merge} or {@code insert ... on conflict}
+	 * statement.
+	 *
+	 * @param entity a detached entity instance, or a new instance with
+	 *               an assigned identifier
+	 *
+	 * @since 6.2
+	 */
+	void upsert(Object entity);
+
+	/**
+	 * Update a row, or insert it if it does not exist yet.
+	 *
+	 * @param entityName The entityName for the entity to be merged
+	 * @param entity a detached entity instance, or a new instance with
+	 *               an assigned identifier
+	 *
+	 * @since 6.2
+	 */
+	void upsert(String entityName, Object entity);
+
+	/**
+	 * Update or insert the row of each of the given entities, using JDBC
+	 * batches where possible, as with {@link #insertMultiple(List)}.
+	 *
+	 * @param entities a list of detached entity instances, or new
+	 *                 instances with assigned identifiers
+	 *
+	 * @see #upsert(Object)
+	 *
+	 * @since 6.2
+	 */
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -118,6 +205,19 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id);
 
+	/**
+	 * Retrieve multiple rows, using one query per batch of identifiers.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 *
+	 * @return a list of detached entity instances, in the order of the
+	 *         given ids, with {@code null} for each id matching no row
+	 *
+	 * @since 6.2
+	 */
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Retrieve a row, obtaining the specified lock mode.
 	 *
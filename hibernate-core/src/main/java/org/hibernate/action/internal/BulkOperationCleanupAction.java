@@ -22,6 +22,7 @@ import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
@@ -165,6 +166,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		final BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, affectedQueryables );
 		if ( session.isEventSource() ) {
 			session.asEventSource().getActionQueue().addAction( action );
+			forgetCollectionProbes( session );
 		}
 		else {
 			action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion( true, session );
@@ -175,12 +177,27 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		final BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, affectedQueryables );
 		if ( session.isEventSource() ) {
 			session.asEventSource().getActionQueue().addAction( action );
+			forgetCollectionProbes( session );
 		}
 		else {
 			action.getAfterTransactionCompletionProcess().doAfterTransactionCompletion( true, session );
 		}
 	}
 
+	/**
+	 * The rows of uninitialized extra-lazy collections might have been modified
+	 * by the bulk operation, so what was probed about them is not valid anymore.
+	 */
+	private static void forgetCollectionProbes(SharedSessionContractImplementor session) {
+		session.getPersistenceContextInternal().forEachCollectionEntry(
+				(collection, entry) -> {
+					if ( collection instanceof AbstractPersistentCollection ) {
+						( (AbstractPersistentCollection<?>) collection ).forgetProbes();
+					}
+				},
+				false
+		);
+	}
 
 	/**
 	 * Check whether we should consider an entity as affected by the query.  This
@@ -6,6 +6,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.EntityKey;
@@ -66,19 +69,63 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 
 	@Override
 	public void execute() throws HibernateException {
+		prepareInsert();
+
+		// Don't need to lock the cache here, since if someone
+		// else inserted the same pk first, the insert would fail
+
+		if ( !isVeto() ) {
+			generatedId = getPersister().insert( getState(), getInstance(), getSession() );
+		}
+
+		completeInsert();
+	}
+
+	/**
+	 * Execute the given delayed insertions of entities of the same type,
+	 * sending all their inserts to the database as a single JDBC batch.
+	 * None of the entities may refer to another entity of the batch.
+	 *
+	 * @see EntityPersister#insertBatch
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final List<Object[]> states = new ArrayList<>( actions.size() );
+		final List<Object> instances = new ArrayList<>( actions.size() );
+		final List<EntityIdentityInsertAction> insertedActions = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			assert action.isDelayed;
+			action.prepareInsert();
+			if ( !action.isVeto() ) {
+				states.add( action.getState() );
+				instances.add( action.getInstance() );
+				insertedActions.add( action );
+			}
+		}
+
+		if ( !insertedActions.isEmpty() ) {
+			final EntityIdentityInsertAction first = insertedActions.get( 0 );
+			final Object[] generatedIds = first.getPersister().insertBatch( states, instances, first.getSession() );
+			for ( int i = 0; i < generatedIds.length; i++ ) {
+				insertedActions.get( i ).generatedId = generatedIds[i];
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeInsert();
+		}
+	}
+
+	private void prepareInsert() {
 		nullifyTransientReferencesIfNotAlready();
+		setVeto( preInsert() );
+	}
 
+	private void completeInsert() {
 		final EntityPersister persister = getPersister();
 		final SharedSessionContractImplementor session = getSession();
 		final Object instance = getInstance();
 
-		setVeto( preInsert() );
-
-		// Don't need to lock the cache here, since if someone
-		// else inserted the same pk first, the insert would fail
-
 		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
 			if ( persister.hasInsertGeneratedProperties() ) {
 				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
 			}
@@ -30,6 +30,13 @@ public class EntityIncrementVersionProcess implements BeforeTransactionCompletio
 		this.object = object;
 	}
 
+	/**
+	 * The entity instance
+	 */
+	public Object getObject() {
+		return object;
+	}
+
 	/**
 	 * Perform whatever processing is encapsulated here before completion of the transaction.
 	 *
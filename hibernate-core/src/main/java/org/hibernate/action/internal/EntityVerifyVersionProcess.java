@@ -32,6 +32,13 @@ public class EntityVerifyVersionProcess implements BeforeTransactionCompletionPr
 		this.object = object;
 	}
 
+	/**
+	 * The entity instance
+	 */
+	public Object getObject() {
+		return object;
+	}
+
 	@Override
 	public void doBeforeTransactionCompletion(SessionImplementor session) {
 		final EntityEntry entry = session.getPersistenceContext().getEntry( object );
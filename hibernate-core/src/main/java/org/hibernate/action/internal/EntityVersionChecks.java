@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.action.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Lockable;
+
+/**
+ * Performs the {@linkplain EntityVerifyVersionProcess version verifications}
+ * and {@linkplain EntityIncrementVersionProcess forced version increments}
+ * registered by a session as a group, instead of one at a time.
+ * <ul>
+ * <li>The versions of the entities of a given type are verified together,
+ *     by a single query counting the rows matching the identifier and
+ *     version of each entity, chunked to respect the limit on the number
+ *     of JDBC parameters of the database. Only when this count reveals a
+ *     stale entity are the versions of the chunk read one at a time, to
+ *     report it.
+ * <li>The version increments of the entities of a given type are executed
+ *     one after the other, so that they share a JDBC batch when batching
+ *     is enabled.
+ * </ul>
+ */
+public class EntityVersionChecks {
+	/**
+	 * The maximum number of entities verified by a single query
+	 */
+	private static final int MAX_VERIFICATIONS_PER_QUERY = 100;
+
+	private final Map<String, List<EntityIncrementVersionProcess>> increments = new LinkedHashMap<>();
+	private final Map<String, List<EntityVerifyVersionProcess>> verifications = new LinkedHashMap<>();
+
+	/**
+	 * Add the given process to this group, if it is a version verification
+	 * or increment of an entity belonging to the persistence context.
+	 *
+	 * @return {@code true} if the process was added, and so must not be
+	 *         performed separately
+	 */
+	public boolean add(BeforeTransactionCompletionProcess process, SessionImplementor session) {
+		if ( process instanceof EntityIncrementVersionProcess ) {
+			final EntityIncrementVersionProcess increment = (EntityIncrementVersionProcess) process;
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( increment.getObject() );
+			if ( entry != null ) {
+				increments.computeIfAbsent( entry.getPersister().getEntityName(), name -> new ArrayList<>() )
+						.add( increment );
+			}
+			return true;
+		}
+		else if ( process instanceof EntityVerifyVersionProcess ) {
+			final EntityVerifyVersionProcess verification = (EntityVerifyVersionProcess) process;
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( verification.getObject() );
+			if ( entry != null ) {
+				verifications.computeIfAbsent( entry.getPersister().getEntityName(), name -> new ArrayList<>() )
+						.add( verification );
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	public boolean isEmpty() {
+		return increments.isEmpty() && verifications.isEmpty();
+	}
+
+	/**
+	 * Perform the version increments, and then the version verifications,
+	 * added since the last call.
+	 */
+	public void perform(SessionImplementor session) {
+		if ( !increments.isEmpty() ) {
+			for ( List<EntityIncrementVersionProcess> typeIncrements : increments.values() ) {
+				for ( EntityIncrementVersionProcess increment : typeIncrements ) {
+					increment.doBeforeTransactionCompletion( session );
+				}
+			}
+			increments.clear();
+			// make sure any stale entity is detected before the transaction completes
+			session.getJdbcCoordinator().executeBatch();
+		}
+
+		if ( !verifications.isEmpty() ) {
+			for ( List<EntityVerifyVersionProcess> typeVerifications : verifications.values() ) {
+				verify( typeVerifications, session );
+			}
+			verifications.clear();
+		}
+	}
+
+	private static void verify(List<EntityVerifyVersionProcess> typeVerifications, SessionImplementor session) {
+		// an earlier process might have evicted some of the entities
+		final List<EntityVerifyVersionProcess> managedVerifications = new ArrayList<>( typeVerifications.size() );
+		for ( EntityVerifyVersionProcess verification : typeVerifications ) {
+			if ( entry( verification, session ) != null ) {
+				managedVerifications.add( verification );
+			}
+		}
+		if ( managedVerifications.isEmpty() ) {
+			return;
+		}
+
+		final EntityPersister persister = entry( managedVerifications.get( 0 ), session ).getPersister();
+		if ( managedVerifications.size() == 1 || !( persister instanceof Lockable ) ) {
+			for ( EntityVerifyVersionProcess verification : managedVerifications ) {
+				verification.doBeforeTransactionCompletion( session );
+			}
+		}
+		else {
+			final int chunkSize = chunkSize( (Lockable) persister, session );
+			for ( int start = 0; start < managedVerifications.size(); start += chunkSize ) {
+				final List<EntityVerifyVersionProcess> chunk = managedVerifications.subList(
+						start,
+						Math.min( start + chunkSize, managedVerifications.size() )
+				);
+				if ( countMatchingVersions( (Lockable) persister, chunk, session ) != chunk.size() ) {
+					// some entity is stale, find which one
+					for ( EntityVerifyVersionProcess verification : chunk ) {
+						verification.doBeforeTransactionCompletion( session );
+					}
+				}
+			}
+		}
+	}
+
+	private static int chunkSize(Lockable persister, SessionImplementor session) {
+		final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+		final int parametersPerEntity = persister.getRootTableIdentifierColumnNames().length + 1;
+		return parameterCountLimit > 0
+				? Math.max( 1, Math.min( MAX_VERIFICATIONS_PER_QUERY, parameterCountLimit / parametersPerEntity ) )
+				: MAX_VERIFICATIONS_PER_QUERY;
+	}
+
+	private static long countMatchingVersions(
+			Lockable persister,
+			List<EntityVerifyVersionProcess> verifications,
+			SessionImplementor session) {
+		final String sql = countMatchingVersionsString( persister, verifications.size() );
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		try {
+			final PreparedStatement st = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+			try {
+				int index = 1;
+				for ( EntityVerifyVersionProcess verification : verifications ) {
+					final EntityEntry entry = entry( verification, session );
+					persister.getIdentifierType().nullSafeSet( st, entry.getId(), index, session );
+					index += persister.getRootTableIdentifierColumnNames().length;
+					persister.getVersionType().nullSafeSet( st, entry.getVersion(), index, session );
+					index++;
+				}
+				final ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st );
+				try {
+					return rs.next() ? rs.getLong( 1 ) : 0;
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, st );
+				}
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"could not verify versions: " + persister.getEntityName(),
+					sql
+			);
+		}
+	}
+
+	private static String countMatchingVersionsString(Lockable persister, int count) {
+		final String[] keyColumnNames = persister.getRootTableIdentifierColumnNames();
+		final StringBuilder sql = new StringBuilder( "select count(*) from " )
+				.append( persister.getRootTableName() )
+				.append( " where " );
+		for ( int i = 0; i < count; i++ ) {
+			if ( i > 0 ) {
+				sql.append( " or " );
+			}
+			sql.append( '(' );
+			for ( String keyColumnName : keyColumnNames ) {
+				sql.append( keyColumnName ).append( "=? and " );
+			}
+			sql.append( persister.getVersionColumnName() ).append( "=?)" );
+		}
+		return sql.toString();
+	}
+
+	private static EntityEntry entry(EntityVerifyVersionProcess verification, SessionImplementor session) {
+		return session.getPersistenceContextInternal().getEntry( verification.getObject() );
+	}
+}
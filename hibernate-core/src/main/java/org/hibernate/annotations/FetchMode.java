@@ -68,12 +68,16 @@ public enum FetchMode {
 	 * Use a secondary select with a subselect that re-executes an
 	 * initial query to load all instances of the related entity or
 	 * collection at once, at some point after the initial query is
-	 * executed. This fetching strategy is currently only available
-	 * for collections and many-valued associations.
+	 * executed. This fetching strategy is available for collections
+	 * and many-valued associations, and for lazy single-valued
+	 * associations.
 	 * <p>
-	 * This advanced fetching strategy is compatible with both
-	 * {@linkplain jakarta.persistence.FetchType#EAGER eager} and
-	 * {@linkplain jakarta.persistence.FetchType#LAZY lazy} fetching.
+	 * For collections, this advanced fetching strategy is compatible
+	 * with both {@linkplain jakarta.persistence.FetchType#EAGER eager}
+	 * and {@linkplain jakarta.persistence.FetchType#LAZY lazy} fetching.
+	 * For a single-valued association, it must be lazy, and all proxies
+	 * created by the initial query for the association are initialized
+	 * together, when the first of them is initialized.
 	 * <p>
 	 * Subselect fetching may be contrasted with {@linkplain BatchSize
 	 * batch fetching}:
@@ -344,8 +344,13 @@ public class ToOneBinder {
 				toOne.setFetchMode( FetchMode.SELECT );
 				break;
 			case SUBSELECT:
-				throw new AnnotationException( "Association '" + property.getName()
-						+ "' is annotated '@Fetch(SUBSELECT)' but is not many-valued");
+				if ( !toOne.isLazy() ) {
+					throw new AnnotationException( "Association '" + property.getName()
+							+ "' is annotated '@Fetch(SUBSELECT)' but is not lazy" );
+				}
+				toOne.setFetchMode( FetchMode.SELECT );
+				toOne.setSubselectLoadable( true );
+				break;
 			default:
 				throw new AssertionFailure("unknown fetch type");
 		}
@@ -29,10 +29,12 @@ import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.event.jfr.internal.JfrQueryExecutionObserver;
 import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
 import org.hibernate.id.enhanced.SingleNamingStrategy;
 import org.hibernate.id.enhanced.LegacyNamingStrategy;
 import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.query.spi.QueryExecutionObserver;
 import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableMutationStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.LocalTemporaryTableMutationStrategy;
@@ -121,6 +123,7 @@ public class StrategySelectorBuilder {
 		addCacheKeysFactories( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
+		addQueryExecutionObservers( strategySelector );
 
 		// apply auto-discovered registrations
 		for ( StrategyRegistrationProvider provider : classLoaderService.loadJavaServices( StrategyRegistrationProvider.class ) ) {
@@ -298,4 +301,12 @@ public class StrategySelectorBuilder {
 				JaxbXmlFormatMapper.class
 		);
 	}
+
+	private static void addQueryExecutionObservers(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				QueryExecutionObserver.class,
+				JfrQueryExecutionObserver.SHORT_NAME,
+				JfrQueryExecutionObserver.class
+		);
+	}
 }
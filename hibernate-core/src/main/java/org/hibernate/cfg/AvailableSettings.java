@@ -1069,6 +1069,57 @@ public interface AvailableSettings {
 	 */
 	String BATCH_STRATEGY = "hibernate.jdbc.factory_class";
 
+	/**
+	 * Specifies the maximum number of frequently executed ("hot") prepared statements,
+	 * queries or mutations, which a session keeps open on its physical JDBC connection
+	 * while it holds this connection, so that executing them again does not require
+	 * preparing them again. A value of
+	 * {@code 0}, the default, disables caching of statements by Hibernate, leaving it
+	 * entirely to the connection pool or JDBC driver.
+	 * <p>
+	 * This is mainly useful with connection pools which do not cache statements
+	 * themselves, such as Agroal or HikariCP, when the driver does not either.
+	 * <p>
+	 * Cached statements are closed when the session releases its physical connection,
+	 * so they are only reused for as long as the session holds the connection. With the
+	 * default {@linkplain #CONNECTION_HANDLING connection handling mode}, the connection
+	 * is released after each transaction, and so statements are only reused by a
+	 * transaction executing the same statement several times. The statistics about
+	 * which statements are hot are kept by the session factory, and are not lost when
+	 * the connection is released.
+	 *
+	 * @see #STATEMENT_CACHE_HOT_THRESHOLD
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.2
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
+	/**
+	 * Specifies how many times a statement has to be prepared, across all sessions,
+	 * before it is considered hot and kept open by the statement cache. Only relevant
+	 * if {@link #STATEMENT_CACHE_SIZE} is enabled. The default is {@code 2}.
+	 *
+	 * @since 6.2
+	 */
+	String STATEMENT_CACHE_HOT_THRESHOLD = "hibernate.jdbc.statement_cache_hot_threshold";
+
+	/**
+	 * Specifies the maximum number of distinct {@code update} statements kept, per
+	 * entity, for entities mapped with {@link org.hibernate.annotations.DynamicUpdate}
+	 * or with {@linkplain org.hibernate.annotations.OptimisticLockType#DIRTY dirty}
+	 * or {@linkplain org.hibernate.annotations.OptimisticLockType#ALL all} optimistic
+	 * locking. The SQL of such an update depends on which attributes are dirty, and on
+	 * which of the values used for optimistic locking are null. Updates which share
+	 * the same SQL reuse it instead of rendering it again, and may be batched together.
+	 * A value of {@code 0} disables this cache. The default is {@code 32}.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 *
+	 * @since 6.2
+	 */
+	String DYNAMIC_UPDATE_CACHE_SIZE = "hibernate.jdbc.dynamic_update_cache_size";
+
 	/**
 	 * When enabled, specifies that {@linkplain jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -1077,6 +1128,27 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that inserts of entities with an
+	 * {@linkplain jakarta.persistence.GenerationType#IDENTITY identity} column
+	 * should be delayed until flush, and executed as a JDBC batch, reading the
+	 * generated identifiers of all rows from {@link java.sql.Statement#getGeneratedKeys()}.
+	 * Entities persisted by {@code persist()} or {@code merge()} are then only
+	 * assigned an identifier when the session is flushed.
+	 * <p>
+	 * This setting is ignored, and a warning logged, unless the JDBC driver returns
+	 * the generated keys of every row of a batch, in order, as reported by
+	 * {@link org.hibernate.dialect.Dialect#supportsBatchedGeneratedKeys()}. That is
+	 * the case for MySQL, MariaDB, H2 and PostgreSQL, but not for SQL Server, for
+	 * example. It only takes effect for entities mapped to a single table, whose
+	 * identity is read using {@code getGeneratedKeys()}, when the
+	 * {@linkplain #STATEMENT_BATCH_SIZE JDBC batch size} is greater than one.
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * Specifies a {@linkplain java.util.TimeZone time zone} that should be passed to
 	 * {@link java.sql.PreparedStatement#setTimestamp(int, java.sql.Timestamp, java.util.Calendar)}
@@ -1201,6 +1273,21 @@ public interface AvailableSettings {
 	 */
 	String QUERY_MULTI_TABLE_MUTATION_STRATEGY = "hibernate.query.mutation_strategy";
 
+	/**
+	 * When set to a positive number, a multi-table HQL or Criteria mutation
+	 * query first selects at most this many matching ids, and when they are
+	 * all the ids which match, passes them inline to the mutation statements,
+	 * instead of using the temporary table or CTE based strategy which would
+	 * otherwise be used.
+	 * <p>
+	 * By default, no such selection is performed.
+	 *
+	 * @see org.hibernate.stat.QueryStatistics#getMultiTableMutationCount
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD = "hibernate.query.mutation_strategy.inline_threshold";
+
 	/**
 	 * Defines the "global" strategy to use for handling HQL and Criteria insert queries.
 	 * Specifies a {@link org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy}.
@@ -2280,6 +2367,40 @@ public interface AvailableSettings {
 	 */
 	String LOG_SESSION_METRICS = "hibernate.session.events.log";
 
+	/**
+	 * Specifies a {@link org.hibernate.query.spi.QueryExecutionObserver} to notify about
+	 * the phases of every query execution. Accepts:
+	 * <ul>
+	 *     <li>an instance of {@code QueryExecutionObserver},
+	 *     <li>a {@link Class} implementing {@code QueryExecutionObserver},
+	 *     <li>the name of a class implementing {@code QueryExecutionObserver}, or
+	 *     <li>{@code jfr}, to report the phases as Java Flight Recorder events.
+	 * </ul>
+	 * <p>
+	 * By default, no observer is notified, unless {@link #JFR_ENABLED} is enabled.
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_EXECUTION_OBSERVER = "hibernate.query.execution_observer";
+
+	/**
+	 * When enabled, specifies that Java Flight Recorder events should be reported for
+	 * the opening, closing and flushing of sessions, the preparation and execution of
+	 * JDBC statements and batches, accesses to the second-level cache, and the lazy
+	 * initialization of proxies and collections. Query executions are then reported
+	 * too, unless another {@link #QUERY_EXECUTION_OBSERVER} is specified.
+	 * <p>
+	 * Events are only collected when they are enabled in a running recording.
+	 * By default, no events are reported.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.event.spi.EventManager
+	 *
+	 * @since 6.2
+	 */
+	String JFR_ENABLED = "hibernate.jfr.enabled";
+
 	/**
 	 * Specifies a duration in milliseconds defining the minimum query execution time that
 	 * characterizes a "slow" query. Any SQL query which takes longer than this amount of
@@ -10,7 +10,9 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -61,6 +63,12 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	private Object owner;
 	private int cachedSize = -1;
 
+	// the results of extra-lazy probes of the uninitialized collection,
+	// which remain valid until the collection is modified or flushed
+	private transient Map<Object,Boolean> elementExistenceProbes;
+	private transient Map<Object,Boolean> indexExistenceProbes;
+	private transient Map<Object,Object> elementByIndexProbes;
+
 	private String role;
 	private Object key;
 	// collections detect changes made via their public interface and mark
@@ -117,6 +125,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	@Override
 	public final void dirty() {
 		dirty = true;
+		clearProbes();
 	}
 
 	@Override
@@ -315,7 +324,14 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 							if ( hasQueuedOperations() ) {
 								session.flush();
 							}
-							return persister.indexExists( entry.getLoadedKey(), index, session );
+							final Type indexType = persister.getIndexType();
+							final Boolean cached = getProbe( indexExistenceProbes, index, indexType );
+							if ( cached != null ) {
+								return cached;
+							}
+							final boolean exists = persister.indexExists( entry.getLoadedKey(), index, session );
+							indexExistenceProbes = putProbe( indexExistenceProbes, index, exists, indexType );
+							return exists;
 						}
 						else {
 							read();
@@ -337,7 +353,14 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 							if ( hasQueuedOperations() ) {
 								session.flush();
 							}
-							return persister.elementExists( entry.getLoadedKey(), element, session );
+							final Type elementType = persister.getElementType();
+							final Boolean cached = getProbe( elementExistenceProbes, element, elementType );
+							if ( cached != null ) {
+								return cached;
+							}
+							final boolean exists = persister.elementExists( entry.getLoadedKey(), element, session );
+							elementExistenceProbes = putProbe( elementExistenceProbes, element, exists, elementType );
+							return exists;
 						}
 						else {
 							read();
@@ -349,6 +372,118 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		return null;
 	}
 
+	/**
+	 * Determine whether all the given elements belong to the collection,
+	 * without initializing it, if it is extra-lazy. The elements whose
+	 * existence is not known yet are probed using a single query.
+	 *
+	 * @return {@code null} if the collection is, or had to be, initialized
+	 */
+	protected Boolean readElementsExistence(final Collection<?> elements) {
+		if ( !initialized ) {
+			return withTemporarySessionIfNeeded(
+					() -> {
+						final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry(this);
+						final CollectionPersister persister = entry.getLoadedPersister();
+						if ( persister.isExtraLazy() ) {
+							if ( hasQueuedOperations() ) {
+								session.flush();
+							}
+							final Type elementType = persister.getElementType();
+							final List<Object> unknown = new ArrayList<>();
+							for ( Object element : elements ) {
+								final Boolean cached = getProbe( elementExistenceProbes, element, elementType );
+								if ( cached == null ) {
+									unknown.add( element );
+								}
+								else if ( !cached ) {
+									return false;
+								}
+							}
+							if ( unknown.isEmpty() ) {
+								return true;
+							}
+							final Object[] probed = unknown.toArray();
+							final boolean[] exist = persister.elementsExist( entry.getLoadedKey(), probed, session );
+							boolean allExist = true;
+							for ( int i = 0; i < probed.length; i++ ) {
+								elementExistenceProbes = putProbe( elementExistenceProbes, probed[i], exist[i], elementType );
+								allExist = allExist && exist[i];
+							}
+							return allExist;
+						}
+						else {
+							read();
+						}
+						return null;
+					}
+			);
+		}
+		return null;
+	}
+
+	// the number of probe results kept, per kind of probe
+	private static final int MAX_PROBES = 256;
+
+	/**
+	 * Values of mutable types might change after they were probed, and
+	 * entities are compared by identity, since their equality is up to
+	 * the application.
+	 */
+	private static <T> T getProbe(Map<Object,T> probes, Object value, Type type) {
+		return probes == null || value == null || type.isMutable() ? null : probes.get( value );
+	}
+
+	private static <T> Map<Object,T> putProbe(Map<Object,T> probes, Object value, T result, Type type) {
+		if ( value == null || type.isMutable() ) {
+			return probes;
+		}
+		final Map<Object,T> map;
+		if ( probes == null ) {
+			map = type.isEntityType() ? new IdentityHashMap<>() : new HashMap<>();
+		}
+		else if ( probes.size() >= MAX_PROBES ) {
+			return probes;
+		}
+		else {
+			map = probes;
+		}
+		map.put( value, result );
+		return map;
+	}
+
+	/**
+	 * An entity returned by an earlier probe might have been evicted since,
+	 * and must then be loaded again.
+	 */
+	private boolean isStillManaged(Object probed, CollectionPersister persister) {
+		if ( probed == NULL_ELEMENT || !persister.getElementType().isEntityType() ) {
+			return true;
+		}
+		else {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			return persistenceContext.isEntryFor( probed ) || persistenceContext.containsProxy( probed );
+		}
+	}
+
+	/**
+	 * Forget what is known about the rows of the uninitialized collection,
+	 * because they might have been modified behind the back of the session,
+	 * by a bulk or native mutation query, for example.
+	 */
+	public void forgetProbes() {
+		if ( !initialized ) {
+			cachedSize = -1;
+		}
+		clearProbes();
+	}
+
+	private void clearProbes() {
+		elementExistenceProbes = null;
+		indexExistenceProbes = null;
+		elementByIndexProbes = null;
+	}
+
 	@Override
 	public boolean elementExists(Object element) {
 		final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( AbstractPersistentCollection.this );
@@ -367,6 +502,8 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 
 	protected static final Object UNKNOWN = new MarkerObject( "UNKNOWN" );
 
+	private static final Object NULL_ELEMENT = new MarkerObject( "NULL_ELEMENT" );
+
 	protected Object readElementByIndex(final Object index) {
 		if ( !initialized ) {
 			class ExtraLazyElementByIndexReader implements LazyInitializationWork<Object> {
@@ -382,7 +519,23 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 						if ( hasQueuedOperations() ) {
 							session.flush();
 						}
-						element = persister.getElementByIndex( entry.getLoadedKey(), index, session, owner );
+						final Type indexType = persister.getIndexType();
+						final Object probed = getProbe( elementByIndexProbes, index, indexType );
+						if ( probed != null && isStillManaged( probed, persister ) ) {
+							element = probed;
+						}
+						else {
+							element = persister.getElementByIndex( entry.getLoadedKey(), index, session, owner );
+							elementByIndexProbes = putProbe(
+									elementByIndexProbes,
+									index,
+									element == null ? NULL_ELEMENT : element,
+									indexType
+							);
+						}
+						if ( element == NULL_ELEMENT ) {
+							element = null;
+						}
 					}
 					else {
 						read();
@@ -515,6 +668,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		operationQueue.add( operation );
 		//needed so that we remove this collection from the second-level cache
 		dirty = true;
+		clearProbes();
 	}
 
 	/**
@@ -547,6 +701,10 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		this.key = key;
 		this.role = role;
 		this.storedSnapshot = snapshot;
+		// the snapshot is set after every flush, which may
+		// have changed the rows of an uninitialized collection
+		cachedSize = -1;
+		clearProbes();
 	}
 
 	@Override
@@ -584,6 +742,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	@Override
 	public boolean afterInitialize() {
 		setInitialized();
+		clearProbes();
 		//do this bit after setting initialized to true or it will recurse
 		if ( hasQueuedOperations() ) {
 			performQueuedOperations();
@@ -655,6 +814,7 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 	@Override
 	public final boolean unsetSession(SharedSessionContractImplementor currentSession) {
 		prepareForPossibleLoadingOutsideTransaction();
+		clearProbes();
 		if ( currentSession == this.session ) {
 			if ( !isTempSession ) {
 				if ( hasQueuedOperations() ) {
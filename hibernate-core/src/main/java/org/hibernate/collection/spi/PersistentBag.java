@@ -431,8 +431,10 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean containsAll(Collection<?> c) {
-		read();
-		return bag.containsAll( c );
+		final Boolean exists = readElementsExistence( c );
+		return exists == null
+				? bag.containsAll( c )
+				: exists;
 	}
 
 	@Override
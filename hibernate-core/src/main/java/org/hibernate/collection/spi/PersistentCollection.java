@@ -268,6 +268,20 @@ public interface PersistentCollection<E> extends LazyInitializable {
 		return needsInserting( entry, entryPosition, attributeDescriptor.getCollectionDescriptor().getElementType() );
 	}
 
+	/**
+	 * The number of leading entries which are known to hold the very same
+	 * elements as the snapshot, because the collection was only modified
+	 * after them. Their rows need not be inserted or deleted, nor updated
+	 * when the elements are immutable.
+	 *
+	 * @return {@code 0} if the collection does not track where it was modified
+	 *
+	 * @since 6.2
+	 */
+	default int getUnmodifiedPrefixSize() {
+		return 0;
+	}
+
 	/**
 	 * Do we need to update this element?
 	 *
@@ -36,6 +36,11 @@ import org.hibernate.type.Type;
 public class PersistentList<E> extends AbstractPersistentCollection<E> implements List<E> {
 	protected List<E> list;
 
+	// the number of leading elements which are known to be the very same
+	// instances as in the snapshot, since the list was only modified after
+	// them, used to avoid comparing them to the snapshot when updating rows
+	private transient int unmodifiedPrefix;
+
 	/**
 	 * Constructs a PersistentList.  This form needed for SOAP libraries, etc
 	 */
@@ -83,6 +88,29 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		return getOrphans( (List<E>) snapshot, list, entityName, getSession() );
 	}
 
+	@Override
+	public void setSnapshot(Object key, String role, Serializable snapshot) {
+		super.setSnapshot( key, role, snapshot );
+		if ( !isDirty() ) {
+			// the list has not been modified since the snapshot was taken
+			unmodifiedPrefix = Integer.MAX_VALUE;
+		}
+	}
+
+	@Override
+	public int getUnmodifiedPrefixSize() {
+		return unmodifiedPrefix;
+	}
+
+	/**
+	 * Record a modification of the list at the given index or after it.
+	 */
+	private void modifiedAt(int index) {
+		if ( index < unmodifiedPrefix ) {
+			unmodifiedPrefix = index;
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void initializeEmptyCollection(CollectionPersister persister) {
@@ -169,7 +197,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	@Override
 	public Iterator<E> iterator() {
 		read();
-		return new IteratorProxy<>( list.iterator() );
+		return new IteratorProxy<>( new ModificationTrackingListIterator( list.listIterator() ) );
 	}
 
 	@Override
@@ -188,6 +216,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	public boolean add(E object) {
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			modifiedAt( list.size() );
 			return list.add( object );
 		}
 		else {
@@ -201,7 +230,10 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		final Boolean exists = isPutQueueEnabled() ? readElementExistence( value ) : null;
 		if ( exists == null ) {
 			initialize( true );
-			if ( list.remove( value ) ) {
+			final int index = list.indexOf( value );
+			if ( index >= 0 ) {
+				modifiedAt( index );
+				list.remove( index );
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -243,8 +275,10 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 	@Override
 	public boolean containsAll(Collection<?> coll) {
-		read();
-		return list.containsAll( coll );
+		final Boolean exists = readElementsExistence( coll );
+		return exists == null
+				? list.containsAll( coll )
+				: exists;
 	}
 
 	@Override
@@ -254,6 +288,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		}
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			modifiedAt( list.size() );
 			return list.addAll( values );
 		}
 		else {
@@ -268,6 +303,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	public boolean addAll(int index, Collection<? extends E> coll) {
 		if ( coll.size() > 0 ) {
 			write();
+			modifiedAt( index );
 			return list.addAll( index, coll );
 		}
 		else {
@@ -279,6 +315,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	public boolean removeAll(Collection<?> coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			modifiedAt( 0 );
 			if ( list.removeAll( coll ) ) {
 				elementRemoved = true;
 				dirty();
@@ -296,6 +333,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	@Override
 	public boolean retainAll(Collection<?> coll) {
 		initialize( true );
+		modifiedAt( 0 );
 		if ( list.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -313,6 +351,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		else {
 			initialize( true );
 			if ( ! list.isEmpty() ) {
+				modifiedAt( 0 );
 				list.clear();
 				dirty();
 			}
@@ -338,6 +377,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		if ( old==UNKNOWN ) {
 			write();
+			modifiedAt( index );
 			return list.set( index, value );
 		}
 		else {
@@ -356,6 +396,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		if ( old == UNKNOWN ) {
 			write();
 			dirty();
+			modifiedAt( index );
 			return list.remove( index );
 		}
 		else {
@@ -370,6 +411,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 			throw new ArrayIndexOutOfBoundsException( "negative index" );
 		}
 		write();
+		modifiedAt( index );
 		list.add( index, value );
 	}
 
@@ -388,18 +430,20 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	@Override
 	public ListIterator<E> listIterator() {
 		read();
-		return new ListIteratorProxy( list.listIterator() );
+		return new ListIteratorProxy( new ModificationTrackingListIterator( list.listIterator() ) );
 	}
 
 	@Override
 	public ListIterator<E> listIterator(int index) {
 		read();
-		return new ListIteratorProxy( list.listIterator( index ) );
+		return new ListIteratorProxy( new ModificationTrackingListIterator( list.listIterator( index ) ) );
 	}
 
 	@Override
 	public List<E> subList(int from, int to) {
 		read();
+		// we can't tell if, or where, the view is modified
+		modifiedAt( from );
 		return new ListProxy( list.subList( from, to ) );
 	}
 
@@ -443,7 +487,8 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 		else {
 			end = sn.size();
 		}
-		for ( int i=0; i<end; i++ ) {
+		// an element can only have been replaced by null after the unmodified prefix
+		for ( int i=Math.min( unmodifiedPrefix, end ); i<end; i++ ) {
 			final Object item = list.get( i );
 			final Object snapshotItem = sn.get( i );
 			if ( item == null && snapshotItem != null ) {
@@ -455,12 +500,20 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
+		if ( i < unmodifiedPrefix ) {
+			// the row of the element exists already
+			return false;
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		return list.get( i ) != null && ( i >= sn.size() || sn.get( i ) == null );
 	}
 
 	@Override
 	public boolean needsUpdating(Object entry, int i, Type elemType) throws HibernateException {
+		if ( i < unmodifiedPrefix && !elemType.isMutable() ) {
+			// the element is the very instance which is in the snapshot
+			return false;
+		}
 		final List<?> sn = (List<?>) getSnapshot();
 		return i < sn.size()
 				&& sn.get( i ) != null
@@ -505,6 +558,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 	final class Clear implements DelayedOperation<E> {
 		@Override
 		public void operate() {
+			modifiedAt( 0 );
 			list.clear();
 		}
 
@@ -527,6 +581,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		@Override
 		public void operate() {
+			modifiedAt( list.size() );
 			list.add( getAddedInstance() );
 		}
 	}
@@ -552,6 +607,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		@Override
 		public void operate() {
+			modifiedAt( getIndex() );
 			list.add( getIndex(), getAddedInstance() );
 		}
 	}
@@ -564,6 +620,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		@Override
 		public void operate() {
+			modifiedAt( getIndex() );
 			list.set( getIndex(), getAddedInstance() );
 		}
 	}
@@ -576,6 +633,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		@Override
 		public void operate() {
+			modifiedAt( getIndex() );
 			list.remove( getIndex() );
 		}
 	}
@@ -588,7 +646,73 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		@Override
 		public void operate() {
+			modifiedAt( 0 );
 			list.remove( getOrphan() );
 		}
 	}
+
+	/**
+	 * Records modifications made through an iterator of the list.
+	 */
+	private final class ModificationTrackingListIterator implements ListIterator<E> {
+		private final ListIterator<E> itr;
+
+		private ModificationTrackingListIterator(ListIterator<E> itr) {
+			this.itr = itr;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return itr.hasNext();
+		}
+
+		@Override
+		public E next() {
+			return itr.next();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return itr.hasPrevious();
+		}
+
+		@Override
+		public E previous() {
+			return itr.previous();
+		}
+
+		@Override
+		public int nextIndex() {
+			return itr.nextIndex();
+		}
+
+		@Override
+		public int previousIndex() {
+			return itr.previousIndex();
+		}
+
+		@Override
+		public void remove() {
+			modified();
+			itr.remove();
+		}
+
+		@Override
+		public void set(E element) {
+			modified();
+			itr.set( element );
+		}
+
+		@Override
+		public void add(E element) {
+			modified();
+			itr.add( element );
+		}
+
+		private void modified() {
+			// the last element returned is at the previous index,
+			// or, after a call to previous(), at the next index
+			modifiedAt( Math.max( 0, itr.previousIndex() ) );
+		}
+	}
 }
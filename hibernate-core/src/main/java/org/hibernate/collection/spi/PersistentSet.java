@@ -249,8 +249,10 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 
 	@Override
 	public boolean containsAll(Collection<?> coll) {
-		read();
-		return set.containsAll( coll );
+		final Boolean exists = readElementsExistence( coll );
+		return exists == null
+				? set.containsAll( coll )
+				: exists;
 	}
 
 	@Override
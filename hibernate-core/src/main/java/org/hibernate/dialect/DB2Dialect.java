@@ -937,6 +937,16 @@ public class DB2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsUpdateReturning() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsDeleteReturning() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsValuesList() {
 		return true;
@@ -3784,6 +3784,20 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * JDBC parameters of a single statement, for example, of a multi-row
+	 * insert. If the database defines no such limit, simply return zero or
+	 * a number smaller than zero.
+	 *
+	 * @return The limit, or a non-positive integer to indicate no limit.
+	 *
+	 * @since 6.2
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
@@ -3964,6 +3978,53 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 	public boolean supportsInsertReturningGeneratedKeys() {
 		return false;
 	}
+
+	/**
+	 * Does the JDBC driver return the generated identity values of every row
+	 * inserted by a JDBC batch from {@link java.sql.Statement#getGeneratedKeys()},
+	 * in the order in which the inserts were added to the batch?
+	 *
+	 * @return {@code true} if inserts of entities with an identity column may be
+	 *         executed as JDBC batches
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsBatchedGeneratedKeys() {
+		return false;
+	}
+
+	/**
+	 * Does this dialect support returning the values of columns of the
+	 * updated rows from an {@code update} statement, using native SQL
+	 * syntax, for example, {@code update ... returning ...} or
+	 * {@code select ... from final table (update ...)}?
+	 *
+	 * @return {@code true} if the {@code returning} clause of an HQL
+	 *         {@code update} statement may be used with this dialect
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsUpdateReturning() {
+		return false;
+	}
+
+	/**
+	 * Does this dialect support returning the values of columns of the
+	 * deleted rows from a {@code delete} statement, using native SQL
+	 * syntax, for example, {@code delete ... returning ...} or
+	 * {@code select ... from old table (delete ...)}?
+	 *
+	 * @return {@code true} if the {@code returning} clause of an HQL
+	 *         {@code delete} statement may be used with this dialect
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsDeleteReturning() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the given {@code FETCH} clause type.
 	 *
@@ -800,6 +800,21 @@ public class H2Dialect extends Dialect {
 		return getVersion().isSameOrAfter( 2 );
 	}
 
+	@Override
+	public boolean supportsUpdateReturning() {
+		return getVersion().isSameOrAfter( 2 );
+	}
+
+	@Override
+	public boolean supportsDeleteReturning() {
+		return getVersion().isSameOrAfter( 2 );
+	}
+
+	@Override
+	public boolean supportsBatchedGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public int registerResultSetOutParameter(CallableStatement statement, int position) throws SQLException {
 		return position;
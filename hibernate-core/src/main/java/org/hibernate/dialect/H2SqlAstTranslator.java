@@ -16,8 +16,10 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.cte.CteContainer;
 import org.hibernate.sql.ast.tree.cte.CteTableGroup;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.BinaryArithmeticExpression;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.expression.Expression;
@@ -28,14 +30,17 @@ import org.hibernate.sql.ast.tree.expression.Summarization;
 import org.hibernate.sql.ast.tree.from.QueryPartTableReference;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
+import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
 import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.LikePredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.SelectClause;
+import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
 import org.hibernate.sql.model.internal.TableInsertStandard;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.internal.util.collections.CollectionHelper.isNotEmpty;
 
 /**
@@ -85,7 +90,55 @@ public class H2SqlAstTranslator<T extends JdbcOperation> extends SqlAstTranslato
 
 	@Override
 	protected void visitReturningColumns(List<ColumnReference> returningColumns) {
-		// do nothing - this is handled via `#visitReturningInsertStatement`
+		// do nothing - this is handled via `#visitReturningInsertStatement` and `#renderReturningClause`
+	}
+
+	@Override
+	protected void visitDeleteStatementOnly(DeleteStatement statement) {
+		final boolean closeWrapper = renderReturningClause( statement );
+		super.visitDeleteStatementOnly( statement );
+		if ( closeWrapper ) {
+			appendSql( ')' );
+		}
+	}
+
+	@Override
+	protected void visitUpdateStatementOnly(UpdateStatement statement) {
+		final boolean closeWrapper = renderReturningClause( statement );
+		super.visitUpdateStatementOnly( statement );
+		if ( closeWrapper ) {
+			appendSql( ')' );
+		}
+	}
+
+	@Override
+	protected void visitInsertStatementOnly(InsertSelectStatement statement) {
+		final boolean closeWrapper = renderReturningClause( statement );
+		super.visitInsertStatementOnly( statement );
+		if ( closeWrapper ) {
+			appendSql( ')' );
+		}
+	}
+
+	protected boolean renderReturningClause(MutationStatement statement) {
+		final List<ColumnReference> returningColumns = statement.getReturningColumns();
+		if ( isEmpty( returningColumns ) ) {
+			return false;
+		}
+		appendSql( "select " );
+		for ( int i = 0; i < returningColumns.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			appendSql( returningColumns.get( i ).getColumnExpression() );
+		}
+		if ( statement instanceof DeleteStatement ) {
+			appendSql( " from old table (" );
+		}
+		else {
+			appendSql( " from final table (" );
+		}
+		return true;
 	}
 
 	@Override
@@ -19,12 +19,15 @@ import org.hibernate.engine.jdbc.env.spi.IdentifierCaseStrategy;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelperBuilder;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.tool.schema.extract.internal.SequenceInformationExtractorMariaDBDatabaseImpl;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
 import org.hibernate.type.StandardBasicTypes;
@@ -244,6 +247,11 @@ public class MariaDBDialect extends MySQLDialect {
 		return getVersion().isSameOrAfter( 10, 5 );
 	}
 
+	@Override
+	public boolean supportsDeleteReturning() {
+		return getVersion().isSameOrAfter( 10, 0, 5 );
+	}
+
 	@Override
 	public IdentifierHelper buildIdentifierHelper(IdentifierHelperBuilder builder, DatabaseMetaData dbMetaData)
 			throws SQLException {
@@ -254,4 +262,17 @@ public class MariaDBDialect extends MySQLDialect {
 
 		return super.buildIdentifierHelper( builder, dbMetaData );
 	}
+
+	@Override
+	public MutationOperation createOptionalTableUpdateOperation(
+			EntityMutationTarget mutationTarget,
+			OptionalTableUpdate optionalTableUpdate,
+			SessionFactoryImplementor factory) {
+		if ( optionalTableUpdate.getMutatingTable().getTableMapping().isOptional() ) {
+			// "on duplicate key update" cannot delete the row of an optional table
+			return super.createOptionalTableUpdateOperation( mutationTarget, optionalTableUpdate, factory );
+		}
+		final MariaDBSqlAstTranslator<JdbcOperation> translator = new MariaDBSqlAstTranslator<>( factory, optionalTableUpdate );
+		return translator.createUpsertOperation( optionalTableUpdate );
+	}
 }
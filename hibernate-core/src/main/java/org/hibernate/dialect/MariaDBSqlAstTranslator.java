@@ -8,7 +8,6 @@ package org.hibernate.dialect;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.sqm.ComparisonOperator;
-import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.ast.tree.expression.CastTarget;
 import org.hibernate.sql.ast.tree.expression.Expression;
@@ -21,13 +20,14 @@ import org.hibernate.sql.ast.tree.select.QueryGroup;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 
 /**
  * A SQL AST translator for MariaDB.
  *
  * @author Christian Beikov
  */
-public class MariaDBSqlAstTranslator<T extends JdbcOperation> extends AbstractSqlAstTranslator<T> {
+public class MariaDBSqlAstTranslator<T extends JdbcOperation> extends SqlAstTranslatorWithUpsert<T> {
 
 	private final MariaDBDialect dialect;
 
@@ -245,4 +245,9 @@ public class MariaDBSqlAstTranslator<T extends JdbcOperation> extends AbstractSq
 		}
 	}
 
+	@Override
+	protected void renderUpsertConflictClause(OptionalTableUpdate optionalTableUpdate) {
+		// MariaDB does not support row aliases
+		MySQLSqlAstTranslator.renderOnDuplicateKeyUpdate( this, optionalTableUpdate, null );
+	}
 }
@@ -47,6 +47,7 @@ import org.hibernate.exception.spi.ViolatedConstraintNameExtractor;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.query.sqm.CastType;
 import org.hibernate.query.sqm.IntervalType;
 import org.hibernate.query.sqm.NullOrdering;
@@ -66,6 +67,8 @@ import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.type.BasicTypeRegistry;
 import org.hibernate.type.NullType;
 import org.hibernate.type.SqlTypes;
@@ -1105,6 +1108,11 @@ public class MySQLDialect extends Dialect {
 		return 64;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return 65_535;
+	}
+
 	@Override
 	public boolean supportsCurrentTimestampSelection() {
 		return true;
@@ -1209,6 +1217,11 @@ public class MySQLDialect extends Dialect {
 		return new MySQLIdentityColumnSupport();
 	}
 
+	@Override
+	public boolean supportsBatchedGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean isJdbcLogWarningsEnabledByDefault() {
 		return false;
@@ -1479,4 +1492,17 @@ public class MySQLDialect extends Dialect {
 	public String getEnableConstraintsStatement() {
 		return "set foreign_key_checks = 1";
 	}
+
+	@Override
+	public MutationOperation createOptionalTableUpdateOperation(
+			EntityMutationTarget mutationTarget,
+			OptionalTableUpdate optionalTableUpdate,
+			SessionFactoryImplementor factory) {
+		if ( optionalTableUpdate.getMutatingTable().getTableMapping().isOptional() ) {
+			// "on duplicate key update" cannot delete the row of an optional table
+			return super.createOptionalTableUpdateOperation( mutationTarget, optionalTableUpdate, factory );
+		}
+		final MySQLSqlAstTranslator<JdbcOperation> translator = new MySQLSqlAstTranslator<>( factory, optionalTableUpdate );
+		return translator.createUpsertOperation( optionalTableUpdate );
+	}
 }
@@ -6,12 +6,13 @@
  */
 package org.hibernate.dialect;
 
+import java.util.List;
 import java.util.Locale;
 
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.sqm.ComparisonOperator;
-import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.ast.tree.expression.CastTarget;
 import org.hibernate.sql.ast.tree.expression.Expression;
@@ -25,13 +26,15 @@ import org.hibernate.sql.ast.tree.select.QueryGroup;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 
 /**
  * A SQL AST translator for MySQL.
  *
  * @author Christian Beikov
  */
-public class MySQLSqlAstTranslator<T extends JdbcOperation> extends AbstractSqlAstTranslator<T> {
+public class MySQLSqlAstTranslator<T extends JdbcOperation> extends SqlAstTranslatorWithUpsert<T> {
 
 	public MySQLSqlAstTranslator(SessionFactoryImplementor sessionFactory, Statement statement) {
 		super( sessionFactory, statement );
@@ -294,4 +297,60 @@ public class MySQLSqlAstTranslator<T extends JdbcOperation> extends AbstractSqlA
 			super.visitCastTarget( castTarget );
 		}
 	}
+
+	@Override
+	protected void renderUpsertConflictClause(OptionalTableUpdate optionalTableUpdate) {
+		// the values() function is deprecated since 8.0.20, in favor of a row alias
+		renderOnDuplicateKeyUpdate(
+				this,
+				optionalTableUpdate,
+				getDialect().getVersion().isSameOrAfter( 8, 0, 19 ) ? "new" : null
+		);
+	}
+
+	/**
+	 * Render the {@code on duplicate key update} clause of an upsert, which
+	 * assigns the values of the inserted row to the existing row, referring
+	 * to the inserted row by the given row alias, or through the
+	 * {@code values()} function if there is no alias.
+	 */
+	public static void renderOnDuplicateKeyUpdate(
+			SqlAppender appender,
+			OptionalTableUpdate optionalTableUpdate,
+			String rowAlias) {
+		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
+
+		if ( rowAlias != null ) {
+			appender.appendSql( " as " );
+			appender.appendSql( rowAlias );
+		}
+		appender.appendSql( " on duplicate key update " );
+		if ( valueBindings.isEmpty() ) {
+			// there is no "do nothing", so assign the key to itself
+			final String keyColumn = optionalTableUpdate.getKeyBindings().get( 0 ).getColumnReference().getColumnExpression();
+			appender.appendSql( keyColumn );
+			appender.appendSql( "=" );
+			appender.appendSql( keyColumn );
+		}
+		else {
+			for ( int i = 0; i < valueBindings.size(); i++ ) {
+				if ( i > 0 ) {
+					appender.appendSql( ", " );
+				}
+				final String columnExpression = valueBindings.get( i ).getColumnReference().getColumnExpression();
+				appender.appendSql( columnExpression );
+				if ( rowAlias != null ) {
+					appender.appendSql( "=" );
+					appender.appendSql( rowAlias );
+					appender.appendSql( "." );
+					appender.appendSql( columnExpression );
+				}
+				else {
+					appender.appendSql( "=values(" );
+					appender.appendSql( columnExpression );
+					appender.appendSql( ")" );
+				}
+			}
+		}
+	}
 }
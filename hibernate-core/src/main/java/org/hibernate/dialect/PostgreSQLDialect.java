@@ -51,6 +51,7 @@ import org.hibernate.exception.spi.ViolatedConstraintNameExtractor;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.procedure.internal.PostgreSQLCallableStatementSupport;
 import org.hibernate.procedure.spi.CallableStatementSupport;
 import org.hibernate.query.SemanticException;
@@ -68,6 +69,8 @@ import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.type.JavaObjectType;
 import org.hibernate.type.descriptor.java.PrimitiveByteArrayJavaType;
 import org.hibernate.type.descriptor.jdbc.AggregateJdbcType;
@@ -1004,6 +1007,11 @@ public class PostgreSQLDialect extends Dialect {
 		return 63;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return 32_767;
+	}
+
 	@Override
 	public boolean supportsStandardArrays() {
 		return true;
@@ -1243,6 +1251,21 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsUpdateReturning() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsDeleteReturning() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsBatchedGeneratedKeys() {
+		return true;
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return true;
@@ -1385,4 +1408,17 @@ public class PostgreSQLDialect extends Dialect {
 //	public String getEnableConstraintStatement(String tableName, String name) {
 //		return "alter table " + tableName + " alter constraint " + name + " deferrable";
 //	}
+
+	@Override
+	public MutationOperation createOptionalTableUpdateOperation(
+			EntityMutationTarget mutationTarget,
+			OptionalTableUpdate optionalTableUpdate,
+			SessionFactoryImplementor factory) {
+		if ( optionalTableUpdate.getMutatingTable().getTableMapping().isOptional() ) {
+			// "on conflict do update" cannot delete the row of an optional table
+			return super.createOptionalTableUpdateOperation( mutationTarget, optionalTableUpdate, factory );
+		}
+		final PostgreSQLSqlAstTranslator<JdbcOperation> translator = new PostgreSQLSqlAstTranslator<>( factory, optionalTableUpdate );
+		return translator.createUpsertOperation( optionalTableUpdate );
+	}
 }
@@ -6,11 +6,12 @@
  */
 package org.hibernate.dialect;
 
+import java.util.List;
+
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.query.sqm.FetchClauseType;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.ast.tree.cte.CteMaterialization;
 import org.hibernate.sql.ast.tree.cte.CteStatement;
@@ -25,6 +26,8 @@ import org.hibernate.sql.ast.tree.select.QueryGroup;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableInsertStandard;
 import org.hibernate.type.SqlTypes;
 
@@ -33,7 +36,7 @@ import org.hibernate.type.SqlTypes;
  *
  * @author Christian Beikov
  */
-public class PostgreSQLSqlAstTranslator<T extends JdbcOperation> extends AbstractSqlAstTranslator<T> {
+public class PostgreSQLSqlAstTranslator<T extends JdbcOperation> extends SqlAstTranslatorWithUpsert<T> {
 
 	public PostgreSQLSqlAstTranslator(SessionFactoryImplementor sessionFactory, Statement statement) {
 		super( sessionFactory, statement );
@@ -281,4 +284,34 @@ public class PostgreSQLSqlAstTranslator<T extends JdbcOperation> extends Abstrac
 		appendSql( CLOSE_PARENTHESIS );
 	}
 
+	@Override
+	protected void renderUpsertConflictClause(OptionalTableUpdate optionalTableUpdate) {
+		final List<ColumnValueBinding> keyBindings = optionalTableUpdate.getKeyBindings();
+		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
+
+		appendSql( " on conflict (" );
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			appendSql( keyBindings.get( i ).getColumnReference().getColumnExpression() );
+		}
+		appendSql( ")" );
+
+		if ( valueBindings.isEmpty() ) {
+			appendSql( " do nothing" );
+		}
+		else {
+			appendSql( " do update set " );
+			for ( int i = 0; i < valueBindings.size(); i++ ) {
+				if ( i > 0 ) {
+					appendSql( ", " );
+				}
+				final String columnExpression = valueBindings.get( i ).getColumnReference().getColumnExpression();
+				appendSql( columnExpression );
+				appendSql( "=excluded." );
+				appendSql( columnExpression );
+			}
+		}
+	}
 }
@@ -49,7 +49,7 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 		// on t.[key] = s.[key]
 		// when not matched
 		// 		then insert ...
-		// when matched
+		// when matched (only for optional tables)
 		//		and s.[columns] is null
 		//		then delete
 		// when matched
@@ -63,8 +63,11 @@ public abstract class SqlAstTranslatorWithMerge<T extends JdbcOperation> extends
 		appendSql( " " );
 		renderMergeInsert( optionalTableUpdate );
 		appendSql( " " );
-		renderMergeDelete( optionalTableUpdate );
-		appendSql( " " );
+		if ( optionalTableUpdate.getMutatingTable().getTableMapping().isOptional() ) {
+			// the row of an optional table is removed when all its values are null
+			renderMergeDelete( optionalTableUpdate );
+			appendSql( " " );
+		}
 		renderMergeUpdate( optionalTableUpdate );
 	}
 
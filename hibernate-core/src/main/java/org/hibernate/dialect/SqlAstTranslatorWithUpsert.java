@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.dialect;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.spi.AbstractSqlAstTranslator;
+import org.hibernate.sql.ast.tree.Statement;
+import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
+import org.hibernate.sql.model.jdbc.MergeOperation;
+
+/**
+ * Base SqlAstTranslator for translators which support an insert statement
+ * which updates the existing row in case of a conflicting key, for example
+ * {@code insert ... on conflict do update}.
+ * <p>
+ * Unlike a full MERGE statement, such an "upsert" cannot delete the row, so
+ * it is only used for {@linkplain org.hibernate.sql.model.TableMapping#isOptional()
+ * mandatory} tables.
+ */
+public abstract class SqlAstTranslatorWithUpsert<T extends JdbcOperation> extends AbstractSqlAstTranslator<T> {
+	public SqlAstTranslatorWithUpsert(SessionFactoryImplementor sessionFactory, Statement statement) {
+		super( sessionFactory, statement );
+	}
+
+	/**
+	 * Create the MutationOperation for performing the upsert
+	 */
+	public MutationOperation createUpsertOperation(OptionalTableUpdate optionalTableUpdate) {
+		assert !optionalTableUpdate.getMutatingTable().getTableMapping().isOptional();
+
+		renderUpsertStatement( optionalTableUpdate );
+
+		return new MergeOperation(
+				optionalTableUpdate.getMutatingTable().getTableMapping(),
+				optionalTableUpdate.getMutationTarget(),
+				getSql(),
+				getParameterBinders()
+		);
+	}
+
+	protected void renderUpsertStatement(OptionalTableUpdate optionalTableUpdate) {
+		// template:
+		//
+		// insert into [table] ([key-columns], [columns])
+		// values ([key-bindings], [bindings])
+		// [conflict-clause]
+
+		final List<ColumnValueBinding> keyBindings = optionalTableUpdate.getKeyBindings();
+		final List<ColumnValueBinding> valueBindings = optionalTableUpdate.getValueBindings();
+
+		appendSql( "insert into " );
+		appendSql( optionalTableUpdate.getMutatingTable().getTableName() );
+		appendSql( " (" );
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			appendSql( keyBindings.get( i ).getColumnReference().getColumnExpression() );
+		}
+		for ( int i = 0; i < valueBindings.size(); i++ ) {
+			appendSql( ", " );
+			appendSql( valueBindings.get( i ).getColumnReference().getColumnExpression() );
+		}
+
+		appendSql( ") values (" );
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				appendSql( ", " );
+			}
+			keyBindings.get( i ).getValueExpression().accept( this );
+		}
+		for ( int i = 0; i < valueBindings.size(); i++ ) {
+			appendSql( ", " );
+			valueBindings.get( i ).getValueExpression().accept( this );
+		}
+		appendSql( ")" );
+
+		renderUpsertConflictClause( optionalTableUpdate );
+	}
+
+	/**
+	 * Render the clause which turns the insert into an update of the
+	 * existing row with the same key
+	 */
+	protected abstract void renderUpsertConflictClause(OptionalTableUpdate optionalTableUpdate);
+}
@@ -9,6 +9,8 @@ package org.hibernate.engine.internal;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 
 /**
  * @author Steve Ebersole
@@ -24,12 +26,15 @@ public final class CacheHelper {
 			Object cacheKey,
 			CachedDomainDataAccess cacheAccess) {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
 		Object cachedValue = null;
 		eventListenerManager.cacheGetStart();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
 		finally {
+			eventManager.completeCacheGetEvent( cacheGetEvent, session, cacheAccess.getRegion(), cachedValue != null );
 			eventListenerManager.cacheGetEnd( cachedValue != null );
 		}
 		return cachedValue;
@@ -17,6 +17,7 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -26,6 +27,7 @@ import java.lang.reflect.Method;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptableOrNull;
@@ -58,6 +60,10 @@ public class EntityEntryContext {
 
 	private transient IdentityHashMap<Object,ManagedEntity> nonEnhancedEntityXref;
 
+	// the number of managed entities per persister, so that the types of
+	// the managed entities can be inspected without visiting each entity
+	private transient IdentityHashMap<EntityPersister,int[]> countsByPersister;
+
 	@SuppressWarnings("unchecked")
 	private transient Map.Entry<Object,EntityEntry>[] reentrantSafeEntries = new Map.Entry[0];
 	private transient boolean dirty;
@@ -126,14 +132,22 @@ public class EntityEntryContext {
 			}
 		}
 
+		final EntityEntry previousEntityEntry = alreadyAssociated ? managedEntity.$$_hibernate_getEntityEntry() : null;
+
 		// associate the EntityEntry with the entity
 		managedEntity.$$_hibernate_setEntityEntry( entityEntry );
 
 		if ( alreadyAssociated ) {
 			// if the entity was already associated with the context, skip the linking step.
+			if ( previousEntityEntry != null && previousEntityEntry.getPersister() != entityEntry.getPersister() ) {
+				decrementCount( previousEntityEntry.getPersister() );
+				incrementCount( entityEntry.getPersister() );
+			}
 			return;
 		}
 
+		incrementCount( entityEntry.getPersister() );
+
 		// TODO: can dirty be set to true here?
 
 		// finally, set up linking and count
@@ -304,9 +318,56 @@ public class EntityEntryContext {
 		// finally clean out the ManagedEntity and return the associated EntityEntry
 		final EntityEntry theEntityEntry = managedEntity.$$_hibernate_getEntityEntry();
 		managedEntity.$$_hibernate_setEntityEntry( null );
+		if ( theEntityEntry != null ) {
+			decrementCount( theEntityEntry.getPersister() );
+		}
 		return theEntityEntry;
 	}
 
+	private void incrementCount(EntityPersister persister) {
+		if ( countsByPersister == null ) {
+			countsByPersister = new IdentityHashMap<>();
+		}
+		final int[] counter = countsByPersister.get( persister );
+		if ( counter == null ) {
+			countsByPersister.put( persister, new int[] { 1 } );
+		}
+		else {
+			counter[0]++;
+		}
+	}
+
+	private void decrementCount(EntityPersister persister) {
+		if ( countsByPersister != null ) {
+			final int[] counter = countsByPersister.get( persister );
+			if ( counter != null && --counter[0] == 0 ) {
+				countsByPersister.remove( persister );
+			}
+		}
+	}
+
+	/**
+	 * Determine whether this context contains an entity of a type accepted by
+	 * the given predicate. Each type of managed entity is only tested once,
+	 * no matter how many entities of that type this context contains.
+	 *
+	 * @param persisterPredicate A predicate testing the persister of a type of
+	 * managed entity
+	 *
+	 * @return {@code true} if the predicate accepts the persister of at least
+	 * one managed entity
+	 */
+	public boolean containsEntityOfType(Predicate<EntityPersister> persisterPredicate) {
+		if ( countsByPersister != null ) {
+			for ( EntityPersister persister : countsByPersister.keySet() ) {
+				if ( persisterPredicate.test( persister ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * The main bugaboo with IdentityMap that warranted this class in the first place.
 	 *
@@ -381,6 +442,10 @@ public class EntityEntryContext {
 			nonEnhancedEntityXref.clear();
 		}
 
+		if ( countsByPersister != null ) {
+			countsByPersister.clear();
+		}
+
 		head = null;
 		tail = null;
 		count = 0;
@@ -499,6 +564,9 @@ public class EntityEntryContext {
 				context.nonEnhancedEntityXref.put( entity, managedEntity );
 			}
 			managedEntity.$$_hibernate_setEntityEntry( entry );
+			if ( entry != null ) {
+				context.incrementCount( entry.getPersister() );
+			}
 
 			if ( previous == null ) {
 				context.head = managedEntity;
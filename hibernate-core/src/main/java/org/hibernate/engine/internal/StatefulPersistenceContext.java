@@ -23,6 +23,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
@@ -425,6 +426,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
+			fetchQueue.removeBatchLoadableLazyEntity( key );
 			fetchQueue.removeSubselect( key );
 		}
 		return entity;
@@ -1085,6 +1087,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.getNumberOfManagedEntities();
 	}
 
+	@Override
+	public boolean containsEntityOfType(Predicate<EntityPersister> persisterPredicate) {
+		return entityEntryContext.containsEntityOfType( persisterPredicate );
+	}
+
 //	@Override
 //	public Map getEntityEntries() {
 //		return null;
@@ -23,7 +23,10 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_DEBUG_ENABLED;
@@ -259,8 +262,10 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		final JdbcSessionContext context = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
 		//noinspection deprecation
-		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final JdbcObserver observer = context.getObserver();
+		final EventManager eventManager = context.getEventManager();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
@@ -270,9 +275,10 @@ public class BatchImpl implements Batch {
 					return;
 				}
 
+				final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
+				int[] rowCounts = null;
 				try {
 					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
 						try {
 							observer.jdbcExecuteBatchStart();
 							rowCounts = statement.executeBatch();
@@ -283,7 +289,7 @@ public class BatchImpl implements Batch {
 						checkRowCounts( rowCounts, statementDetails );
 					}
 					else {
-						statement.executeBatch();
+						rowCounts = statement.executeBatch();
 					}
 				}
 				catch (SQLException e) {
@@ -296,6 +302,9 @@ public class BatchImpl implements Batch {
 					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
 					throw re;
 				}
+				finally {
+					eventManager.completeJdbcBatchExecutionEvent( executionEvent, getKey(), sql, rowCounts );
+				}
 			} );
 		}
 		finally {
@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A {@link ConnectionProvider} which, in addition to the connections to the
+ * primary database obtained from {@link #getConnection()}, provides connections
+ * to read replicas of the database.
+ * <p>
+ * A session acquires a connection to a read replica when it is
+ * {@linkplain org.hibernate.Session#setDefaultReadOnly(boolean) read-only}, or
+ * when it executes a {@linkplain org.hibernate.query.SelectionQuery#setReadOnly(boolean)
+ * read-only query}, unless the query locks rows, or the session modified data
+ * less than {@linkplain #getReplicationLag() the replication lag} ago, so that
+ * it sees its own modifications.
+ * <p>
+ * Statements modifying data, and locking reads, are always executed against the
+ * primary database. When such a statement is executed while the session holds a
+ * connection to a read replica, this connection is released first, and any
+ * transaction begun on it is rolled back, and begun again on a connection to the
+ * primary database.
+ * <p>
+ * Likewise, a query which is not read-only, executed by a session which is not
+ * read-only, releases a connection to a read replica acquired by a previous
+ * read-only query, whatever the
+ * {@linkplain org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode
+ * connection handling mode}. However, since a session holds a connection as
+ * specified by this mode, a read-only query is only routed to a read replica
+ * after other statements when connections are released between statements, as
+ * with {@link org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode#DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE}.
+ */
+public interface RoutingConnectionProvider extends ConnectionProvider {
+	/**
+	 * Obtains a connection to a read replica of the database.
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise obtaining a connection.
+	 */
+	Connection getReplicaConnection() throws SQLException;
+
+	/**
+	 * Release a connection obtained from {@link #getReplicaConnection()}.
+	 *
+	 * @param conn The JDBC connection to release
+	 *
+	 * @throws SQLException Indicates a problem closing the connection
+	 * @throws org.hibernate.HibernateException Indicates a problem otherwise releasing a connection.
+	 */
+	void closeReplicaConnection(Connection conn) throws SQLException;
+
+	/**
+	 * The maximum time, in milliseconds, after which a modification committed
+	 * to the primary database is visible on the read replicas. For that long
+	 * after it last modified data, a session reads from the primary database.
+	 *
+	 * @return The replication lag, or a negative value if a session which
+	 *         modified data must never read from a replica again
+	 */
+	default long getReplicationLag() {
+		return -1;
+	}
+}
@@ -20,17 +20,20 @@ import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.JdbcWrapper;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.RoutingJdbcConnectionAccess;
 import org.hibernate.jdbc.WorkExecutor;
 import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
@@ -42,6 +45,7 @@ import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
 
 import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
+import static org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE;
 
 /**
  * Standard implementation of {@link JdbcCoordinator}.
@@ -57,6 +61,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcSessionOwner owner;
 
 	private transient final JdbcServices jdbcServices;
+	private transient final PreparedStatementCache preparedStatementCache;
 
 	private transient Batch currentBatch;
 
@@ -81,8 +86,14 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		final PreparedStatementCacheManager preparedStatementCacheManager =
+				owner.getJdbcSessionContext().getPreparedStatementCacheManager();
+		this.preparedStatementCache = preparedStatementCacheManager == null
+				? null
+				: new PreparedStatementCache( preparedStatementCacheManager );
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				preparedStatementCache
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -107,6 +118,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.preparedStatementCache = null;
 	}
 
 	@Override
@@ -114,6 +126,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of hot prepared statements of this JDBC session, or {@code null} if disabled
+	 */
+	PreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
@@ -146,6 +165,69 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		afterStatementExecution();
 	}
 
+	@Override
+	public void beforeModifyingStatement() {
+		final RoutingJdbcConnectionAccess routingConnectionAccess = routingConnectionAccess();
+		if ( routingConnectionAccess != null ) {
+			routingConnectionAccess.beforeModifyingStatement();
+			if ( logicalConnection.isPhysicallyConnected()
+					&& routingConnectionAccess.isReplicaConnection( logicalConnection.getPhysicalConnection() ) ) {
+				if ( hasRegisteredResources() ) {
+					throw new HibernateException(
+							"Unable to execute a modifying statement against the primary database while JDBC resources of the read replica connection are open"
+					);
+				}
+				LOG.debug( "Releasing read replica connection before modifying statement" );
+				( (LogicalConnectionManagedImpl) logicalConnection ).releaseReadOnlyConnection();
+			}
+		}
+	}
+
+	@Override
+	public void beforeReadWriteQuery() {
+		final RoutingJdbcConnectionAccess routingConnectionAccess = routingConnectionAccess();
+		if ( routingConnectionAccess != null
+				&& !routingConnectionAccess.isReadOnlySession()
+				&& logicalConnection.isPhysicallyConnected()
+				&& routingConnectionAccess.isReplicaConnection( logicalConnection.getPhysicalConnection() ) ) {
+			if ( hasRegisteredResources() ) {
+				// the query is executed while processing the results of a read-only
+				// query, a subsequent select of an association, for example
+				LOG.debug( "Keeping read replica connection for query, since its JDBC resources are open" );
+			}
+			else {
+				LOG.debug( "Releasing read replica connection before query" );
+				( (LogicalConnectionManagedImpl) logicalConnection ).releaseReadOnlyConnection();
+			}
+		}
+	}
+
+	@Override
+	public void readOnlyQueryBeginning() {
+		final RoutingJdbcConnectionAccess routingConnectionAccess = routingConnectionAccess();
+		if ( routingConnectionAccess != null ) {
+			routingConnectionAccess.setReadOnlyQuery( true );
+		}
+	}
+
+	@Override
+	public void readOnlyQueryEnding() {
+		final RoutingJdbcConnectionAccess routingConnectionAccess = routingConnectionAccess();
+		if ( routingConnectionAccess != null ) {
+			routingConnectionAccess.setReadOnlyQuery( false );
+		}
+	}
+
+	private RoutingJdbcConnectionAccess routingConnectionAccess() {
+		if ( isUserSuppliedConnection ) {
+			return null;
+		}
+		final JdbcConnectionAccess jdbcConnectionAccess = owner.getJdbcConnectionAccess();
+		return jdbcConnectionAccess instanceof RoutingJdbcConnectionAccess
+				? (RoutingJdbcConnectionAccess) jdbcConnectionAccess
+				: null;
+	}
+
 	@Override
 	public Connection close() {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
@@ -266,11 +348,23 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			}
 			getLogicalConnection().afterStatement();
 		}
+		else if ( getLogicalConnection().getConnectionHandlingMode() == DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE ) {
+			if ( ! releasesEnabled ) {
+				LOG.debug( "Skipping release of idle connection due to manual disabling" );
+				return;
+			}
+			// the logical connection checks whether the connection is idle
+			getLogicalConnection().afterStatement();
+		}
 	}
 
 	@Override
 	public void afterTransaction() {
 		transactionTimeOutInstant = -1;
+		final RoutingJdbcConnectionAccess routingConnectionAccess = routingConnectionAccess();
+		if ( routingConnectionAccess != null ) {
+			routingConnectionAccess.afterTransaction();
+		}
 		switch ( getLogicalConnection().getConnectionHandlingMode().getReleaseMode() ) {
 			case AFTER_STATEMENT:
 			case AFTER_TRANSACTION:
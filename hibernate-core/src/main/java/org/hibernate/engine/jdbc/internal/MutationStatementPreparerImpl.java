@@ -8,12 +8,16 @@ package org.hibernate.engine.jdbc.internal;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -44,6 +48,18 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCacheManager.Key cacheKey() {
+				return isCallable
+						? null
+						: new PreparedStatementCacheManager.Key(
+								sql,
+								false,
+								ResultSet.TYPE_FORWARD_ONLY,
+								ResultSet.CONCUR_READ_ONLY
+						);
+			}
 		};
 	}
 
@@ -89,19 +105,24 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		}
 
 		public PreparedStatement prepareStatement() {
+			jdbcCoordinator.beforeModifyingStatement();
 			try {
 				final PreparedStatement preparedStatement;
-				//noinspection deprecation
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
-						.getJdbcSessionContext()
-						.getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
+				final PreparedStatementCache statementCache = jdbcCoordinator.getPreparedStatementCache();
+				final PreparedStatementCacheManager.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null && statementCache.isCacheable( cacheKey ) ) {
+					final PreparedStatement cachedStatement = statementCache.acquire( cacheKey );
+					if ( cachedStatement == null ) {
+						preparedStatement = prepare();
+						statementCache.track( preparedStatement, cacheKey );
+					}
+					else {
+						preparedStatement = cachedStatement;
+						setStatementTimeout( preparedStatement );
+					}
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					preparedStatement = prepare();
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -111,8 +132,34 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 			}
 		}
 
+		private PreparedStatement prepare() throws SQLException {
+			final JdbcSessionContext context = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
+			//noinspection deprecation
+			final JdbcObserver observer = context.getObserver();
+			final EventManager eventManager = context.getEventManager();
+			final HibernateMonitoringEvent creationEvent = eventManager.beginJdbcPreparedStatementCreationEvent();
+			try {
+				observer.jdbcPrepareStatementStart();
+				final PreparedStatement preparedStatement = doPrepare();
+				setStatementTimeout( preparedStatement );
+				return preparedStatement;
+			}
+			finally {
+				eventManager.completeJdbcPreparedStatementCreationEvent( creationEvent, sql );
+				observer.jdbcPrepareStatementEnd();
+			}
+		}
+
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the prepared statement may be {@linkplain PreparedStatementCache cached},
+		 * or {@code null} if statements prepared by this template must never be reused.
+		 */
+		protected PreparedStatementCacheManager.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Keeps the hot statements, queries and mutations, of a single logical
+ * connection prepared on its current physical connection.
+ * <p>
+ * Statements handed out by {@link #acquire} or registered through {@link #track}
+ * are "checked out" until they are {@linkplain #offer offered} back by the
+ * {@link org.hibernate.resource.jdbc.ResourceRegistry}, instead of being closed.
+ * Idle statements are evicted in least recently used order, and all of them are
+ * closed when the physical connection is released, through {@link #clear()}.
+ * The cache therefore only lives as long as the session holds its physical
+ * connection, that is, for a single transaction with the default
+ * {@linkplain org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode
+ * connection handling mode}.
+ * <p>
+ * Like the rest of the JDBC session, this class is not threadsafe.
+ *
+ * @see PreparedStatementCacheManager
+ */
+public final class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final PreparedStatementCacheManager manager;
+	private final LinkedHashMap<PreparedStatementCacheManager.Key, PreparedStatement> idleStatements;
+	private final IdentityHashMap<Statement, PreparedStatementCacheManager.Key> checkedOutStatements = new IdentityHashMap<>();
+
+	public PreparedStatementCache(PreparedStatementCacheManager manager) {
+		this.manager = manager;
+		// access ordered, so that iteration starts with the least recently used statement
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Record a request to prepare the given statement shape and determine whether
+	 * it is hot enough to be cached.
+	 */
+	public boolean isCacheable(PreparedStatementCacheManager.Key key) {
+		return manager.recordUsage( key );
+	}
+
+	/**
+	 * Obtain an idle statement of the given {@linkplain #isCacheable cacheable} shape.
+	 *
+	 * @return The cached statement, or {@code null} if a new statement must be prepared and {@linkplain #track tracked}
+	 */
+	public PreparedStatement acquire(PreparedStatementCacheManager.Key key) {
+		final PreparedStatement statement = idleStatements.remove( key );
+		if ( statement == null ) {
+			manager.cacheMiss();
+			return null;
+		}
+		manager.cacheHit();
+		checkedOutStatements.put( statement, key );
+		return statement;
+	}
+
+	/**
+	 * Register a newly prepared statement so that it is kept when released.
+	 */
+	public void track(PreparedStatement statement, PreparedStatementCacheManager.Key key) {
+		checkedOutStatements.put( statement, key );
+	}
+
+	/**
+	 * Offer a released statement back to the cache.
+	 *
+	 * @return {@code true} if the cache took over the statement, {@code false} if the caller must close it
+	 */
+	public boolean offer(Statement statement) {
+		final PreparedStatementCacheManager.Key key = checkedOutStatements.remove( statement );
+		if ( key == null ) {
+			return false;
+		}
+		if ( idleStatements.containsKey( key ) || !reset( (PreparedStatement) statement ) ) {
+			// either the same shape was prepared again while this statement was in use, or it is not reusable
+			return false;
+		}
+		idleStatements.put( key, (PreparedStatement) statement );
+		if ( idleStatements.size() > manager.getMaxCachedStatements() ) {
+			final Iterator<PreparedStatement> iterator = idleStatements.values().iterator();
+			final PreparedStatement eldest = iterator.next();
+			iterator.remove();
+			close( eldest );
+		}
+		return true;
+	}
+
+	/**
+	 * Close all idle statements and forget checked out ones, because the physical
+	 * connection is about to be released.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			final List<PreparedStatement> statements = new ArrayList<>( idleStatements.values() );
+			idleStatements.clear();
+			for ( PreparedStatement statement : statements ) {
+				close( statement );
+			}
+		}
+		checkedOutStatements.clear();
+	}
+
+	public int getIdleStatementCount() {
+		return idleStatements.size();
+	}
+
+	private static boolean reset(PreparedStatement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			// a failed batch might have left statements in the batch
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			if ( statement.getFetchSize() != 0 ) {
+				statement.setFetchSize( 0 );
+			}
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset cached JDBC statement [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
+	private static void close(PreparedStatement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to close cached JDBC statement [%s]", e.getMessage() );
+		}
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder( "PreparedStatementCache(" );
+		for ( Map.Entry<PreparedStatementCacheManager.Key, PreparedStatement> entry : idleStatements.entrySet() ) {
+			sb.append( entry.getKey().getSql() ).append( ';' );
+		}
+		return sb.append( ')' ).toString();
+	}
+}
@@ -18,6 +18,8 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -52,12 +54,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, null );
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -77,12 +79,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, sql );
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -93,12 +95,16 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
-	private void jdbcExecuteStatementEnd() {
-		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
+	private void jdbcExecuteStatementEnd(HibernateMonitoringEvent executionEvent, String sql) {
+		final JdbcSessionContext context = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
+		context.getEventManager().completeJdbcPreparedStatementExecutionEvent( executionEvent, sql );
+		context.getObserver().jdbcExecuteStatementEnd();
 	}
 
-	private void jdbcExecuteStatementStart() {
-		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
+	private HibernateMonitoringEvent jdbcExecuteStatementStart() {
+		final JdbcSessionContext context = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
+		context.getObserver().jdbcExecuteStatementStart();
+		return context.getEventManager().beginJdbcPreparedStatementExecutionEvent();
 	}
 
 	@Override
@@ -110,12 +116,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = dialect.getResultSet( callableStatement );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, null );
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
 			}
 			postExtract( rs, callableStatement );
@@ -135,12 +141,12 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				rs = statement.executeQuery( sql );
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, sql );
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -160,8 +166,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute() ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -170,7 +176,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, null );
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -190,8 +196,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute() ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -200,7 +206,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, sql );
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -220,8 +226,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 			try {
-				jdbcExecuteStatementStart();
 				if ( !statement.execute( sql ) ) {
 					while ( !statement.getMoreResults() && statement.getUpdateCount() != -1 ) {
 						// do nothing until we hit the resultset
@@ -230,7 +236,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 				rs = statement.getResultSet();
 			}
 			finally {
-				jdbcExecuteStatementEnd();
+				jdbcExecuteStatementEnd( executionEvent, sql );
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
@@ -249,15 +255,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 		try {
-			jdbcExecuteStatementStart();
 			return statement.executeUpdate();
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( executionEvent, null );
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
 		}
 	}
@@ -270,15 +276,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 		try {
-			jdbcExecuteStatementStart();
 			return statement.executeUpdate();
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( executionEvent, sql );
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 		}
 	}
@@ -290,15 +296,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final HibernateMonitoringEvent executionEvent = jdbcExecuteStatementStart();
 		try {
-			jdbcExecuteStatementStart();
 			return statement.executeUpdate( sql );
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
 		}
 		finally {
-			jdbcExecuteStatementEnd();
+			jdbcExecuteStatementEnd( executionEvent, sql );
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
 		}
 	}
@@ -15,8 +15,11 @@ import java.sql.Statement;
 import org.hibernate.AssertionFailure;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -90,9 +93,23 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCacheManager.Key cacheKey() {
+				return isCallable ? null : forwardOnlyCacheKey( sql );
+			}
 		};
 	}
 
+	private static PreparedStatementCacheManager.Key forwardOnlyCacheKey(String sql) {
+		return new PreparedStatementCacheManager.Key(
+				sql,
+				false,
+				ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY
+		);
+	}
+
 	private void checkAutoGeneratedKeysSupportEnabled() {
 		if ( ! settings().isGetGeneratedKeysEnabled() ) {
 			throw new AssertionFailure( "getGeneratedKeys() support is not enabled" );
@@ -138,6 +155,18 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
 				}
+
+				@Override
+				protected PreparedStatementCacheManager.Key cacheKey() {
+					return isCallable
+							? null
+							: new PreparedStatementCacheManager.Key(
+									sql,
+									false,
+									scrollMode.toResultSetType(),
+									ResultSet.CONCUR_READ_ONLY
+							);
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -149,6 +178,11 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected PreparedStatementCacheManager.Key cacheKey() {
+					return isCallable ? null : forwardOnlyCacheKey( sql );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -171,14 +205,21 @@ class StatementPreparerImpl implements StatementPreparer {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
 				final PreparedStatement preparedStatement;
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
+				final PreparedStatementCache statementCache = jdbcCoordinator.getPreparedStatementCache();
+				final PreparedStatementCacheManager.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null && statementCache.isCacheable( cacheKey ) ) {
+					final PreparedStatement cachedStatement = statementCache.acquire( cacheKey );
+					if ( cachedStatement == null ) {
+						preparedStatement = prepare();
+						statementCache.track( preparedStatement, cacheKey );
+					}
+					else {
+						preparedStatement = cachedStatement;
+						setStatementTimeout( preparedStatement );
+					}
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					preparedStatement = prepare();
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -188,8 +229,32 @@ class StatementPreparerImpl implements StatementPreparer {
 			}
 		}
 
+		private PreparedStatement prepare() throws SQLException {
+			final JdbcObserver observer = settings().getObserver();
+			final EventManager eventManager = settings().getEventManager();
+			final HibernateMonitoringEvent creationEvent = eventManager.beginJdbcPreparedStatementCreationEvent();
+			try {
+				observer.jdbcPrepareStatementStart();
+				final PreparedStatement preparedStatement = doPrepare();
+				setStatementTimeout( preparedStatement );
+				return preparedStatement;
+			}
+			finally {
+				eventManager.completeJdbcPreparedStatementCreationEvent( creationEvent, sql );
+				observer.jdbcPrepareStatementEnd();
+			}
+		}
+
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the prepared statement may be {@linkplain PreparedStatementCache cached},
+		 * or {@code null} if statements prepared by this template must never be reused.
+		 */
+		protected PreparedStatementCacheManager.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -92,6 +92,36 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void flushEnding();
 
+	/**
+	 * Callback to let us know that the next statement modifies data or locks
+	 * rows. When a {@link org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider}
+	 * provides connections to read replicas, we use this fact to execute the
+	 * statement against the primary database.
+	 */
+	void beforeModifyingStatement();
+
+	/**
+	 * Callback to let us know that the next statement is a query which is not
+	 * read-only. When the session holds a connection to a read replica, but is
+	 * not itself read-only, we use this fact to execute the query against the
+	 * primary database.
+	 */
+	default void beforeReadWriteQuery() {
+	}
+
+	/**
+	 * Callback to let us know that a read-only query is beginning. When a
+	 * {@link org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider}
+	 * provides connections to read replicas, we use this fact to execute the
+	 * query against a read replica, if no connection is held yet.
+	 */
+	void readOnlyQueryBeginning();
+
+	/**
+	 * Callback to let us know that a read-only query is ending.
+	 */
+	void readOnlyQueryEnding();
+
 	/**
 	 * Close this coordinator and release and resources.
 	 *
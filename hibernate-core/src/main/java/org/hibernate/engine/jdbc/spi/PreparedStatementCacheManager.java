@@ -0,0 +1,202 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.Incubating;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Session factory scoped coordinator of the optional prepared statement cache.
+ * <p>
+ * Tracks how often each statement shape is prepared across all sessions, and
+ * decides which statements, queries or mutations, are "hot" enough to be kept
+ * prepared by the sessions. Hot statements then skip the
+ * {@link java.sql.Connection#prepareStatement(String)} round trip for as long
+ * as the session holds its physical connection. The cache of a session does
+ * not survive the release of the physical connection, since the statements
+ * belong to this connection, so that it is scoped to a transaction with the
+ * default {@linkplain org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode
+ * connection handling mode}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_HOT_THRESHOLD
+ */
+@Incubating
+public class PreparedStatementCacheManager {
+	/**
+	 * The default number of times a statement has to be prepared before it is cached
+	 */
+	public static final int DEFAULT_HOT_THRESHOLD = 2;
+
+	private final int maxCachedStatements;
+	private final int hotThreshold;
+	private final StatisticsImplementor statistics;
+
+	private final BoundedConcurrentHashMap<Key, AtomicInteger> usageCounts;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	public PreparedStatementCacheManager(
+			int maxCachedStatements,
+			int hotThreshold,
+			StatisticsImplementor statistics) {
+		if ( maxCachedStatements <= 0 ) {
+			throw new IllegalArgumentException( "Statement cache size must be positive" );
+		}
+		this.maxCachedStatements = maxCachedStatements;
+		this.hotThreshold = Math.max( 1, hotThreshold );
+		this.statistics = statistics;
+		// track more shapes than we cache, so that statements can become hot in the first place
+		this.usageCounts = new BoundedConcurrentHashMap<>(
+				Math.max( 128, maxCachedStatements * 8 ),
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS
+		);
+	}
+
+	/**
+	 * The maximum number of idle statements kept prepared by a session, while
+	 * it holds its physical connection
+	 */
+	public int getMaxCachedStatements() {
+		return maxCachedStatements;
+	}
+
+	/**
+	 * The number of times a statement has to be prepared before it is cached
+	 */
+	public int getHotThreshold() {
+		return hotThreshold;
+	}
+
+	/**
+	 * Record a request to prepare the given statement shape.
+	 *
+	 * @return {@code true} if the statement is used frequently enough to be cached
+	 */
+	public boolean recordUsage(Key key) {
+		AtomicInteger count = usageCounts.get( key );
+		if ( count == null ) {
+			final AtomicInteger newCount = new AtomicInteger();
+			count = usageCounts.putIfAbsent( key, newCount );
+			if ( count == null ) {
+				count = newCount;
+			}
+		}
+		// stop counting once hot, to avoid contention on the counter of the hottest statements
+		return count.get() >= hotThreshold || count.incrementAndGet() >= hotThreshold;
+	}
+
+	/**
+	 * Callback about a cached statement being reused.
+	 */
+	public void cacheHit() {
+		hitCount.increment();
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheHit();
+		}
+	}
+
+	/**
+	 * Callback about a hot statement which had to be prepared, because it was not cached.
+	 */
+	public void cacheMiss() {
+		missCount.increment();
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheMiss();
+		}
+	}
+
+	/**
+	 * The number of hot statements which were reused from the cache
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * The number of hot statements which had to be prepared
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * The ratio of hits to lookups of hot statements, or {@code 0} if there were no lookups yet
+	 */
+	public double getHitRatio() {
+		final long hits = hitCount.sum();
+		final long lookups = hits + missCount.sum();
+		return lookups == 0 ? 0d : (double) hits / lookups;
+	}
+
+	/**
+	 * Identifies a statement by its SQL and the options used to prepare it.
+	 */
+	public static final class Key {
+		private final String sql;
+		private final boolean callable;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+		private final int hashCode;
+
+		public Key(String sql, boolean callable, int resultSetType, int resultSetConcurrency) {
+			this.sql = sql;
+			this.callable = callable;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+			this.hashCode = Objects.hash( sql, callable, resultSetType, resultSetConcurrency );
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public boolean isCallable() {
+			return callable;
+		}
+
+		public int getResultSetType() {
+			return resultSetType;
+		}
+
+		public int getResultSetConcurrency() {
+			return resultSetConcurrency;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return callable == key.callable
+					&& resultSetType == key.resultSetType
+					&& resultSetConcurrency == key.resultSetConcurrency
+					&& sql.equals( key.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "PreparedStatementCacheManager.Key(" + sql + ")";
+		}
+	}
+}
@@ -11,8 +11,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,6 +37,7 @@ import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.action.internal.EntityVersionChecks;
 import org.hibernate.action.internal.OrphanRemovalAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.action.internal.UnresolvedEntityInsertActions;
@@ -49,6 +52,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -57,6 +61,8 @@ import org.hibernate.type.EntityType;
 import org.hibernate.type.ForeignKeyDirection;
 import org.hibernate.type.Type;
 
+import static org.hibernate.internal.util.collections.ArrayHelper.containsAny;
+
 /**
  * Responsible for maintaining the queue of actions related to events.
  *
@@ -611,22 +617,22 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
-				try {
-					e.execute();
+			final int identityInsertBatchSize = identityInsertBatchSize();
+			for ( int i = 0; i < list.size(); i++ ) {
+				final E e = list.get( i );
+				final int batchEnd = identityInsertBatchSize > 1
+						? identityInsertBatchEnd( list, i, identityInsertBatchSize )
+						: i + 1;
+				if ( batchEnd - i > 1 ) {
+					executeIdentityInsertBatch( list, i, batchEnd );
+					i = batchEnd - 1;
 				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+				else {
+					try {
+						e.execute();
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					finally {
+						registerCompletionProcesses( e );
 					}
 				}
 			}
@@ -645,6 +651,93 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerCompletionProcesses(Executable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * The maximum number of delayed identity inserts to execute as one JDBC batch,
+	 * or 0 if {@value org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS}
+	 * is disabled.
+	 */
+	private int identityInsertBatchSize() {
+		if ( session.getFactory().getFastSessionServices().batchIdentityInserts ) {
+			final Integer batchSize = session.getConfiguredJdbcBatchSize();
+			return batchSize == null ? 0 : batchSize;
+		}
+		else {
+			return 0;
+		}
+	}
+
+	/**
+	 * Determine the end (exclusive) of the run of delayed identity inserts starting
+	 * at the given position which can be executed as a single JDBC batch: they are
+	 * inserts of entities of the same type, none of which refers to another entity
+	 * inserted by the run.
+	 */
+	private static int identityInsertBatchEnd(ExecutableList<?> list, int start, int maxBatchSize) {
+		final Executable first = list.get( start );
+		if ( !isBatchableIdentityInsert( first ) ) {
+			return start + 1;
+		}
+		final EntityPersister persister = ( (EntityIdentityInsertAction) first ).getPersister();
+		final Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<>() );
+		instances.add( ( (EntityIdentityInsertAction) first ).getInstance() );
+		int end = start + 1;
+		while ( end < list.size() && end - start < maxBatchSize ) {
+			final Executable next = list.get( end );
+			if ( !isBatchableIdentityInsert( next ) ) {
+				break;
+			}
+			final EntityIdentityInsertAction action = (EntityIdentityInsertAction) next;
+			if ( action.getPersister() != persister || containsAny( action.getState(), instances ) ) {
+				break;
+			}
+			instances.add( action.getInstance() );
+			end++;
+		}
+		return end;
+	}
+
+	private static boolean isBatchableIdentityInsert(Executable executable) {
+		if ( executable instanceof EntityIdentityInsertAction ) {
+			final EntityIdentityInsertAction action = (EntityIdentityInsertAction) executable;
+			return !action.isEarlyInsert() && action.getPersister().canBatchIdentityInserts();
+		}
+		else {
+			return false;
+		}
+	}
+
+	private void executeIdentityInsertBatch(ExecutableList<?> list, int start, int end) {
+		final List<EntityIdentityInsertAction> actions = new ArrayList<>( end - start );
+		for ( int i = start; i < end; i++ ) {
+			actions.add( (EntityIdentityInsertAction) list.get( i ) );
+		}
+		// the batched identity inserts use their own statement
+		session.getJdbcCoordinator().executeBatch();
+		try {
+			EntityIdentityInsertAction.executeBatch( actions );
+		}
+		finally {
+			for ( EntityIdentityInsertAction action : actions ) {
+				registerCompletionProcesses( action );
+			}
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set<String> spaces) {
 		return spaces.toArray(StringHelper.EMPTY_STRINGS);
 	}
@@ -966,9 +1059,19 @@ public class ActionQueue {
 		}
 
 		public void beforeTransactionCompletion() {
+			// version checks of locked entities are grouped, and performed once the other processes are done:
+			// unlike the other processes, they no longer run in the order they were registered, but after
+			// all processes registered before or after them, including those registered by other processes
+			final EntityVersionChecks versionChecks = new EntityVersionChecks();
 			while ( !processes.isEmpty() ) {
 				try {
-					processes.poll().doBeforeTransactionCompletion( session );
+					final BeforeTransactionCompletionProcess process = processes.poll();
+					if ( !versionChecks.add( process, session ) ) {
+						process.doBeforeTransactionCompletion( session );
+					}
+					if ( processes.isEmpty() && !versionChecks.isEmpty() ) {
+						versionChecks.perform( session );
+					}
 				}
 				catch (HibernateException he) {
 					throw he;
@@ -6,10 +6,13 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -26,6 +29,7 @@ import org.jboss.logging.Logger;
 /**
  * Keeps track of:<ul>
  *     <li>entity and collection keys that are available for batch fetching</li>
+ *     <li>entities with lazy attributes that are available for batch initialization</li>
  *     <li>details related to queries which load entities with sub-select-fetchable collections</li>
  * </ul>
  *
@@ -59,6 +63,13 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * Used to hold the managed entities which have lazy attributes that are not yet initialized.
+	 * Ultimately used by {@link #getLazyAttributeBatch} to build batches initializing the same
+	 * lazy fetch group of several entities.
+	 */
+	private Map<String, LinkedHashMap<EntityKey, Object>> batchLoadableLazyEntities;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -76,6 +87,7 @@ public class BatchFetchQueue {
 	public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
+		batchLoadableLazyEntities = null;
 		subselectsByEntityKey = null;
 	}
 
@@ -383,4 +395,87 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	// lazy attribute batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Register a managed entity of a batch loadable entity type which has lazy
+	 * attributes that are not yet initialized.
+	 */
+	public void addBatchLoadableLazyEntity(EntityKey key, Object entity) {
+		if ( key.isBatchLoadable() ) {
+			if ( batchLoadableLazyEntities == null ) {
+				batchLoadableLazyEntities = CollectionHelper.mapOfSize( 12 );
+			}
+			batchLoadableLazyEntities.computeIfAbsent(
+					key.getEntityName(),
+					k -> CollectionHelper.linkedMapOfSize( 8 )
+			).put( key, entity );
+		}
+	}
+
+	/**
+	 * After evicting or deleting an entity, or initializing all its
+	 * lazy attributes, remove it from the queue if necessary
+	 */
+	public void removeBatchLoadableLazyEntity(EntityKey key) {
+		if ( batchLoadableLazyEntities != null && key.isBatchLoadable() ) {
+			final LinkedHashMap<EntityKey, Object> map = batchLoadableLazyEntities.get( key.getEntityName() );
+			if ( map != null ) {
+				map.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of entities for which the lazy attributes being initialized for
+	 * the given entity should be initialized too.  Like {@link #getBatchLoadableEntityIds},
+	 * prefers the entities registered immediately after the given one.
+	 *
+	 * @param candidate Tests whether a registered entity still has to be initialized
+	 *
+	 * @return The entities, the given entity being the first one
+	 */
+	public List<Object> getLazyAttributeBatch(
+			final EntityKey loadingKey,
+			final Object loadingEntity,
+			final Predicate<Object> candidate,
+			final int maxBatchSize) {
+		final List<Object> batch = new ArrayList<>( maxBatchSize );
+		batch.add( loadingEntity );
+
+		if ( batchLoadableLazyEntities == null ) {
+			return batch;
+		}
+		final LinkedHashMap<EntityKey, Object> map = batchLoadableLazyEntities.get( loadingKey.getEntityName() );
+		if ( map == null ) {
+			return batch;
+		}
+
+		// the entities registered before the given one, used if
+		// there are not enough of them registered after it
+		final List<Object> before = new ArrayList<>();
+		boolean found = false;
+		for ( Entry<EntityKey, Object> me : map.entrySet() ) {
+			final Object entity = me.getValue();
+			if ( entity == loadingEntity ) {
+				found = true;
+			}
+			else if ( candidate.test( entity ) ) {
+				if ( found ) {
+					batch.add( entity );
+					if ( batch.size() == maxBatchSize ) {
+						return batch;
+					}
+				}
+				else if ( before.size() < maxBatchSize - 1 ) {
+					before.add( entity );
+				}
+			}
+		}
+		for ( int i = 0; i < before.size() && batch.size() < maxBatchSize; i++ ) {
+			batch.add( before.get( i ) );
+		}
+		return batch;
+	}
+
 }
@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
@@ -501,6 +502,27 @@ public interface PersistenceContext {
 
 	int getNumberOfManagedEntities();
 
+	/**
+	 * Determine whether the persistence context contains an entity of a type
+	 * accepted by the given predicate, ideally without visiting every entity.
+	 *
+	 * @param persisterPredicate A predicate testing the persister of a type of
+	 * managed entity
+	 *
+	 * @return {@code true} if the predicate accepts the persister of at least
+	 * one managed entity
+	 *
+	 * @since 6.2
+	 */
+	default boolean containsEntityOfType(Predicate<EntityPersister> persisterPredicate) {
+		for ( Map.Entry<Object,EntityEntry> me : reentrantSafeEntityEntries() ) {
+			if ( persisterPredicate.test( me.getValue().getPersister() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Doubly internal
 	 */
@@ -17,6 +17,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.StatelessSession;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.query.Query;
@@ -106,6 +107,16 @@ public interface SharedSessionContractImplementor
 	 */
 	SessionEventListenerManager getEventListenerManager();
 
+	/**
+	 * Get the {@link EventManager} reporting low level monitoring events
+	 * for this session.
+	 *
+	 * @since 6.2
+	 */
+	default EventManager getEventManager() {
+		return getFactory().getFastSessionServices().eventManager;
+	}
+
 	/**
 	 * Get the persistence context for this session.
 	 * <p>
@@ -22,6 +22,7 @@ import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.EntityPersister;
@@ -324,6 +325,11 @@ public class SharedSessionDelegatorBaseImpl implements SharedSessionContractImpl
 		return delegate.getEventListenerManager();
 	}
 
+	@Override
+	public EventManager getEventManager() {
+		return delegate.getEventManager();
+	}
+
 	@Override
 	public PersistenceContext getPersistenceContext() {
 		return delegate.getPersistenceContext();
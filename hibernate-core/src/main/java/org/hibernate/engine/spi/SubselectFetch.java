@@ -27,6 +27,10 @@ import org.hibernate.sql.results.graph.entity.internal.EntityResultInitializer;
  * Encapsulates details related to entities which contain sub-select-fetchable
  * collections and which were loaded in a Session so that those collections may
  * be sub-select fetched later during initialization
+ * <p>
+ * For a sub-select-fetchable to-one association, the {@linkplain #getEntityModelPart()
+ * model part} is the association, and the {@linkplain #getResultingEntityKeys() keys}
+ * are those of the proxied entities it refers to.
  */
 public class SubselectFetch {
 	private final EntityValuedModelPart entityModelPart;
@@ -35,6 +39,7 @@ public class SubselectFetch {
 	private final List<JdbcParameter> loadingJdbcParameters;
 	private final JdbcParameterBindings loadingJdbcParameterBindings;
 	private final Set<EntityKey> resultingEntityKeys;
+	private Map<EntityValuedModelPart, SubselectFetch> associationSubselectFetches;
 
 	public SubselectFetch(
 			EntityValuedModelPart entityModelPart,
@@ -92,9 +97,32 @@ public class SubselectFetch {
 		return resultingEntityKeys;
 	}
 
+	/**
+	 * The fetch descriptor for the entities referred to by the given to-one association
+	 * of the owners loaded by the same execution as this one.
+	 */
+	public SubselectFetch getAssociationSubselectFetch(EntityValuedModelPart association) {
+		if ( associationSubselectFetches == null ) {
+			associationSubselectFetches = new HashMap<>();
+		}
+		return associationSubselectFetches.computeIfAbsent(
+				association,
+				part -> new SubselectFetch(
+						part,
+						loadingSqlAst,
+						ownerTableGroup,
+						loadingJdbcParameters,
+						loadingJdbcParameterBindings,
+						new HashSet<>()
+				)
+		);
+	}
+
 	@Override
 	public String toString() {
-		return "SubselectFetch(" + entityModelPart.getEntityMappingType().getEntityName() + ")";
+		return entityModelPart == null
+				? "SubselectFetch"
+				: "SubselectFetch(" + entityModelPart.getEntityMappingType().getEntityName() + ")";
 	}
 
 	public static RegistrationHandler createRegistrationHandler(
@@ -159,7 +187,8 @@ public class SubselectFetch {
 		}
 
 		public void addKey(EntityKey key, LoadingEntityEntry entry) {
-			if ( !entry.getDescriptor().hasSubselectLoadableCollections() ) {
+			if ( !entry.getDescriptor().hasSubselectLoadableCollections()
+					&& !entry.getDescriptor().hasSubselectLoadableToOnes() ) {
 				return;
 			}
 
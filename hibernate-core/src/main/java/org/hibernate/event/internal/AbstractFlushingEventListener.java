@@ -39,6 +39,8 @@ import org.hibernate.persister.entity.EntityPersister;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.event.internal.DefaultFlushEntityEventListener.isUnequivocallyClean;
+
 /**
  * A convenience base class for listeners whose functionality results in flushing.
  *
@@ -206,6 +208,13 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
+		// unless there are custom listeners, entities which track their own
+		// dirtiness and are known to be clean don't need to be visited at all;
+		// the flush is still linear in the number of managed entities, since
+		// there is no set of the dirty ones to walk instead, but for a clean
+		// entity the cost is reduced to checking its dirty flag
+		final boolean skipCleanEntities = hasOnlyDefaultListeners( flushListeners );
+
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 			// Update the status of the object and if necessary, schedule an update
 
@@ -213,7 +222,8 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			Status status = entry.getStatus();
 
 
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( status != Status.LOADING && status != Status.GONE
+					&& !( skipCleanEntities && isUnequivocallyClean( me.getKey(), entry ) ) ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
@@ -229,6 +239,15 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private static boolean hasOnlyDefaultListeners(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Reuses a FlushEntityEvent for a new purpose, if possible;
 	 * if not possible a new actual instance is returned.
@@ -250,7 +250,8 @@ public abstract class AbstractSaveEventListener<C>
 
 		final Object id = key == null ? null : key.getIdentifier();
 
-		boolean shouldDelayIdentityInserts = !source.isTransactionInProgress() && !requiresImmediateIdAccess;
+		final boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !source.isTransactionInProgress() || canBatchIdentityInserts( persister, source ) );
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
@@ -298,6 +299,23 @@ public abstract class AbstractSaveEventListener<C>
 		return finalId;
 	}
 
+	/**
+	 * Identity inserts may also be delayed until flush within a transaction when
+	 * they're executed as JDBC batches.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private static boolean canBatchIdentityInserts(EntityPersister persister, EventSource source) {
+		if ( source.getFactory().getFastSessionServices().batchIdentityInserts
+				&& persister.canBatchIdentityInserts() ) {
+			final Integer batchSize = source.getConfiguredJdbcBatchSize();
+			return batchSize != null && batchSize > 1;
+		}
+		else {
+			return false;
+		}
+	}
+
 	private static Object handleGeneratedId(boolean useIdentityColumn, Object id, AbstractEntityInsertAction insert) {
 		if ( useIdentityColumn && insert.isEarlyInsert() ) {
 			if ( insert instanceof EntityIdentityInsertAction ) {
@@ -6,16 +6,35 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -29,6 +48,13 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	// marks a type of entity whose flush could affect any table
+	private static final Set<Serializable> ALL_SPACES = Collections.unmodifiableSet( new HashSet<>() );
+
+	// the tables which flushing an entity of a given type could affect,
+	// including the tables affected through flush-time cascades
+	private final Map<EntityPersister, Set<Serializable>> affectedSpacesByPersister = new ConcurrentHashMap<>();
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -37,15 +63,21 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
 		final SessionEventListenerManager eventListenerManager = source.getEventListenerManager();
+		final EventManager eventManager = source.getEventManager();
+		final HibernateMonitoringEvent partialFlushEvent = eventManager.beginFlushEvent();
+		int dirtyCount = 0;
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			// skip dirty checking altogether if nothing which is managed by
+			// the session could change the tables the query reads
+			if ( flushMightBeNeeded( source ) && flushMightAffectQuerySpaces( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
 				flushEverythingToExecutions( event );
+				dirtyCount = actionQueue.numberOfUpdates();
 				if ( flushIsReallyNeeded( event, source ) ) {
 					LOG.trace( "Need to execute flush" );
 					event.setFlushRequired( true );
@@ -70,6 +102,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			}
 		}
 		finally {
+			eventManager.completeFlushEvent( partialFlushEvent, event, dirtyCount, true );
 			eventListenerManager.partialFlushEnd(
 					event.getNumberOfEntitiesProcessed(),
 					event.getNumberOfEntitiesProcessed()
@@ -82,6 +115,138 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * Determine, without dirty checking, whether flushing the session could
+	 * affect any of the tables the query reads. This is the case if there are
+	 * queued actions on these tables, or if the session manages an entity or
+	 * a collection whose flush could update them, either directly or through
+	 * a flush-time cascade.
+	 */
+	private boolean flushMightAffectQuerySpaces(AutoFlushEvent event, EventSource source) {
+		if ( source.getHibernateFlushMode() == FlushMode.ALWAYS ) {
+			return true;
+		}
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( querySpaces.isEmpty() ) {
+			return false;
+		}
+		if ( source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			return true;
+		}
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		if ( persistenceContext.containsEntityOfType(
+				persister -> intersects( getAffectedSpaces( persister ), querySpaces ) ) ) {
+			return true;
+		}
+		if ( persistenceContext.getCollectionEntriesSize() > 0 ) {
+			for ( CollectionEntry collectionEntry : persistenceContext.getCollectionEntries().values() ) {
+				final CollectionPersister persister = collectionEntry.getLoadedPersister() == null
+						? collectionEntry.getCurrentPersister()
+						: collectionEntry.getLoadedPersister();
+				if ( persister == null || intersects( persister.getCollectionSpaces(), querySpaces ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean intersects(Set<Serializable> spaces, Set<String> querySpaces) {
+		if ( spaces == ALL_SPACES ) {
+			return true;
+		}
+		for ( String querySpace : querySpaces ) {
+			if ( spaces.contains( querySpace ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean intersects(Serializable[] spaces, Set<String> querySpaces) {
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Set<Serializable> getAffectedSpaces(EntityPersister persister) {
+		final Set<Serializable> cached = affectedSpacesByPersister.get( persister );
+		if ( cached != null ) {
+			return cached;
+		}
+		final Set<Serializable> spaces = new HashSet<>();
+		final Set<Serializable> affectedSpaces =
+				collectAffectedSpaces( persister, spaces, new HashSet<>() ) ? spaces : ALL_SPACES;
+		affectedSpacesByPersister.put( persister, affectedSpaces );
+		return affectedSpaces;
+	}
+
+	/**
+	 * @return {@code false} if the affected tables cannot be determined
+	 */
+	private boolean collectAffectedSpaces(EntityPersister persister, Set<Serializable> spaces, Set<String> visited) {
+		if ( !visited.add( persister.getEntityName() ) ) {
+			return true;
+		}
+		spaces.addAll( Arrays.asList( persister.getPropertySpaces() ) );
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !collectAffectedSpaces( types[i], cascadeStyles[i], persister.getFactory(), spaces, visited ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean collectAffectedSpaces(
+			Type type,
+			CascadeStyle cascadeStyle,
+			SessionFactoryImplementor factory,
+			Set<Serializable> spaces,
+			Set<String> visited) {
+		final boolean cascades = cascadeStyle.doCascade( getCascadingAction() ) || cascadeStyle.hasOrphanDelete();
+		if ( type.isCollectionType() ) {
+			final CollectionPersister collectionPersister = factory.getMappingMetamodel()
+					.getCollectionDescriptor( ( (CollectionType) type ).getRole() );
+			spaces.addAll( Arrays.asList( collectionPersister.getCollectionSpaces() ) );
+			return !cascades
+				|| collectAffectedSpaces( collectionPersister.getElementType(), cascadeStyle, factory, spaces, visited );
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final Type[] subtypes = compositeType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				if ( !collectAffectedSpaces( subtypes[i], compositeType.getCascadeStyle( i ), factory, spaces, visited ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else if ( type.isEntityType() ) {
+			if ( cascades ) {
+				// a cascade might reach an instance of any subclass of the associated entity
+				final EntityPersister associatedPersister = factory.getMappingMetamodel()
+						.getEntityDescriptor( ( (EntityType) type ).getAssociatedEntityName() );
+				spaces.addAll( Arrays.asList( associatedPersister.getQuerySpaces() ) );
+				for ( String subclassName : associatedPersister.getEntityMetamodel().getSubclassEntityNames() ) {
+					final EntityPersister subclassPersister = factory.getMappingMetamodel().getEntityDescriptor( subclassName );
+					if ( !collectAffectedSpaces( subclassPersister, spaces, visited ) ) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		else {
+			// a cascading 'any' association might reach an entity of any type
+			return !( cascades && type.isAnyType() );
+		}
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -121,6 +121,21 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		}
 	}
 
+	/**
+	 * Is the given entity one for which {@link #onFlushEntity} would do nothing
+	 * at all? That is the case for a managed entity which reports itself as
+	 * non-dirty via its {@link SelfDirtinessTracker}, and which has no mutable
+	 * properties and no collections, since then there is neither a dirty check
+	 * to perform, nor a collection to wrap or reach.
+	 */
+	public static boolean isUnequivocallyClean(Object entity, EntityEntry entry) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& isSelfDirtinessTracker( entity )
+			&& !entry.getPersister().hasCollections()
+			&& !entry.requiresDirtyCheck( entity );
+	}
+
 	/**
 	 * Flushes a single entity's state to the database, by scheduling
 	 * an update action, if necessary
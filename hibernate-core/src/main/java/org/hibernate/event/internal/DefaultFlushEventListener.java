@@ -8,9 +8,11 @@ package org.hibernate.event.internal;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -32,14 +34,19 @@ public class DefaultFlushEventListener extends AbstractFlushingEventListener imp
 		if ( persistenceContext.getNumberOfManagedEntities() > 0
 				|| persistenceContext.getCollectionEntriesSize() > 0 ) {
 
+			final EventManager eventManager = source.getEventManager();
+			final HibernateMonitoringEvent flushEvent = eventManager.beginFlushEvent();
+			int dirtyCount = 0;
 			try {
 				source.getEventListenerManager().flushStart();
 
 				flushEverythingToExecutions( event );
+				dirtyCount = source.getActionQueue().numberOfUpdates();
 				performExecutions( source );
 				postFlush( source );
 			}
 			finally {
+				eventManager.completeFlushEvent( flushEvent, event, dirtyCount, false );
 				source.getEventListenerManager().flushEnd(
 						event.getNumberOfEntitiesProcessed(),
 						event.getNumberOfCollectionsProcessed()
@@ -15,6 +15,8 @@ import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.internal.CoreLogging;
@@ -72,7 +74,19 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
-				ceLoadedPersister.initialize( ce.getLoadedKey(), source );
+				final EventManager eventManager = source.getEventManager();
+				final HibernateMonitoringEvent lazyInitializationEvent = eventManager.beginLazyInitializationEvent();
+				try {
+					ceLoadedPersister.initialize( ce.getLoadedKey(), source );
+				}
+				finally {
+					eventManager.completeLazyInitializationEvent(
+							lazyInitializationEvent,
+							source,
+							ceLoadedPersister.getRole(),
+							ce.getLoadedKey()
+					);
+				}
 				handlePotentiallyEmptyCollection( collection, source, ce, ceLoadedPersister );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
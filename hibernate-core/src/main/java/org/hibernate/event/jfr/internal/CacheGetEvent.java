@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lookup in a second-level cache region
+ */
+@Name( CacheGetEvent.NAME )
+@Label( "Cache Get" )
+@Category( { "Hibernate ORM", "Second-Level Cache" } )
+@Description( "Lookup in a second-level cache region" )
+@StackTrace( false )
+public class CacheGetEvent extends jdk.jfr.Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.CacheGet";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Region Name" )
+	public String regionName;
+
+	@Label( "Cache Hit" )
+	public boolean hit;
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of a JDBC statement
+ */
+@Name( JdbcPreparedStatementExecutionEvent.NAME )
+@Label( "JDBC PreparedStatement Executed" )
+@Category( { "Hibernate ORM", "JDBC" } )
+@Description( "Execution of a JDBC statement" )
+@StackTrace( false )
+public class JdbcPreparedStatementExecutionEvent extends jdk.jfr.Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.JdbcPreparedStatementExecution";
+
+	@Label( "SQL" )
+	public String sql;
+}
@@ -0,0 +1,241 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+/**
+ * An {@link EventManager} reporting to Java Flight Recorder.
+ * <p>
+ * Events are only instantiated for timing when they are enabled in a running
+ * recording, and only populated when they pass the threshold of the recording.
+ */
+public class JfrEventManager implements EventManager {
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		final SessionOpenEvent event = new SessionOpenEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeSessionOpenEvent(HibernateMonitoringEvent event, SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SessionOpenEvent sessionOpenEvent = (SessionOpenEvent) event;
+			sessionOpenEvent.end();
+			if ( sessionOpenEvent.shouldCommit() ) {
+				sessionOpenEvent.sessionIdentifier = getSessionIdentifier( session );
+				sessionOpenEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		final SessionClosedEvent event = new SessionClosedEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeSessionClosedEvent(HibernateMonitoringEvent event, SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SessionClosedEvent sessionClosedEvent = (SessionClosedEvent) event;
+			sessionClosedEvent.end();
+			if ( sessionClosedEvent.shouldCommit() ) {
+				sessionClosedEvent.sessionIdentifier = getSessionIdentifier( session );
+				sessionClosedEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		final JdbcPreparedStatementCreationEvent event = new JdbcPreparedStatementCreationEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(HibernateMonitoringEvent event, String sql) {
+		if ( event != null ) {
+			final JdbcPreparedStatementCreationEvent creationEvent = (JdbcPreparedStatementCreationEvent) event;
+			creationEvent.end();
+			if ( creationEvent.shouldCommit() ) {
+				creationEvent.sql = sql;
+				creationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent() {
+		final JdbcPreparedStatementExecutionEvent event = new JdbcPreparedStatementExecutionEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(HibernateMonitoringEvent event, String sql) {
+		if ( event != null ) {
+			final JdbcPreparedStatementExecutionEvent executionEvent = (JdbcPreparedStatementExecutionEvent) event;
+			executionEvent.end();
+			if ( executionEvent.shouldCommit() ) {
+				executionEvent.sql = sql;
+				executionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		final JdbcBatchExecutionEvent event = new JdbcBatchExecutionEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent event,
+			BatchKey batchKey,
+			String sql,
+			int[] rowCounts) {
+		if ( event != null ) {
+			final JdbcBatchExecutionEvent batchExecutionEvent = (JdbcBatchExecutionEvent) event;
+			batchExecutionEvent.end();
+			if ( batchExecutionEvent.shouldCommit() ) {
+				batchExecutionEvent.batchKey = batchKey.toLoggableString();
+				batchExecutionEvent.sql = sql;
+				if ( rowCounts != null ) {
+					batchExecutionEvent.statementCount = rowCounts.length;
+					long rowCount = 0;
+					for ( int count : rowCounts ) {
+						// ignore Statement.SUCCESS_NO_INFO and Statement.EXECUTE_FAILED
+						if ( count > 0 ) {
+							rowCount += count;
+						}
+					}
+					batchExecutionEvent.rowCount = rowCount;
+				}
+				batchExecutionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		final CacheGetEvent event = new CacheGetEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		if ( event != null ) {
+			final CacheGetEvent cacheGetEvent = (CacheGetEvent) event;
+			cacheGetEvent.end();
+			if ( cacheGetEvent.shouldCommit() ) {
+				cacheGetEvent.sessionIdentifier = getSessionIdentifier( session );
+				cacheGetEvent.regionName = region.getName();
+				cacheGetEvent.hit = hit;
+				cacheGetEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		final CachePutEvent event = new CachePutEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged) {
+		if ( event != null ) {
+			final CachePutEvent cachePutEvent = (CachePutEvent) event;
+			cachePutEvent.end();
+			if ( cachePutEvent.shouldCommit() ) {
+				cachePutEvent.sessionIdentifier = getSessionIdentifier( session );
+				cachePutEvent.regionName = region.getName();
+				cachePutEvent.cacheContentChanged = cacheContentChanged;
+				cachePutEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		final SessionFlushEvent event = new SessionFlushEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeFlushEvent(
+			HibernateMonitoringEvent event,
+			FlushEvent flushEvent,
+			int dirtyCount,
+			boolean autoFlush) {
+		if ( event != null ) {
+			final SessionFlushEvent sessionFlushEvent = (SessionFlushEvent) event;
+			sessionFlushEvent.end();
+			if ( sessionFlushEvent.shouldCommit() ) {
+				sessionFlushEvent.sessionIdentifier = getSessionIdentifier( flushEvent.getSession() );
+				sessionFlushEvent.numberOfEntitiesProcessed = flushEvent.getNumberOfEntitiesProcessed();
+				sessionFlushEvent.numberOfCollectionsProcessed = flushEvent.getNumberOfCollectionsProcessed();
+				sessionFlushEvent.numberOfDirtyEntities = dirtyCount;
+				sessionFlushEvent.isAutoFlush = autoFlush;
+				sessionFlushEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginLazyInitializationEvent() {
+		final LazyInitializationEvent event = new LazyInitializationEvent();
+		return begin( event );
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object key) {
+		if ( event != null ) {
+			final LazyInitializationEvent lazyInitializationEvent = (LazyInitializationEvent) event;
+			lazyInitializationEvent.end();
+			if ( lazyInitializationEvent.shouldCommit() ) {
+				lazyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyInitializationEvent.role = role;
+				lazyInitializationEvent.key = key == null ? null : key.toString();
+				lazyInitializationEvent.commit();
+			}
+		}
+	}
+
+	private static <E extends jdk.jfr.Event & HibernateMonitoringEvent> HibernateMonitoringEvent begin(E event) {
+		if ( event.isEnabled() ) {
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static String getSessionIdentifier(SharedSessionContractImplementor session) {
+		return session == null ? null : session.getSessionIdentifier().toString();
+	}
+}
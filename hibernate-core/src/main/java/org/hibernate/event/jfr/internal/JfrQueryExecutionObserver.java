@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import java.util.Locale;
+
+import org.hibernate.query.spi.QueryExecutionObserver;
+import org.hibernate.stat.QueryExecutionPhase;
+
+/**
+ * A {@link QueryExecutionObserver} reporting to Java Flight Recorder.
+ * <p>
+ * The events are only populated when they are enabled in a running recording,
+ * so that the overhead of an idle observer is limited to taking the timings.
+ *
+ * @see QueryPhaseEvent
+ * @see QueryExecutionEvent
+ * @see QueryCacheAccessEvent
+ */
+public class JfrQueryExecutionObserver implements QueryExecutionObserver {
+	/**
+	 * The short name of this observer, for use with
+	 * {@link org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_OBSERVER}
+	 */
+	public static final String SHORT_NAME = "jfr";
+
+	private static final String PLAN_CACHE = "plan";
+
+	@Override
+	public void queryPlanCacheAccessed(String query, boolean hit) {
+		final QueryCacheAccessEvent event = new QueryCacheAccessEvent();
+		if ( event.isEnabled() ) {
+			event.query = query;
+			event.cache = PLAN_CACHE;
+			event.hit = hit;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void queryResultsCacheAccessed(String query, String regionName, boolean hit) {
+		final QueryCacheAccessEvent event = new QueryCacheAccessEvent();
+		if ( event.isEnabled() ) {
+			event.query = query;
+			event.cache = regionName;
+			event.hit = hit;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void queryPhaseCompleted(String query, QueryExecutionPhase phase, long nanoseconds) {
+		final QueryPhaseEvent event = new QueryPhaseEvent();
+		if ( event.isEnabled() ) {
+			event.query = query;
+			event.phase = phase.name().toLowerCase( Locale.ROOT );
+			event.phaseDuration = nanoseconds;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void queryExecuted(String query, String sql, int rowCount, long nanoseconds) {
+		final QueryExecutionEvent event = new QueryExecutionEvent();
+		if ( event.isEnabled() ) {
+			event.query = query;
+			event.sql = sql;
+			event.rowCount = rowCount;
+			event.executionDuration = nanoseconds;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Initialization of a proxy or lazy collection
+ */
+@Name( LazyInitializationEvent.NAME )
+@Label( "Lazy Initialization" )
+@Category( { "Hibernate ORM", "Session" } )
+@Description( "Initialization of a proxy or lazy collection" )
+@StackTrace( false )
+public class LazyInitializationEvent extends jdk.jfr.Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.LazyInitialization";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Entity Name Or Collection Role" )
+	public String role;
+
+	@Label( "Identifier Or Collection Key" )
+	public String key;
+}
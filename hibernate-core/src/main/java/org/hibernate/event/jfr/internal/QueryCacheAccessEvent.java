@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lookup of a query in the query plan cache or the query results cache
+ */
+@Name( QueryCacheAccessEvent.NAME )
+@Label( "Query Cache Access" )
+@Category( { "Hibernate ORM", "Query" } )
+@Description( "Lookup of a query in the query plan cache or the query results cache" )
+@StackTrace( false )
+public class QueryCacheAccessEvent extends jdk.jfr.Event {
+	public static final String NAME = "org.hibernate.QueryCacheAccess";
+
+	@Label( "Query" )
+	public String query;
+
+	@Label( "Cache" )
+	@Description( "Either 'plan' or the name of the query results cache region" )
+	public String cache;
+
+	@Label( "Hit" )
+	public boolean hit;
+}
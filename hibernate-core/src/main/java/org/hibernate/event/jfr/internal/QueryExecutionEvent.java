@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Execution of a query, including reading its results
+ */
+@Name( QueryExecutionEvent.NAME )
+@Label( "Query Execution" )
+@Category( { "Hibernate ORM", "Query" } )
+@Description( "Execution of a query, including reading its results" )
+@StackTrace( false )
+public class QueryExecutionEvent extends jdk.jfr.Event {
+	public static final String NAME = "org.hibernate.QueryExecution";
+
+	@Label( "Query" )
+	public String query;
+
+	@Label( "SQL" )
+	public String sql;
+
+	@Label( "Row Count" )
+	public int rowCount;
+
+	@Label( "Execution Duration" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long executionDuration;
+}
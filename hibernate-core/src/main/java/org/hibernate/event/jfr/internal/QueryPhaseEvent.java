@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Completion of one {@linkplain org.hibernate.stat.QueryExecutionPhase phase} of a query execution
+ */
+@Name( QueryPhaseEvent.NAME )
+@Label( "Query Phase" )
+@Category( { "Hibernate ORM", "Query" } )
+@Description( "Completion of one phase of a query execution" )
+@StackTrace( false )
+public class QueryPhaseEvent extends jdk.jfr.Event {
+	public static final String NAME = "org.hibernate.QueryPhase";
+
+	@Label( "Query" )
+	public String query;
+
+	@Label( "Phase" )
+	public String phase;
+
+	@Label( "Phase Duration" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long phaseDuration;
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flush of a Hibernate session
+ */
+@Name( SessionFlushEvent.NAME )
+@Label( "Flush Execution" )
+@Category( { "Hibernate ORM", "Session" } )
+@Description( "Flush of a Hibernate session" )
+@StackTrace( false )
+public class SessionFlushEvent extends jdk.jfr.Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.Flush";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Number Of Processed Entities" )
+	public int numberOfEntitiesProcessed;
+
+	@Label( "Number Of Processed Collections" )
+	public int numberOfCollectionsProcessed;
+
+	@Label( "Number Of Dirty Entities" )
+	public int numberOfDirtyEntities;
+
+	@Label( "Auto Flush" )
+	public boolean isAutoFlush;
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * An {@link EventManager} which ignores all events, used when no
+ * monitoring is enabled.
+ */
+public final class EmptyEventManager implements EventManager {
+	public static final EmptyEventManager INSTANCE = new EmptyEventManager();
+
+	private EmptyEventManager() {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(HibernateMonitoringEvent event, SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(HibernateMonitoringEvent event, SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(HibernateMonitoringEvent event, String sql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(HibernateMonitoringEvent event, String sql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent event,
+			BatchKey batchKey,
+			String sql,
+			int[] rowCounts) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(
+			HibernateMonitoringEvent event,
+			FlushEvent flushEvent,
+			int dirtyCount,
+			boolean autoFlush) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginLazyInitializationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object key) {
+	}
+}
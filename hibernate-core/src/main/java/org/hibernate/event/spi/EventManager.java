@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Reports low level monitoring events, for example to Java Flight Recorder.
+ * <p>
+ * Every kind of event is reported as a pair of calls: the {@code begin}
+ * method is called before the monitored work, and returns a handle which
+ * is passed to the matching {@code complete} method afterwards. The handle
+ * may be {@code null}, for example when the event is not being recorded,
+ * and {@code complete} methods must accept a {@code null} handle.
+ * <p>
+ * The {@code complete} methods are passed everything needed to populate the
+ * event, so that an implementation which is not recording pays nothing
+ * but the call itself.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#JFR_ENABLED
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface EventManager {
+	HibernateMonitoringEvent beginSessionOpenEvent();
+
+	void completeSessionOpenEvent(HibernateMonitoringEvent event, SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginSessionClosedEvent();
+
+	void completeSessionClosedEvent(HibernateMonitoringEvent event, SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent();
+
+	void completeJdbcPreparedStatementCreationEvent(HibernateMonitoringEvent event, String sql);
+
+	HibernateMonitoringEvent beginJdbcPreparedStatementExecutionEvent();
+
+	/**
+	 * @param sql The executed SQL, or {@code null} if it is not known at
+	 * the point of execution
+	 */
+	void completeJdbcPreparedStatementExecutionEvent(HibernateMonitoringEvent event, String sql);
+
+	HibernateMonitoringEvent beginJdbcBatchExecutionEvent();
+
+	/**
+	 * @param rowCounts The row counts returned by
+	 * {@link java.sql.Statement#executeBatch()}, or {@code null} if the
+	 * execution failed
+	 */
+	void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent event,
+			BatchKey batchKey,
+			String sql,
+			int[] rowCounts);
+
+	HibernateMonitoringEvent beginCacheGetEvent();
+
+	void completeCacheGetEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit);
+
+	HibernateMonitoringEvent beginCachePutEvent();
+
+	void completeCachePutEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged);
+
+	HibernateMonitoringEvent beginFlushEvent();
+
+	/**
+	 * @param dirtyCount The number of entities found dirty by the flush
+	 * @param autoFlush Whether the flush was triggered automatically before
+	 * the execution of a query
+	 */
+	void completeFlushEvent(
+			HibernateMonitoringEvent event,
+			FlushEvent flushEvent,
+			int dirtyCount,
+			boolean autoFlush);
+
+	HibernateMonitoringEvent beginLazyInitializationEvent();
+
+	/**
+	 * @param role The entity name of an initialized proxy, or the role
+	 * of an initialized collection
+	 * @param key The identifier of the proxy, or the key of the collection
+	 */
+	void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object key);
+}
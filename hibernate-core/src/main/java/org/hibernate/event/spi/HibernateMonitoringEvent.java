@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * An opaque handle to a monitoring event in progress, as returned by one
+ * of the {@code begin} methods of {@link EventManager}, and to be passed
+ * back to the matching {@code complete} method.
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface HibernateMonitoringEvent {
+}
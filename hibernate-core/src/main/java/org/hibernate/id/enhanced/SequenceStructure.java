@@ -96,6 +96,8 @@ public class SequenceStructure implements DatabaseStructure {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
 				accessCounter++;
+				// incrementing the sequence is not possible on a read replica
+				session.getJdbcCoordinator().beforeModifyingStatement();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
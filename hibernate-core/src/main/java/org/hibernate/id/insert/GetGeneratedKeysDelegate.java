@@ -10,10 +10,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Locale;
+import java.util.function.IntConsumer;
 
 import org.hibernate.MappingException;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -21,9 +23,12 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.generator.OnExecutionGenerator;
@@ -144,6 +149,91 @@ public class GetGeneratedKeysDelegate extends AbstractReturningDelegate {
 		}
 	}
 
+	/**
+	 * Execute the insert once for each of the given number of rows, as a single
+	 * JDBC batch, and extract the generated identifiers of all the rows from the
+	 * {@linkplain PreparedStatement#getGeneratedKeys() generated keys}.
+	 *
+	 * @param rowBinder binds the values of the row at the given position to the
+	 * {@code jdbcValueBindings}
+	 *
+	 * @return the generated identifiers, in the order of the rows
+	 */
+	public Object[] performBatchInsert(
+			PreparedStatementDetails insertStatementDetails,
+			JdbcValueBindings jdbcValueBindings,
+			int numberOfRows,
+			IntConsumer rowBinder,
+			BatchKey batchKey,
+			SharedSessionContractImplementor session) {
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcSessionContext context = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
+		final EventManager eventManager = context.getEventManager();
+
+		final String insertSql = insertStatementDetails.getSqlString();
+		final PreparedStatement insertStatement = insertStatementDetails.resolveStatement();
+
+		try {
+			for ( int i = 0; i < numberOfRows; i++ ) {
+				rowBinder.accept( i );
+				jdbcServices.getSqlStatementLogger().logStatement( insertSql );
+				jdbcValueBindings.beforeStatement( insertStatementDetails );
+				insertStatement.addBatch();
+				jdbcValueBindings.afterStatement( insertStatementDetails.getMutatingTableDetails() );
+			}
+
+			final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
+			int[] rowCounts = null;
+			try {
+				//noinspection deprecation
+				context.getObserver().jdbcExecuteBatchStart();
+				rowCounts = insertStatement.executeBatch();
+			}
+			finally {
+				//noinspection deprecation
+				context.getObserver().jdbcExecuteBatchEnd();
+				eventManager.completeJdbcBatchExecutionEvent( executionEvent, batchKey, insertSql, rowCounts );
+			}
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				insertStatementDetails.getExpectation().verifyOutcome( rowCounts[i], insertStatement, i, insertSql );
+			}
+
+			final Object[] generatedIds = new Object[numberOfRows];
+			final ResultSet resultSet = insertStatement.getGeneratedKeys();
+			try {
+				for ( int i = 0; i < numberOfRows; i++ ) {
+					generatedIds[i] = getGeneratedIdentity(
+							persister.getNavigableRole().getFullPath(),
+							resultSet,
+							persister,
+							session
+					);
+				}
+				return generatedIds;
+			}
+			finally {
+				if ( resultSet != null ) {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( resultSet, insertStatement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					() -> String.format(
+							Locale.ROOT,
+							"Unable to execute batch insert or extract its generated keys for `%s`",
+							persister.getNavigableRole().getFullPath()
+					),
+					insertSql
+			);
+		}
+		finally {
+			insertStatementDetails.releaseStatement( session );
+		}
+	}
+
 	@Override
 	public Object executeAndExtract(
 			String insertSql,
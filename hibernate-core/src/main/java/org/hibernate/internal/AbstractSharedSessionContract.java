@@ -30,6 +30,7 @@ import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
 import org.hibernate.engine.jdbc.internal.JdbcCoordinatorImpl;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -40,6 +41,8 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.transaction.internal.TransactionImpl;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.id.uuid.StandardRandomStrategy;
 import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
@@ -163,6 +166,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 	public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 		fastSessionServices = factory.getFastSessionServices();
+		final EventManager eventManager = fastSessionServices.eventManager;
+		final HibernateMonitoringEvent sessionOpenEvent = eventManager.beginSessionOpenEvent();
 		cacheTransactionSync = factory.getCache().getRegionFactory().createTransactionContext( this );
 		flushMode = options.getInitialSessionFlushMode();
 		tenantIdentifier = getTenantId( factory, options );
@@ -200,6 +205,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			transactionCoordinator = fastSessionServices.transactionCoordinatorBuilder
 					.buildTransactionCoordinator( jdbcCoordinator, this );
 		}
+		eventManager.completeSessionOpenEvent( sessionOpenEvent, this );
 	}
 
 	private static boolean isTransactionCoordinatorShared(SessionCreationOptions options) {
@@ -233,6 +239,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 				connectionHandlingMode,
 				fastSessionServices.jdbcServices,
 				fastSessionServices.batchBuilder,
+				fastSessionServices.preparedStatementCacheManager,
 				// TODO: this object is deprecated and should be removed
 				new JdbcObserverImpl(
 						fastSessionServices.getDefaultJdbcObserver(),
@@ -333,6 +340,11 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return sessionEventsManager;
 	}
 
+	@Override
+	public EventManager getEventManager() {
+		return fastSessionServices.eventManager;
+	}
+
 	@Override
 	public UUID getSessionIdentifier() {
 		if ( sessionIdentifier == null ) {
@@ -371,6 +383,8 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			return;
 		}
 
+		final EventManager eventManager = getEventManager();
+		final HibernateMonitoringEvent sessionClosedEvent = eventManager.beginSessionClosedEvent();
 		try {
 			delayedAfterCompletion();
 		}
@@ -398,6 +412,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 		finally {
 			setClosed();
+			eventManager.completeSessionClosedEvent( sessionClosedEvent, this );
 		}
 	}
 
@@ -597,10 +612,19 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		// See class-level JavaDocs for a discussion of the concurrent-access safety of this method
 		if ( jdbcConnectionAccess == null ) {
 			if ( ! fastSessionServices.requiresMultiTenantConnectionProvider ) {
-				jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
-						getEventListenerManager(),
-						fastSessionServices.connectionProvider
-				);
+				if ( fastSessionServices.connectionProvider instanceof RoutingConnectionProvider ) {
+					jdbcConnectionAccess = new RoutingJdbcConnectionAccess(
+							this,
+							getEventListenerManager(),
+							(RoutingConnectionProvider) fastSessionServices.connectionProvider
+					);
+				}
+				else {
+					jdbcConnectionAccess = new NonContextualJdbcConnectionAccess(
+							getEventListenerManager(),
+							fastSessionServices.connectionProvider
+					);
+				}
 			}
 			else {
 				jdbcConnectionAccess = new ContextualJdbcConnectionAccess(
@@ -22,14 +22,18 @@ import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.ClearEventListener;
 import org.hibernate.event.spi.DeleteEventListener;
 import org.hibernate.event.spi.DirtyCheckEventListener;
+import org.hibernate.event.spi.EmptyEventManager;
 import org.hibernate.event.spi.EntityCopyObserverFactory;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.EvictEventListener;
 import org.hibernate.event.spi.FlushEntityEventListener;
@@ -73,14 +77,20 @@ import jakarta.persistence.CacheStoreMode;
 import jakarta.persistence.PessimisticLockScope;
 
 import static java.util.Collections.unmodifiableMap;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.AvailableSettings.JFR_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_HOT_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Internal component.
@@ -104,6 +114,8 @@ import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
  */
 public final class FastSessionServices {
 
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( FastSessionServices.class );
+
 	/**
 	 * Default session properties
 	 */
@@ -171,6 +183,9 @@ public final class FastSessionServices {
 	public final EntityCopyObserverFactory entityCopyObserverFactory;
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
+	public final PreparedStatementCacheManager preparedStatementCacheManager;
+	public final EventManager eventManager;
+	public final boolean batchIdentityInserts;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -259,6 +274,41 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		this.preparedStatementCacheManager = createPreparedStatementCacheManager( sessionFactory );
+		this.eventManager = getBoolean( JFR_ENABLED, sessionFactory.getProperties() )
+				? new JfrEventManager()
+				: EmptyEventManager.INSTANCE;
+		this.batchIdentityInserts = initializeBatchIdentityInserts( sessionFactory.getProperties(), dialect );
+	}
+
+	private static boolean initializeBatchIdentityInserts(Map<String, Object> properties, Dialect dialect) {
+		if ( getBoolean( BATCH_IDENTITY_INSERTS, properties ) ) {
+			if ( dialect.supportsBatchedGeneratedKeys() ) {
+				return true;
+			}
+			else {
+				LOG.warnf(
+						"Ignoring setting '%s', since the generated keys of batched inserts can't be read with %s",
+						BATCH_IDENTITY_INSERTS,
+						dialect.getClass().getSimpleName()
+				);
+			}
+		}
+		return false;
+	}
+
+	private static PreparedStatementCacheManager createPreparedStatementCacheManager(SessionFactoryImplementor factory) {
+		final Map<String, Object> properties = factory.getProperties();
+		final int cacheSize = getInt( STATEMENT_CACHE_SIZE, properties, 0 );
+		if ( cacheSize <= 0 ) {
+			return null;
+		}
+		final int hotThreshold = getInt(
+				STATEMENT_CACHE_HOT_THRESHOLD,
+				properties,
+				PreparedStatementCacheManager.DEFAULT_HOT_THRESHOLD
+		);
+		return new PreparedStatementCacheManager( cacheSize, hotThreshold, factory.getStatistics() );
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
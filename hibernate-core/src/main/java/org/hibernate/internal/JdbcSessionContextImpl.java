@@ -9,7 +9,9 @@ package org.hibernate.internal;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
@@ -26,6 +28,7 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 	private final PhysicalConnectionHandlingMode connectionHandlingMode;
 	private final JdbcServices jdbcServices;
 	private final BatchBuilder batchBuilder;
+	private final PreparedStatementCacheManager preparedStatementCacheManager;
 
 	private final transient JdbcObserver jdbcObserver;
 
@@ -36,11 +39,31 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 			JdbcServices jdbcServices,
 			BatchBuilder batchBuilder,
 			JdbcObserver jdbcObserver) {
+		this(
+				sessionFactory,
+				statementInspector,
+				connectionHandlingMode,
+				jdbcServices,
+				batchBuilder,
+				null,
+				jdbcObserver
+		);
+	}
+
+	public JdbcSessionContextImpl(
+			SessionFactoryImplementor sessionFactory,
+			StatementInspector statementInspector,
+			PhysicalConnectionHandlingMode connectionHandlingMode,
+			JdbcServices jdbcServices,
+			BatchBuilder batchBuilder,
+			PreparedStatementCacheManager preparedStatementCacheManager,
+			JdbcObserver jdbcObserver) {
 		this.sessionFactory = sessionFactory;
 		this.statementInspector = statementInspector;
 		this.connectionHandlingMode = connectionHandlingMode;
 		this.jdbcServices = jdbcServices;
 		this.batchBuilder = batchBuilder;
+		this.preparedStatementCacheManager = preparedStatementCacheManager;
 		this.jdbcObserver = jdbcObserver;
 
 		if ( statementInspector == null ) {
@@ -127,6 +150,16 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return batchBuilder;
 	}
 
+	@Override
+	public PreparedStatementCacheManager getPreparedStatementCacheManager() {
+		return preparedStatementCacheManager;
+	}
+
+	@Override
+	public EventManager getEventManager() {
+		return sessionFactory.getFastSessionServices().eventManager;
+	}
+
 	@Override
 	public boolean isActive() {
 		return !sessionFactory.isClosed();
@@ -0,0 +1,158 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link JdbcConnectionAccess} which obtains the connection of the session
+ * from a read replica, instead of the primary database, when the session only
+ * reads data. Other connections, used for isolated work, are always obtained
+ * from the primary database.
+ *
+ * @see RoutingConnectionProvider
+ */
+public class RoutingJdbcConnectionAccess implements JdbcConnectionAccess, Serializable {
+	private final SharedSessionContractImplementor session;
+	private final SessionEventListener listener;
+	private final RoutingConnectionProvider connectionProvider;
+
+	private boolean readOnlyQuery;
+	// whether the session modified data in the current transaction
+	private boolean modifying;
+	private long lastModification = -1;
+
+	private transient Connection replicaConnection;
+
+	public RoutingJdbcConnectionAccess(
+			SharedSessionContractImplementor session,
+			SessionEventListener listener,
+			RoutingConnectionProvider connectionProvider) {
+		Objects.requireNonNull( session );
+		Objects.requireNonNull( listener );
+		Objects.requireNonNull( connectionProvider );
+		this.session = session;
+		this.listener = listener;
+		this.connectionProvider = connectionProvider;
+	}
+
+	@Override
+	public Connection obtainConnection() throws SQLException {
+		try {
+			listener.jdbcConnectionAcquisitionStart();
+			return connectionProvider.getConnection();
+		}
+		finally {
+			listener.jdbcConnectionAcquisitionEnd();
+		}
+	}
+
+	/**
+	 * Obtains the connection of the session, from a read replica if the session
+	 * only reads data, or from the primary database otherwise.
+	 */
+	public Connection obtainRoutedConnection() throws SQLException {
+		try {
+			listener.jdbcConnectionAcquisitionStart();
+			if ( isReplicaAllowed() ) {
+				replicaConnection = connectionProvider.getReplicaConnection();
+				return replicaConnection;
+			}
+			else {
+				return connectionProvider.getConnection();
+			}
+		}
+		finally {
+			listener.jdbcConnectionAcquisitionEnd();
+		}
+	}
+
+	private boolean isReplicaAllowed() {
+		if ( !readOnlyQuery && !session.isDefaultReadOnly() ) {
+			return false;
+		}
+		else if ( lastModification < 0 ) {
+			return true;
+		}
+		else {
+			final long replicationLag = connectionProvider.getReplicationLag();
+			return !modifying
+				&& replicationLag >= 0
+				&& System.currentTimeMillis() - lastModification >= replicationLag;
+		}
+	}
+
+	@Override
+	public void releaseConnection(Connection connection) throws SQLException {
+		try {
+			listener.jdbcConnectionReleaseStart();
+			if ( connection == replicaConnection ) {
+				replicaConnection = null;
+				connectionProvider.closeReplicaConnection( connection );
+			}
+			else {
+				connectionProvider.closeConnection( connection );
+			}
+		}
+		finally {
+			listener.jdbcConnectionReleaseEnd();
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return connectionProvider.supportsAggressiveRelease();
+	}
+
+	/**
+	 * Is the given connection a connection to a read replica?
+	 */
+	public boolean isReplicaConnection(Connection connection) {
+		return connection != null && connection == replicaConnection;
+	}
+
+	/**
+	 * Is the session read-only, so that all its queries may read from a replica?
+	 */
+	public boolean isReadOnlySession() {
+		return session.isDefaultReadOnly();
+	}
+
+	/**
+	 * Specify whether the connection is acquired for a read-only query.
+	 */
+	public void setReadOnlyQuery(boolean readOnlyQuery) {
+		this.readOnlyQuery = readOnlyQuery;
+	}
+
+	/**
+	 * Notification that the session is about to modify data, or lock rows.
+	 */
+	public void beforeModifyingStatement() {
+		modifying = true;
+		lastModification = System.currentTimeMillis();
+	}
+
+	/**
+	 * Notification that a transaction completed, and so that the modifications
+	 * it made start being replicated.
+	 */
+	public void afterTransaction() {
+		if ( modifying ) {
+			modifying = false;
+			lastModification = System.currentTimeMillis();
+		}
+	}
+}
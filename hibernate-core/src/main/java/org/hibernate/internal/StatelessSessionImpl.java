@@ -6,14 +6,20 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
+import org.hibernate.TransientObjectException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
@@ -41,6 +47,7 @@ import static org.hibernate.engine.internal.Versioning.incrementVersion;
 import static org.hibernate.engine.internal.Versioning.seedVersion;
 import static org.hibernate.engine.internal.Versioning.setVersion;
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.internal.util.collections.ArrayHelper.containsAny;
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
@@ -61,6 +68,12 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The JDBC batch size of the operations on multiple entities when JDBC
+	 * batching is not enabled
+	 */
+	private static final int DEFAULT_MULTIPLE_BATCH_SIZE = 100;
+
 	private static final LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers( null ) {
 		@Override
 		public String getInternalFetchProfile() {
@@ -102,12 +115,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		final Object[] state = persister.getValues( entity );
 		final Generator generator = persister.getGenerator();
 		if ( !generator.generatedOnExecution() ) {
-			id = ( (BeforeExecutionGenerator) generator).generate( this, entity, null, INSERT );
-			if ( persister.isVersioned() ) {
-				if ( seedVersion( entity, state, persister, this ) ) {
-					persister.setValues( entity, state );
-				}
-			}
+			id = preInsert( persister, entity, state );
 			persister.insert( id, state, entity, this );
 		}
 		else {
@@ -117,6 +125,163 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	/**
+	 * Generate the identifier of an entity whose identifier is not generated
+	 * by the insert, and seed its version.
+	 *
+	 * @return the generated identifier
+	 */
+	private Object preInsert(EntityPersister persister, Object entity, Object[] state) {
+		final Object id = ( (BeforeExecutionGenerator) persister.getGenerator() ).generate( this, entity, null, INSERT );
+		if ( persister.isVersioned() ) {
+			if ( seedVersion( entity, state, persister, this ) ) {
+				persister.setValues( entity, state );
+			}
+		}
+		return id;
+	}
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = batchMultiple( entities.size() );
+		try {
+			final int batchSize = getConfiguredJdbcBatchSize();
+			int position = 0;
+			while ( position < entities.size() ) {
+				final Object entity = entities.get( position );
+				final EntityPersister persister = getEntityPersister( null, entity );
+				if ( fastSessionServices.batchIdentityInserts && persister.canBatchIdentityInserts() ) {
+					position = insertIdentityBatch( persister, entities, position, batchSize );
+				}
+				else {
+					insert( null, entity );
+					position++;
+				}
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	@Override
+	public void bulkInsert(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = batchMultiple( entities.size() );
+		try {
+			final int batchSize = getConfiguredJdbcBatchSize();
+			int position = 0;
+			while ( position < entities.size() ) {
+				final Object entity = entities.get( position );
+				final EntityPersister persister = getEntityPersister( null, entity );
+				if ( !persister.getGenerator().generatedOnExecution() ) {
+					position = insertRows( persister, entities, position, batchSize );
+				}
+				else if ( fastSessionServices.batchIdentityInserts && persister.canBatchIdentityInserts() ) {
+					position = insertIdentityBatch( persister, entities, position, batchSize );
+				}
+				else {
+					insert( null, entity );
+					position++;
+				}
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	/**
+	 * Insert up to the given number of consecutive entities of the given type
+	 * starting at the given position, using a single statement where the
+	 * number of JDBC parameters allows it.
+	 *
+	 * @return the position of the first entity which was not inserted
+	 */
+	private int insertRows(EntityPersister persister, List<?> entities, int start, int rowsPerStatement) {
+		final int maxRows = Math.min( rowsPerStatement, entities.size() - start );
+		final List<Object> ids = new ArrayList<>( maxRows );
+		final List<Object[]> states = new ArrayList<>( maxRows );
+		final List<Object> instances = new ArrayList<>( maxRows );
+		int position = start;
+		while ( instances.size() < maxRows ) {
+			final Object entity = entities.get( position );
+			if ( getEntityPersister( null, entity ) != persister ) {
+				break;
+			}
+			final Object[] state = persister.getValues( entity );
+			ids.add( preInsert( persister, entity, state ) );
+			states.add( state );
+			instances.add( entity );
+			position++;
+		}
+
+		// the multi-row inserts use their own statements
+		getJdbcCoordinator().executeBatch();
+		persister.bulkInsert( ids, states, instances, rowsPerStatement, this );
+		for ( int i = 0; i < ids.size(); i++ ) {
+			persister.setIdentifier( instances.get( i ), ids.get( i ), this );
+		}
+		return position;
+	}
+
+	/**
+	 * Insert the consecutive entities of the given type starting at the given
+	 * position as a single JDBC batch, stopping at the first entity which refers
+	 * to an entity of the batch, since the generated identifiers are only known
+	 * once the batch is executed.
+	 *
+	 * @return the position of the first entity which was not inserted
+	 */
+	private int insertIdentityBatch(EntityPersister persister, List<?> entities, int start, int batchSize) {
+		final List<Object[]> states = new ArrayList<>();
+		final List<Object> instances = new ArrayList<>();
+		final Set<Object> batchedInstances = Collections.newSetFromMap( new IdentityHashMap<>() );
+		int position = start;
+		while ( position < entities.size() && instances.size() < batchSize ) {
+			final Object entity = entities.get( position );
+			if ( getEntityPersister( null, entity ) != persister ) {
+				break;
+			}
+			final Object[] state = persister.getValues( entity );
+			if ( containsAny( state, batchedInstances ) ) {
+				break;
+			}
+			states.add( state );
+			instances.add( entity );
+			batchedInstances.add( entity );
+			position++;
+		}
+
+		// the batched identity inserts use their own statement
+		getJdbcCoordinator().executeBatch();
+		final Object[] ids = persister.insertBatch( states, instances, this );
+		for ( int i = 0; i < ids.length; i++ ) {
+			persister.setIdentifier( instances.get( i ), ids[i], this );
+		}
+		return position;
+	}
+
+	/**
+	 * Make sure that the statements of an operation on multiple entities are
+	 * batched, even when JDBC batching is not enabled, in batches of at most
+	 * {@value #DEFAULT_MULTIPLE_BATCH_SIZE} statements, which are executed as
+	 * they fill up.
+	 *
+	 * @return the session-level JDBC batch size, to be restored after the operation
+	 */
+	private Integer batchMultiple(int numberOfEntities) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final Integer configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		if ( configuredJdbcBatchSize == null || configuredJdbcBatchSize <= 1 ) {
+			setJdbcBatchSize( Math.max( Math.min( numberOfEntities, DEFAULT_MULTIPLE_BATCH_SIZE ), 1 ) );
+		}
+		return jdbcBatchSize;
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -135,6 +300,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.delete( id, version, entity, this );
 	}
 
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = batchMultiple( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				delete( null, entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 
 	// updates ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -163,6 +343,72 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.update( id, state, null, false, null, oldVersion, entity, null, this );
 	}
 
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = batchMultiple( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				update( null, entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+
+	// upserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object entity) {
+		checkOpen();
+		upsert( null, entity );
+	}
+
+	@Override
+	public void upsert(String entityName, Object entity) {
+		checkOpen();
+		final EntityPersister persister = getEntityPersister( entityName, entity );
+		final Object id = persister.getIdentifier( entity, this );
+		if ( id == null ) {
+			throw new TransientObjectException(
+					"Entity passed to upsert() has a null identifier: " + persister.getEntityName()
+			);
+		}
+		final Object[] state = persister.getValues( entity );
+		if ( persister.isVersioned() ) {
+			final Object oldVersion = persister.getVersion( entity );
+			if ( oldVersion == null ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			else {
+				final Object newVersion = incrementVersion( entity, oldVersion, persister, this );
+				setVersion( state, newVersion, persister );
+				persister.setValues( entity, state );
+			}
+		}
+		persister.merge( id, state, entity, this );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		checkOpen();
+		final Integer jdbcBatchSize = batchMultiple( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				upsert( null, entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -194,6 +440,28 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return result;
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final EntityPersister entityDescriptor = getEntityPersister( entityClass.getName() );
+		final List<?> result = entityDescriptor.multiLoadStateless(
+				ids.toArray(),
+				new LockOptions( LockMode.NONE ),
+				this
+		);
+
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) result;
+	}
+
 	private EntityPersister getEntityPersister(String entityName) {
 		return getFactory().getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( entityName );
 	}
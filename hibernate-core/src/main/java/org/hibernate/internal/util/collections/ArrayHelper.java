@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -36,6 +37,18 @@ public final class ArrayHelper {
 		return false;
 	}
 
+	/**
+	 * Does the array contain a non-null element which belongs to the given set?
+	 */
+	public static boolean containsAny(Object[] array, Set<?> objects) {
+		for ( Object element : array ) {
+			if ( element != null && objects.contains( element ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public static int indexOf(Object[] array, Object object) {
 		return indexOf( array, array.length, object );
 	}
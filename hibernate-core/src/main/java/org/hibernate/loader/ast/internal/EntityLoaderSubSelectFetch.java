@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * A one-time use loader for applying a sub-select fetch to the targets
+ * of a to-one association, initializing all the proxies created by the
+ * query which loaded the owners of the association at once
+ *
+ * @see org.hibernate.annotations.FetchMode#SUBSELECT
+ */
+public class EntityLoaderSubSelectFetch {
+	private final ToOneAttributeMapping attributeMapping;
+	private final SubselectFetch subselect;
+
+	private final SelectStatement sqlAst;
+
+	public EntityLoaderSubSelectFetch(
+			ToOneAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			SharedSessionContractImplementor session) {
+		this.attributeMapping = attributeMapping;
+		this.subselect = subselect;
+
+		sqlAst = LoaderSelectBuilder.createSubSelectFetchSelect(
+				attributeMapping,
+				subselect,
+				session.getLoadQueryInfluencers(),
+				LockOptions.NONE,
+				jdbcParameter -> {},
+				session.getFactory()
+		);
+	}
+
+	/**
+	 * Could a sub-select be built for the association?  This is not the case when
+	 * the foreign key columns are not part of the query which loaded the owners.
+	 */
+	public boolean isApplicable() {
+		return sqlAst != null;
+	}
+
+	public Object load(Object triggerId, SharedSessionContractImplementor session) {
+		assert isApplicable();
+
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+
+		final JdbcOperationQuerySelect jdbcSelect = jdbcServices.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( subselect.getLoadingJdbcParameterBindings(), QueryOptions.NONE );
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+				batchFetchQueue,
+				sqlAst,
+				subselect.getLoadingJdbcParameters(),
+				subselect.getLoadingJdbcParameterBindings()
+		);
+
+		jdbcServices.getJdbcSelectExecutor().list(
+				jdbcSelect,
+				subselect.getLoadingJdbcParameterBindings(),
+				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
+				RowTransformerStandardImpl.instance(),
+				ListResultsConsumer.UniqueSemantic.FILTER
+		);
+
+		discard( batchFetchQueue );
+
+		final EntityPersister persister = attributeMapping.getEntityMappingType().getEntityPersister();
+		return persistenceContext.getEntity( session.generateEntityKey( triggerId, persister ) );
+	}
+
+	/**
+	 * Remove the sub-select fetch from the queue, leaving alone the keys which
+	 * were registered for another fetch in the meantime
+	 */
+	public void discard(BatchFetchQueue batchFetchQueue) {
+		for ( EntityKey key : subselect.getResultingEntityKeys() ) {
+			if ( batchFetchQueue.getSubselect( key ) == subselect ) {
+				batchFetchQueue.removeSubselect( key );
+			}
+		}
+	}
+}
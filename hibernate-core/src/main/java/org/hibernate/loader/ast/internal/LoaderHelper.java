@@ -58,6 +58,11 @@ public class LoaderHelper {
 					lock = cache.lockItem( session, ck, entry.getVersion() );
 				}
 
+				if ( requestedLockMode.greaterThan( LockMode.READ ) ) {
+					// locking reads are executed against the primary database
+					session.getJdbcCoordinator().beforeModifyingStatement();
+				}
+
 				if ( persister.isVersioned() && requestedLockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT  ) {
 					// todo : should we check the current isolation mode explicitly?
 					Object nextVersion = persister.forceVersionIncrement(
@@ -32,6 +32,7 @@ import org.hibernate.loader.ast.spi.Loader;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.ModelPart;
@@ -39,6 +40,7 @@ import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.Restrictable;
+import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.SimpleForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
@@ -236,6 +238,45 @@ public class LoaderSelectBuilder {
 		return process.generateSelect( subselect );
 	}
 
+	/**
+	 * Create an SQL AST select-statement used for subselect-based loading of the
+	 * targets of a to-one association
+	 *
+	 * @param attributeMapping The to-one attribute whose targets are being loaded
+	 * @param subselect The subselect details to apply
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcParameterConsumer Consumer for all JdbcParameter references created
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @return The select-statement, or {@code null} if the foreign key columns are not
+	 * available in the query which loaded the owners
+	 *
+	 * @see EntityLoaderSubSelectFetch
+	 */
+	public static SelectStatement createSubSelectFetchSelect(
+			ToOneAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			SessionFactoryImplementor sessionFactory) {
+		final EntityMappingType entityMappingType = attributeMapping.getEntityMappingType();
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				entityMappingType,
+				null,
+				entityMappingType.getIdentifierMapping(),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions,
+				jdbcParameterConsumer
+		);
+
+		return process.generateSelect( attributeMapping, subselect );
+	}
+
 	private final SqlAstCreationContext creationContext;
 	private final Loadable loadable;
 	private final List<? extends ModelPart> partsToSelect;
@@ -1105,6 +1146,116 @@ public class LoaderSelectBuilder {
 		return subQuery;
 	}
 
+	private SelectStatement generateSelect(ToOneAttributeMapping attributeMapping, SubselectFetch subselect) {
+		// we generate:
+		// 			select ...
+		// 			from target_table t
+		// 			where t.id in (
+		//      		select o.fk
+		//				from owner_table o
+		//				where <original restriction>
+		// 			)
+
+		final QuerySpec subQuery = generateSubSelect( attributeMapping, subselect );
+		if ( subQuery == null ) {
+			return null;
+		}
+
+		final QuerySpec rootQuerySpec = new QuerySpec( true );
+
+		final NavigablePath rootNavigablePath = new NavigablePath( loadable.getRootPathName() );
+
+		// We need to initialize the acronymMap based on subselect.getLoadingSqlAst() to avoid alias collisions
+		final Map<String, TableReference> tableReferences = AliasCollector.getTableReferences( subselect.getLoadingSqlAst() );
+		final LoaderSqlAstCreationState sqlAstCreationState = new LoaderSqlAstCreationState(
+				rootQuerySpec,
+				new SqlAliasBaseManager( tableReferences.keySet() ),
+				new SimpleFromClauseAccessImpl(),
+				lockOptions,
+				this::visitFetches,
+				true,
+				creationContext
+		);
+
+		final TableGroup rootTableGroup = loadable.createRootTableGroup(
+				true,
+				rootNavigablePath,
+				null,
+				() -> rootQuerySpec::applyPredicate,
+				sqlAstCreationState,
+				creationContext
+		);
+
+		rootQuerySpec.getFromClause().addRoot( rootTableGroup );
+		sqlAstCreationState.getFromClauseAccess().registerTableGroup( rootNavigablePath, rootTableGroup );
+
+		final DomainResult<?> domainResult = loadable.createDomainResult(
+				rootNavigablePath,
+				rootTableGroup,
+				null,
+				sqlAstCreationState
+		);
+
+		final ForeignKeyDescriptor fkDescriptor = attributeMapping.getForeignKeyDescriptor();
+		final SqlExpressionResolver sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
+		final List<ColumnReference> columnReferences = new ArrayList<>( fkDescriptor.getJdbcTypeCount() );
+		fkDescriptor.visitTargetSelectables(
+				(columnIndex, selection) -> {
+					final TableReference tableReference = rootTableGroup.resolveTableReference(
+							rootNavigablePath,
+							selection.getContainingTableExpression()
+					);
+					columnReferences.add(
+							(ColumnReference) sqlExpressionResolver.resolveSqlExpression( tableReference, selection )
+					);
+				}
+		);
+		final Expression targetExpression = columnReferences.size() == 1
+				? columnReferences.get( 0 )
+				: new SqlTuple( columnReferences, fkDescriptor );
+
+		rootQuerySpec.applyPredicate( new InSubQueryPredicate( targetExpression, subQuery, false ) );
+
+		applyFiltering( rootQuerySpec, rootTableGroup, (Restrictable) loadable, sqlAstCreationState );
+
+		return new SelectStatement( rootQuerySpec, singletonList( domainResult ) );
+	}
+
+	private QuerySpec generateSubSelect(ToOneAttributeMapping attributeMapping, SubselectFetch subselect) {
+		final ForeignKeyDescriptor fkDescriptor = attributeMapping.getForeignKeyDescriptor();
+		final QuerySpec loadingSqlAst = subselect.getLoadingSqlAst();
+		final TableGroup ownerTableGroup = subselect.getOwnerTableGroup();
+		final NavigablePath navigablePath = ownerTableGroup.getNavigablePath().append( attributeMapping.getAttributeName() );
+
+		final QuerySpec subQuery = new QuerySpec( false );
+		final List<SelectableMapping> keySelectables = new ArrayList<>( fkDescriptor.getJdbcTypeCount() );
+		fkDescriptor.visitKeySelectables( (columnIndex, selection) -> keySelectables.add( selection ) );
+		for ( int i = 0; i < keySelectables.size(); i++ ) {
+			final SelectableMapping selection = keySelectables.get( i );
+			// the loading SQL AST is shared, so we must not add table joins to it
+			final TableReference tableReference = ownerTableGroup.getTableReference(
+					navigablePath,
+					selection.getContainingTableExpression()
+			);
+			if ( tableReference == null ) {
+				return null;
+			}
+			subQuery.getSelectClause().addSqlSelection(
+					new SqlSelectionImpl(
+							i + 1,
+							i,
+							new ColumnReference( tableReference, selection )
+					)
+			);
+		}
+
+		// transfer the from-clause and the restriction
+		loadingSqlAst.getFromClause().visitRoots( subQuery.getFromClause()::addRoot );
+		subQuery.applyPredicate( loadingSqlAst.getWhereClauseRestrictions() );
+
+		return subQuery;
+	}
+
 	private void registerPluralTableGroupParts(FromClauseAccess fromClauseAccess, TableGroup tableGroup) {
 		if ( tableGroup instanceof PluralTableGroup ) {
 			final PluralTableGroup pluralTableGroup = (PluralTableGroup) tableGroup;
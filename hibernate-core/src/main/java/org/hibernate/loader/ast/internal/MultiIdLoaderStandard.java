@@ -10,7 +10,9 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -86,6 +88,71 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		}
 	}
 
+	@Override
+	public <K> List<T> loadStateless(K[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		assert ids != null;
+
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "#loadStateless(`%s`, ..)", entityDescriptor.getEntityName() );
+		}
+
+		final int maxBatchSize = sessionFactory.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize(
+						idJdbcTypeCount,
+						ids.length,
+						sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+				);
+
+		// there is no persistence context to resolve the loaded entities
+		// from, so map them by key to restore the order of the given ids
+		final EntityKey[] entityKeys = new EntityKey[ids.length];
+		final Map<EntityKey, Object> loadedEntities = new HashMap<>( ids.length );
+		final List<Object> idsInBatch = new ArrayList<>();
+
+		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id;
+			if ( coerce ) {
+				id = entityDescriptor.getIdentifierMapping().getJavaType().coerce( ids[i], session );
+			}
+			else {
+				id = ids[i];
+			}
+			entityKeys[i] = new EntityKey( id, entityDescriptor );
+			idsInBatch.add( id );
+
+			if ( idsInBatch.size() >= maxBatchSize ) {
+				collectLoadedEntities( loadEntitiesById( idsInBatch, lockOptions, session ), loadedEntities, session );
+				idsInBatch.clear();
+			}
+		}
+
+		if ( !idsInBatch.isEmpty() ) {
+			collectLoadedEntities( loadEntitiesById( idsInBatch, lockOptions, session ), loadedEntities, session );
+		}
+
+		final List<Object> result = CollectionHelper.arrayList( ids.length );
+		for ( EntityKey entityKey : entityKeys ) {
+			result.add( loadedEntities.get( entityKey ) );
+		}
+
+		//noinspection unchecked
+		return (List<T>) result;
+	}
+
+	private void collectLoadedEntities(
+			List<T> entities,
+			Map<EntityKey, Object> loadedEntities,
+			SharedSessionContractImplementor session) {
+		for ( T entity : entities ) {
+			if ( entity != null ) {
+				final Object id = entityDescriptor.getIdentifier( entity, session );
+				loadedEntities.put( new EntityKey( id, entityDescriptor ), entity );
+			}
+		}
+	}
+
 	private List<T> performOrderedMultiLoad(
 			Object[] ids,
 			EventSource session,
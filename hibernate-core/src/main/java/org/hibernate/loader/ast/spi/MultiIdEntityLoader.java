@@ -6,8 +6,10 @@
  */
 package org.hibernate.loader.ast.spi;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
@@ -19,4 +21,21 @@ public interface MultiIdEntityLoader<T> extends MultiLoader<T> {
 	 * Load multiple entities by id.  The exact result depends on the passed options.
 	 */
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id on behalf of a stateless session, without
+	 * checking a persistence context or the second-level cache.  The result
+	 * has the order of the given ids, with {@code null} for each id matching
+	 * no row.
+	 *
+	 * @since 6.2
+	 */
+	default <K> List<T> loadStateless(K[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		final List<T> result = new ArrayList<>( ids.length );
+		for ( K id : ids ) {
+			//noinspection unchecked
+			result.add( (T) getLoadable().getEntityPersister().load( id, null, lockOptions, session ) );
+		}
+		return result;
+	}
 }
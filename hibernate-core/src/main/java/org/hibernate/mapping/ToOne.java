@@ -35,6 +35,7 @@ public abstract class ToOne extends SimpleValue implements Fetchable, SortableVa
 	private boolean unwrapProxy;
 	private boolean unwrapProxyImplicit;
 	private boolean referenceToPrimaryKey = true;
+	private boolean subselectLoadable;
 
 	protected ToOne(MetadataBuildingContext buildingContext, Table table) {
 		super( buildingContext, table );
@@ -51,6 +52,7 @@ public abstract class ToOne extends SimpleValue implements Fetchable, SortableVa
 		this.unwrapProxy = original.unwrapProxy;
 		this.unwrapProxyImplicit = original.unwrapProxyImplicit;
 		this.referenceToPrimaryKey = original.referenceToPrimaryKey;
+		this.subselectLoadable = original.subselectLoadable;
 	}
 
 	public FetchMode getFetchMode() {
@@ -151,6 +153,18 @@ public abstract class ToOne extends SimpleValue implements Fetchable, SortableVa
 		this.unwrapProxyImplicit = unwrapProxyImplicit;
 	}
 
+	public boolean isSubselectLoadable() {
+		return subselectLoadable;
+	}
+
+	/**
+	 * Should proxies of the associated entity be initialized by a subselect
+	 * re-executing the query which loaded the owners of the association?
+	 */
+	public void setSubselectLoadable(boolean subselectLoadable) {
+		this.subselectLoadable = subselectLoadable;
+	}
+
 	public boolean isReferenceToPrimaryKey() {
 		return referenceToPrimaryKey;
 	}
@@ -140,6 +140,7 @@ public class ToOneAttributeMapping
 	private final boolean isInternalLoadNullable;
 	private final NotFoundAction notFoundAction;
 	private final boolean unwrapProxy;
+	private final boolean subselectLoadable;
 	private final boolean isOptional;
 	private final EntityMappingType entityMappingType;
 
@@ -216,6 +217,7 @@ public class ToOneAttributeMapping
 		this.isNullable = bootValue.isNullable();
 		this.referencedPropertyName = bootValue.getReferencedPropertyName();
 		this.unwrapProxy = bootValue.isUnwrapProxy();
+		this.subselectLoadable = bootValue.isSubselectLoadable();
 		this.entityMappingType = entityMappingType;
 
 		this.navigableRole = navigableRole;
@@ -627,6 +629,7 @@ public class ToOneAttributeMapping
 		this.isOptional = original.isOptional;
 		this.notFoundAction = original.notFoundAction;
 		this.unwrapProxy = original.unwrapProxy;
+		this.subselectLoadable = original.subselectLoadable;
 		this.entityMappingType = original.entityMappingType;
 		this.referencedPropertyName = original.referencedPropertyName;
 		this.targetKeyPropertyName = original.targetKeyPropertyName;
@@ -2018,6 +2021,16 @@ public class ToOneAttributeMapping
 		return unwrapProxy;
 	}
 
+	/**
+	 * Are proxies of the associated entity initialized by re-executing
+	 * the query which loaded the owner, as a subselect?
+	 *
+	 * @see org.hibernate.annotations.FetchMode#SUBSELECT
+	 */
+	public boolean isSubselectLoadable() {
+		return subselectLoadable;
+	}
+
 	@Override
 	public EntityMappingType getAssociatedEntityMappingType() {
 		return getEntityMappingType();
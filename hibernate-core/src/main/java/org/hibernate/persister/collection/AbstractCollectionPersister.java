@@ -156,6 +156,9 @@ public abstract class AbstractCollectionPersister
 	private final String sqlDetectRowByIndexString;
 	private final String sqlDetectRowByElementString;
 
+	// the number of elements whose existence is detected by a single query
+	private static final int MAX_ELEMENTS_PER_PROBE = 50;
+
 	protected final boolean hasWhere;
 	protected final String sqlWhereString;
 	private final String sqlWhereStringTemplate;
@@ -1524,6 +1527,96 @@ public abstract class AbstractCollectionPersister
 		}
 	}
 
+	@Override
+	public boolean[] elementsExist(Object key, Object[] elements, SharedSessionContractImplementor session) {
+		final boolean[] exist = new boolean[elements.length];
+		for ( int start = 0; start < elements.length; start += MAX_ELEMENTS_PER_PROBE ) {
+			final int end = Math.min( elements.length, start + MAX_ELEMENTS_PER_PROBE );
+			if ( end - start == 1 ) {
+				exist[start] = elementExists( key, elements[start], session );
+			}
+			else {
+				existing( key, elements, start, end, exist, session );
+			}
+		}
+		return exist;
+	}
+
+	/**
+	 * Detect the existence of a chunk of elements using a union of the
+	 * row detection query, where each branch selects the position of the
+	 * element it detects.
+	 */
+	private void existing(
+			Object key,
+			Object[] elements,
+			int start,
+			int end,
+			boolean[] exist,
+			SharedSessionContractImplementor session) {
+		final StringBuilder sql = new StringBuilder();
+		for ( int i = start; i < end; i++ ) {
+			if ( i > start ) {
+				sql.append( " union all " );
+			}
+			sql.append(
+					new SimpleSelect( dialect )
+							.setTableName( getTableName() )
+							.addCondition( getKeyColumnNames(), "=?" )
+							.addCondition( getElementColumnNames(), "=?" )
+							.addCondition( elementFormulas, "=?" )
+							.addWhereToken( sqlWhereString )
+							.addColumn( Integer.toString( i ) )
+							.toStatementString()
+			);
+		}
+		final String sqlString = sql.toString();
+		try {
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			final PreparedStatement st = jdbcCoordinator
+					.getStatementPreparer()
+					.prepareStatement( sqlString );
+			try {
+				final int keySpan = getKeyType().getColumnSpan( getFactory() );
+				final int elementSpan = getElementType().getColumnSpan( getFactory() );
+				int position = 1;
+				for ( int i = start; i < end; i++ ) {
+					getKeyType().nullSafeSet( st, key, position, session );
+					position += keySpan;
+					getElementType().nullSafeSet( st, elements[i], position, session );
+					position += elementSpan;
+				}
+				final ResultSet rs = jdbcCoordinator.getResultSetReturn().extract( st );
+				try {
+					while ( rs.next() ) {
+						exist[rs.getInt( 1 )] = true;
+					}
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( rs, st );
+				}
+			}
+			catch ( TransientObjectException e ) {
+				// a transient element doesn't exist, but the others might
+				for ( int i = start; i < end; i++ ) {
+					exist[i] = elementExists( key, elements[i], session );
+				}
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( st );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw getSQLExceptionHelper().convert(
+					sqle,
+					"could not check row existence: " +
+							MessageHelper.collectionInfoString( this, key, getFactory() ),
+					sqlString
+			);
+		}
+	}
+
 	@Override
 	public Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner) {
 		return collectionElementLoaderByIndex.load( key, index, session );
@@ -322,6 +322,24 @@ public interface CollectionPersister extends Restrictable {
 	int getSize(Object key, SharedSessionContractImplementor session);
 	boolean indexExists(Object key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Object key, Object element, SharedSessionContractImplementor session);
+
+	/**
+	 * Determine, for each of the given elements, whether it belongs to the
+	 * collection with the given key. Implementations should use a single
+	 * round trip to the database, instead of one per element.
+	 *
+	 * @return An array holding, for each element, whether it exists
+	 *
+	 * @since 6.2
+	 */
+	default boolean[] elementsExist(Object key, Object[] elements, SharedSessionContractImplementor session) {
+		final boolean[] exist = new boolean[elements.length];
+		for ( int i = 0; i < elements.length; i++ ) {
+			exist[i] = elementExists( key, elements[i], session );
+		}
+		return exist;
+	}
+
 	Object getElementByIndex(Object key, Object index, SharedSessionContractImplementor session, Object owner);
 	int getBatchSize();
 
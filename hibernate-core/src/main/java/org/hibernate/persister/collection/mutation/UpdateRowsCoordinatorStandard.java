@@ -18,6 +18,7 @@ import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.internal.MutationOperationGroupSingle;
 
@@ -56,8 +57,13 @@ public class UpdateRowsCoordinatorStandard extends AbstractUpdateRowsCoordinator
 		);
 
 		try {
-			final Iterator<?> entries = collection.entries( getMutationTarget().getTargetPart()
-					.getCollectionDescriptor() );
+			final CollectionPersister collectionDescriptor = getMutationTarget().getTargetPart().getCollectionDescriptor();
+			final Iterator<?> entries = collection.entries( collectionDescriptor );
+			// the rows of the leading entries which were not modified are up-to-date,
+			// unless an element might have been mutated in place
+			final int firstModifiedPosition = collectionDescriptor.getElementType().isMutable()
+					? 0
+					: collection.getUnmodifiedPrefixSize();
 			int count = 0;
 
 			if ( collection.isElementRemoved() ) {
@@ -68,7 +74,7 @@ public class UpdateRowsCoordinatorStandard extends AbstractUpdateRowsCoordinator
 					elements.add( entries.next() );
 				}
 
-				for ( int i = elements.size() - 1; i >= 0; i-- ) {
+				for ( int i = elements.size() - 1; i >= firstModifiedPosition; i-- ) {
 					final Object entry = elements.get( i );
 					final boolean updated = processRow(
 							key,
@@ -87,6 +93,10 @@ public class UpdateRowsCoordinatorStandard extends AbstractUpdateRowsCoordinator
 				int position = 0;
 				while ( entries.hasNext() ) {
 					final Object entry = entries.next();
+					if ( position < firstModifiedPosition ) {
+						position++;
+						continue;
+					}
 					final boolean updated = processRow(
 							key,
 							collection,
@@ -76,6 +76,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CollectionKey;
@@ -91,6 +92,8 @@ import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -118,6 +121,7 @@ import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
 import org.hibernate.loader.ast.internal.CacheEntityLoaderHelper;
+import org.hibernate.loader.ast.internal.EntityLoaderSubSelectFetch;
 import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.internal.MultiIdLoaderStandard;
@@ -146,6 +150,7 @@ import org.hibernate.mapping.RootClass;
 import org.hibernate.mapping.Selectable;
 import org.hibernate.mapping.Subclass;
 import org.hibernate.mapping.Table;
+import org.hibernate.mapping.ToOne;
 import org.hibernate.mapping.Value;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.metamodel.mapping.Association;
@@ -196,6 +201,7 @@ import org.hibernate.persister.entity.mutation.DeleteCoordinator;
 import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.persister.entity.mutation.EntityTableMapping;
 import org.hibernate.persister.entity.mutation.InsertCoordinator;
+import org.hibernate.persister.entity.mutation.MergeCoordinator;
 import org.hibernate.persister.entity.mutation.UpdateCoordinator;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorNoOp;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorStandard;
@@ -218,6 +224,7 @@ import org.hibernate.sql.Alias;
 import org.hibernate.sql.Delete;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
+import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.spi.SimpleFromClauseAccessImpl;
 import org.hibernate.sql.ast.spi.SqlAliasBase;
@@ -248,7 +255,11 @@ import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectClause;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.results.graph.DomainResult;
@@ -260,7 +271,9 @@ import org.hibernate.sql.results.graph.FetchableContainer;
 import org.hibernate.sql.results.graph.embeddable.EmbeddableResultGraphNode;
 import org.hibernate.sql.results.graph.entity.internal.EntityResultImpl;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
+import org.hibernate.sql.results.internal.RowTransformerDatabaseSnapshotImpl;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.NonIdentifierAttribute;
 import org.hibernate.tuple.entity.EntityMetamodel;
@@ -354,6 +367,8 @@ public abstract class AbstractEntityPersister
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
 	private final boolean hasSubselectLoadableCollections;
+	private final boolean hasSubselectLoadableToOnes;
+	private boolean referencedBySubselectLoadableToOne;
 	private final boolean hasPartitionedSelectionMapping;
 	private final boolean hasCollectionNotReferencingPK;
 	protected final String rowIdName;
@@ -373,6 +388,7 @@ public abstract class AbstractEntityPersister
 	private final boolean[][] propertyColumnUpdateable;
 	private final boolean[][] propertyColumnInsertable;
 	private final boolean[] propertySelectable;
+	private final DirtyHelper dirtyHelper;
 
 	private final List<Integer> lobProperties;
 
@@ -407,6 +423,7 @@ public abstract class AbstractEntityPersister
 	private EntityTableMapping[] tableMappings;
 	private InsertCoordinator insertCoordinator;
 	private UpdateCoordinator updateCoordinator;
+	private volatile UpdateCoordinator mergeCoordinator;
 	private DeleteCoordinator deleteCoordinator;
 
 	protected Expectation[] insertExpectations;
@@ -416,6 +433,7 @@ public abstract class AbstractEntityPersister
 	// SQL strings
 	private String sqlVersionSelectString;
 	private Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
+	private final Map<String, Map<Integer, LazyBatchLoadPlan>> lazyBatchLoadPlans = new ConcurrentHashMap<>();
 
 
 	private GeneratedValuesProcessor insertGeneratedValuesProcessor;
@@ -430,6 +448,8 @@ public abstract class AbstractEntityPersister
 	protected String[] customSQLDelete;
 
 	private InsertGeneratedIdentifierDelegate identityDelegate;
+	private boolean canBatchIdentityInserts;
+	private boolean canInsertMultipleRows;
 	private String identitySelectString;
 
 	private boolean[] tableHasColumns;
@@ -533,6 +553,7 @@ public abstract class AbstractEntityPersister
 		}
 		batchSize = batch;
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
+		hasSubselectLoadableToOnes = hasSubselectLoadableToOnes( persistentClass.getPropertyClosure() );
 		hasPartitionedSelectionMapping = persistentClass.hasPartitionedSelectionMapping();
 		hasCollectionNotReferencingPK = persistentClass.hasCollectionNotReferencingPK();
 
@@ -700,6 +721,11 @@ public abstract class AbstractEntityPersister
 			}
 		}
 		lobProperties = toSmallList( lobPropertiesLocalCollector );
+		dirtyHelper = new DirtyHelper(
+				entityMetamodel.getProperties(),
+				propertyColumnUpdateable,
+				entityMetamodel.getPropertyUpdateability()
+		);
 		hasFormulaProperties = foundFormula;
 		lazyPropertyColumnAliases = to2DStringArray( lazyColAliases );
 		lazyPropertyNames = toStringArray( lazyNames );
@@ -1171,6 +1197,33 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Create the SQL AST for loading the given lazy fetch group of several
+	 * entities at once.  The identifier is selected first, followed by the
+	 * attributes of the fetch group.
+	 */
+	private SelectStatement createLazyBatchSelect(
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			int numberOfIds,
+			List<JdbcParameter> jdbcParameters) {
+		final List<ModelPart> partsToSelect = new ArrayList<>( fetchGroupAttributeDescriptors.size() + 1 );
+		partsToSelect.add( getIdentifierMapping() );
+		for ( LazyAttributeDescriptor lazyAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			partsToSelect.add( getAttributeMapping( getSubclassPropertyIndex( lazyAttributeDescriptor.getName() ) ) );
+		}
+		return LoaderSelectBuilder.createSelect(
+				this,
+				partsToSelect,
+				getIdentifierMapping(),
+				null,
+				numberOfIds,
+				LoadQueryInfluencers.NONE,
+				LockOptions.NONE,
+				jdbcParameters::add,
+				factory
+		);
+	}
+
 	@Override
 	public String getSqlAliasStem() {
 		return sqlAliasStem;
@@ -1490,46 +1543,35 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
-
 		final SingleIdArrayLoadPlan lazySelect = getSQLLazySelectLoadPlan( fetchGroup );
 
+		if ( lazySelect != null && batchSize > 1 && entry != null
+				&& isBatchableFetchGroup( fetchGroupAttributeDescriptors ) ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Object> batch = persistenceContext.getBatchFetchQueue().getLazyAttributeBatch(
+					entry.getEntityKey(),
+					entity,
+					candidate -> isLazyFetchGroupBatchCandidate( candidate, persistenceContext.getEntry( candidate ), fieldName ),
+					batchSize
+			);
+			if ( batch.size() > 1 ) {
+				return initializeLazyPropertiesInBatch( fieldName, fetchGroup, fetchGroupAttributeDescriptors, batch, session );
+			}
+		}
+
 		try {
-			Object result = null;
 			final Object[] values = lazySelect.load( id, session );
-			int i = 0;
-			for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-				final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
-
-				if ( previousInitialized ) {
-					// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
-					// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-					// 		we know the selected value (see selectedValue below)
-					//		we can use the attribute Type to tell us if they are the same
-					//
-					//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
-					//			currently considered dirty, and if really not dirty we would do the un-marking
-					//
-					//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
-
-					// its already been initialized (e.g. by a write) so we don't want to overwrite
-					i++;
-					continue;
-				}
-
-				final Object selectedValue = values[i++];
-				final boolean set = initializeLazyProperty(
-						fieldName,
-						entity,
-						entry,
-						fetchGroupAttributeDescriptor.getLazyIndex(),
-						selectedValue
-				);
-				if ( set ) {
-					result = selectedValue;
-					interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
-				}
-
+			final Object result = initializeLazyProperties(
+					fieldName,
+					entity,
+					entry,
+					interceptor,
+					fetchGroupAttributeDescriptors,
+					values,
+					0
+			);
+			if ( batchSize > 1 && entry != null ) {
+				removeInitializedLazyEntity( entry, interceptor, session );
 			}
 
 			LOG.trace( "Done initializing lazy properties" );
@@ -1545,6 +1587,262 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Initialize the lazy fetch group of all the given entities using a single
+	 * SELECT restricted to their identifiers.
+	 *
+	 * @param batch The entities to initialize, the entity which triggered the
+	 * initialization being the first one
+	 */
+	private Object initializeLazyPropertiesInBatch(
+			final String fieldName,
+			final String fetchGroup,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final List<Object> batch,
+			final SharedSessionContractImplementor session) {
+		final int numberOfIds = batch.size();
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Batch initializing lazy properties of %s instances of %s", numberOfIds, getEntityName() );
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry[] entries = new EntityEntry[numberOfIds];
+		for ( int i = 0; i < numberOfIds; i++ ) {
+			entries[i] = persistenceContext.getEntry( batch.get( i ) );
+		}
+
+		final LazyBatchLoadPlan loadPlan = getLazyBatchLoadPlan(
+				fetchGroup,
+				fetchGroupAttributeDescriptors,
+				getPaddedBatchSize( numberOfIds )
+		);
+		final EntityIdentifierMapping identifierMapping = getIdentifierMapping();
+		final List<JdbcParameter> jdbcParameters = loadPlan.jdbcParameters;
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		int offset = 0;
+		for ( int i = 0; offset < jdbcParameters.size(); i++ ) {
+			// the padding repeats the identifier of the entity being initialized
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					entries[i < numberOfIds ? i : 0].getId(),
+					Clause.WHERE,
+					offset,
+					identifierMapping,
+					jdbcParameters,
+					session
+			);
+		}
+
+		final JdbcOperationQuerySelect jdbcSelect = loadPlan.jdbcSelect;
+		try {
+			final List<Object[]> rows = session.getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					new BaseExecutionContext( session ),
+					RowTransformerDatabaseSnapshotImpl.instance(),
+					ListResultsConsumer.UniqueSemantic.NONE
+			);
+
+			final Map<EntityKey, Object[]> rowsByKey = new HashMap<>( rows.size() );
+			for ( Object[] row : rows ) {
+				rowsByKey.put( session.generateEntityKey( row[0], this ), row );
+			}
+
+			Object result = null;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				final Object entity = batch.get( i );
+				final EntityEntry entry = entries[i];
+				final Object[] row = rowsByKey.get( entry.getEntityKey() );
+				if ( row != null ) {
+					final PersistentAttributeInterceptor interceptor =
+							asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor();
+					final Object value = initializeLazyProperties(
+							fieldName,
+							entity,
+							entry,
+							interceptor,
+							fetchGroupAttributeDescriptors,
+							row,
+							1
+					);
+					if ( i == 0 ) {
+						result = value;
+					}
+					removeInitializedLazyEntity( entry, interceptor, session );
+				}
+			}
+
+			LOG.trace( "Done initializing lazy properties" );
+
+			return result;
+		}
+		catch ( JDBCException ex ) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					ex.getSQLException(),
+					"could not batch initialize lazy properties: " + getEntityName(),
+					jdbcSelect.getSqlString()
+			);
+		}
+	}
+
+	/**
+	 * Once all its lazy attributes are initialized, an entity is not a candidate
+	 * for batch initialization anymore.
+	 */
+	private static void removeInitializedLazyEntity(
+			EntityEntry entry,
+			PersistentAttributeInterceptor interceptor,
+			SharedSessionContractImplementor session) {
+		if ( interceptor instanceof LazyAttributeLoadingInterceptor
+				&& !( (LazyAttributeLoadingInterceptor) interceptor ).hasAnyUninitializedAttributes() ) {
+			session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.removeBatchLoadableLazyEntity( entry.getEntityKey() );
+		}
+	}
+
+	/**
+	 * The size of the batch actually loaded for the given number of entities, so
+	 * that only a few distinct statements need to be translated and cached: one
+	 * for each number of entities up to 10, and otherwise {@link #batchSize}
+	 * halved as many times as possible without going below 10.
+	 */
+	private int getPaddedBatchSize(int numberOfIds) {
+		int paddedBatchSize = batchSize;
+		while ( paddedBatchSize > numberOfIds ) {
+			final int nextBatchSize;
+			if ( paddedBatchSize <= 10 ) {
+				nextBatchSize = paddedBatchSize - 1;
+			}
+			else if ( paddedBatchSize / 2 < 10 ) {
+				nextBatchSize = 10;
+			}
+			else {
+				nextBatchSize = paddedBatchSize / 2;
+			}
+			if ( nextBatchSize < numberOfIds ) {
+				break;
+			}
+			paddedBatchSize = nextBatchSize;
+		}
+		return paddedBatchSize;
+	}
+
+	private LazyBatchLoadPlan getLazyBatchLoadPlan(
+			String fetchGroup,
+			List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			int numberOfIds) {
+		return lazyBatchLoadPlans.computeIfAbsent( fetchGroup, k -> new ConcurrentHashMap<>() )
+				.computeIfAbsent(
+						numberOfIds,
+						k -> {
+							final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+							final SelectStatement sqlAst =
+									createLazyBatchSelect( fetchGroupAttributeDescriptors, numberOfIds, jdbcParameters );
+							final JdbcOperationQuerySelect jdbcSelect = factory.getJdbcServices()
+									.getJdbcEnvironment()
+									.getSqlAstTranslatorFactory()
+									.buildSelectTranslator( factory, sqlAst )
+									.translate( null, QueryOptions.NONE );
+							return new LazyBatchLoadPlan( jdbcSelect, jdbcParameters );
+						}
+				);
+	}
+
+	/**
+	 * The translated SELECT initializing a lazy fetch group of a given number of entities
+	 */
+	private static class LazyBatchLoadPlan {
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final List<JdbcParameter> jdbcParameters;
+
+		private LazyBatchLoadPlan(JdbcOperationQuerySelect jdbcSelect, List<JdbcParameter> jdbcParameters) {
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameters = jdbcParameters;
+		}
+	}
+
+	/**
+	 * Apply the values selected for a lazy fetch group to the given entity,
+	 * skipping the attributes which were already initialized.
+	 *
+	 * @param values The selected values
+	 * @param position The position of the value of the first attribute of
+	 * the fetch group in the selected values
+	 *
+	 * @return The value of the attribute which triggered the initialization
+	 */
+	private Object initializeLazyProperties(
+			final String fieldName,
+			final Object entity,
+			final EntityEntry entry,
+			final PersistentAttributeInterceptor interceptor,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final Object[] values,
+			final int position) {
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+		Object result = null;
+		int i = position;
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
+
+			if ( previousInitialized ) {
+				// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
+				// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+				// 		we know the selected value (see selectedValue below)
+				//		we can use the attribute Type to tell us if they are the same
+				//
+				//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
+				//			currently considered dirty, and if really not dirty we would do the un-marking
+				//
+				//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+
+				// its already been initialized (e.g. by a write) so we don't want to overwrite
+				i++;
+				continue;
+			}
+
+			final Object selectedValue = values[i++];
+			final boolean set = initializeLazyProperty(
+					fieldName,
+					entity,
+					entry,
+					fetchGroupAttributeDescriptor.getLazyIndex(),
+					selectedValue
+			);
+			if ( set ) {
+				result = selectedValue;
+				interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Fetch groups containing collections are always loaded one entity at a
+	 * time, since the interceptor needs to see the loaded collection.
+	 */
+	private static boolean isBatchableFetchGroup(List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			if ( fetchGroupAttributeDescriptor.getType().isCollectionType() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isLazyFetchGroupBatchCandidate(Object entity, EntityEntry entry, String fieldName) {
+		if ( entry == null
+				|| entry.getPersister() != this
+				|| entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY
+				|| !isPersistentAttributeInterceptable( entity ) ) {
+			return false;
+		}
+		final PersistentAttributeInterceptor interceptor =
+				asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor();
+		return interceptor instanceof LazyAttributeLoadingInterceptor
+			&& !( (LazyAttributeLoadingInterceptor) interceptor ).isAttributeLoaded( fieldName );
+	}
+
 	protected Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -2761,6 +3059,28 @@ public abstract class AbstractEntityPersister
 		);
 	}
 
+	@Override
+	public void merge(Object id, Object[] values, Object object, SharedSessionContractImplementor session) {
+		getMergeCoordinator().coordinateUpdate( object, id, null, values, null, null, null, false, session );
+	}
+
+	/**
+	 * The coordinator for {@link #merge}, which is only built when first
+	 * needed, since most entities are never merged this way
+	 */
+	protected UpdateCoordinator getMergeCoordinator() {
+		UpdateCoordinator coordinator = mergeCoordinator;
+		if ( coordinator == null ) {
+			coordinator = buildMergeCoordinator();
+			mergeCoordinator = coordinator;
+		}
+		return coordinator;
+	}
+
+	protected UpdateCoordinator buildMergeCoordinator() {
+		return new MergeCoordinator( this, factory );
+	}
+
 	@Internal
 	public boolean hasLazyDirtyFields(int[] dirtyFields) {
 		final boolean[] propertyLaziness = getPropertyLaziness();
@@ -2787,6 +3107,57 @@ public abstract class AbstractEntityPersister
 		insertCoordinator.coordinateInsert( id, fields, object, session );
 	}
 
+	@Override
+	public boolean canBatchIdentityInserts() {
+		return canBatchIdentityInserts;
+	}
+
+	@Override
+	public Object[] insertBatch(List<Object[]> fields, List<Object> objects, SharedSessionContractImplementor session) {
+		return insertCoordinator.coordinateIdentityInsertBatch( fields, objects, session );
+	}
+
+	@Override
+	public void bulkInsert(
+			List<Object> ids,
+			List<Object[]> fields,
+			List<Object> objects,
+			int maxRowsPerStatement,
+			SharedSessionContractImplementor session) {
+		if ( canInsertMultipleRows && objects.size() > 1 ) {
+			insertCoordinator.coordinateMultiRowInsert( ids, fields, objects, maxRowsPerStatement, session );
+		}
+		else {
+			for ( int i = 0; i < objects.size(); i++ ) {
+				insertCoordinator.coordinateInsert( ids.get( i ), fields.get( i ), objects.get( i ), session );
+			}
+		}
+	}
+
+	/**
+	 * Whether the entity state refers to other entities only directly. The
+	 * batched identity inserts only check such references for entities
+	 * inserted by the same batch.
+	 */
+	private boolean hasOnlyTopLevelAssociations() {
+		for ( Type type : getPropertyTypes() ) {
+			if ( type.isComponentType() && hasAssociation( (CompositeType) type ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasAssociation(CompositeType compositeType) {
+		for ( Type subtype : compositeType.getSubtypes() ) {
+			if ( subtype.isAssociationType() && !subtype.isCollectionType()
+					|| subtype.isComponentType() && hasAssociation( (CompositeType) subtype ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected EntityTableMapping[] getTableMappings() {
 		return tableMappings;
 	}
@@ -3209,6 +3580,10 @@ public abstract class AbstractEntityPersister
 
 		tableMappings = buildTableMappings();
 		insertCoordinator = buildInsertCoordinator();
+		canBatchIdentityInserts = identityDelegate != null
+				&& insertCoordinator.canBatchIdentityInserts()
+				&& hasOnlyTopLevelAssociations();
+		canInsertMultipleRows = insertCoordinator.canInsertMultipleRows();
 		updateCoordinator = buildUpdateCoordinator();
 		deleteCoordinator = buildDeleteCoordinator();
 
@@ -3225,9 +3600,40 @@ public abstract class AbstractEntityPersister
 		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
 
+		if ( hasSubselectLoadableToOnes ) {
+			registerSubselectLoadableToOneTargets();
+		}
+
 		logStaticSQL();
 	}
 
+	private static boolean hasSubselectLoadableToOnes(List<Property> properties) {
+		for ( Property property : properties ) {
+			final Value value = property.getValue();
+			if ( value instanceof ToOne && ( (ToOne) value ).isSubselectLoadable() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Let the entities referenced by sub-select-fetchable to-one associations
+	 * know that their proxies might be initialized by a sub-select.
+	 */
+	private void registerSubselectLoadableToOneTargets() {
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			if ( attributeMapping instanceof ToOneAttributeMapping ) {
+				final ToOneAttributeMapping toOneAttributeMapping = (ToOneAttributeMapping) attributeMapping;
+				final EntityPersister target = toOneAttributeMapping.getEntityMappingType().getEntityPersister();
+				if ( toOneAttributeMapping.isSubselectLoadable() && target instanceof AbstractEntityPersister ) {
+					( (AbstractEntityPersister) target ).referencedBySubselectLoadableToOne = true;
+				}
+			}
+		}
+	}
+
 	private EntityTableMapping findTableMapping(String tableName) {
 		for ( int i = 0; i < tableMappings.length; i++ ) {
 			if ( tableMappings[i].getTableName().equals( tableName ) ) {
@@ -3494,6 +3900,12 @@ public abstract class AbstractEntityPersister
 		}
 
 		if ( optionalObject == null ) {
+			if ( referencedBySubselectLoadableToOne && !lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+				final EntityLoaderSubSelectFetch subSelectLoader = resolveSubSelectLoader( id, session );
+				if ( subSelectLoader != null ) {
+					return subSelectLoader.load( id, session );
+				}
+			}
 			return singleIdEntityLoader.load( id, lockOptions, readOnly, session );
 		}
 		else {
@@ -3501,6 +3913,30 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * If a proxy of this entity was created for a sub-select-fetchable to-one
+	 * association, the loader which initializes all proxies created by the
+	 * same query.
+	 */
+	private EntityLoaderSubSelectFetch resolveSubSelectLoader(Object id, SharedSessionContractImplementor session) {
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		final SubselectFetch subselect = batchFetchQueue.getSubselect( session.generateEntityKey( id, this ) );
+		if ( subselect == null || !( subselect.getEntityModelPart() instanceof ToOneAttributeMapping ) ) {
+			return null;
+		}
+
+		final EntityLoaderSubSelectFetch subSelectLoader = new EntityLoaderSubSelectFetch(
+				(ToOneAttributeMapping) subselect.getEntityModelPart(),
+				subselect,
+				session
+		);
+		if ( !subSelectLoader.isApplicable() ) {
+			subSelectLoader.discard( batchFetchQueue );
+			return null;
+		}
+		return subSelectLoader;
+	}
+
 	public SingleIdEntityLoader<?> getSingleIdEntityLoader() {
 		return singleIdEntityLoader;
 	}
@@ -3559,6 +3995,11 @@ public abstract class AbstractEntityPersister
 		return multiIdEntityLoader.load( ids, loadOptions, session );
 	}
 
+	@Override
+	public List<?> multiLoadStateless(Object[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		return multiIdEntityLoader.loadStateless( ids, lockOptions, session );
+	}
+
 	@Override
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		if ( affectingFetchProfileNames == null ) {
@@ -3628,13 +4069,7 @@ public abstract class AbstractEntityPersister
 	@Override
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = dirtyHelper.findDirty( currentState, previousState, session );
 		if ( props == null ) {
 			return null;
 		}
@@ -3658,14 +4093,7 @@ public abstract class AbstractEntityPersister
 	@Override
 	public int[] findModified(Object[] old, Object[] current, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findModified(
-				entityMetamodel.getProperties(),
-				current,
-				old,
-				propertyColumnUpdateable,
-				getPropertyUpdateability(),
-				session
-		);
+		int[] props = dirtyHelper.findModified( current, old, session );
 		if ( props == null ) {
 			return null;
 		}
@@ -4083,6 +4511,15 @@ public abstract class AbstractEntityPersister
 			if ( interceptor.getLinkedSession() == null ) {
 				interceptor.setSession( session );
 			}
+			if ( batchSize > 1 && session.isEventSource()
+					&& interceptor instanceof LazyAttributeLoadingInterceptor
+					&& ( (LazyAttributeLoadingInterceptor) interceptor ).hasAnyUninitializedAttributes() ) {
+				// the lazy attributes of entities loaded together are initialized together
+				session.getPersistenceContextInternal().getBatchFetchQueue().addBatchLoadableLazyEntity(
+						session.generateEntityKey( interceptor.getIdentifier(), this ),
+						entity
+				);
+			}
 		}
 
 		// clear the fields that are marked as dirty in the dirtiness tracker
@@ -4437,6 +4874,11 @@ public abstract class AbstractEntityPersister
 		return hasSubselectLoadableCollections;
 	}
 
+	@Override
+	public boolean hasSubselectLoadableToOnes() {
+		return hasSubselectLoadableToOnes;
+	}
+
 	@Override
 	public boolean hasCollectionNotReferencingPK() {
 		return hasCollectionNotReferencingPK;
@@ -6,67 +6,143 @@
  */
 package org.hibernate.persister.entity;
 
+import java.util.Objects;
+
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
-import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.tuple.NonIdentifierAttribute;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.CharacterJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.internal.BasicTypeImpl;
+import org.hibernate.type.internal.NamedBasicTypeImpl;
 
 /**
- * Operations for searching an array of property values for modified elements.
+ * Operations for searching an array of property values for modified elements,
+ * specialized for the properties of a single entity.
+ * <p>
+ * Everything which does not depend on the values being compared is resolved
+ * once, when the persister is built: the types of the properties, whether they
+ * are dirty checkable, and whether they are plain wrapper or string values,
+ * which are compared using {@link Object#equals} directly instead of going
+ * through the {@link Type}. Values which are the very same instance are never
+ * considered dirty, and the indices of the dirty properties are collected in a
+ * bitset, so that the returned array is allocated only once, at its final size.
  */
 class DirtyHelper {
+	private final int span;
+	private final Type[] types;
+	private final boolean[][] includeColumns;
+	private final boolean[] dirtyCheckable;
+	private final boolean[] modifiedCheckable;
+	private final boolean[] comparedByEquals;
+
+	/**
+	 * @param properties The property definitions
+	 * @param includeColumns Columns to be included in the checking, per property
+	 * @param includeProperties Identifies which properties participate in the modification check
+	 */
+	DirtyHelper(
+			NonIdentifierAttribute[] properties,
+			boolean[][] includeColumns,
+			boolean[] includeProperties) {
+		this.span = properties.length;
+		this.includeColumns = includeColumns;
+		this.types = new Type[span];
+		this.dirtyCheckable = new boolean[span];
+		this.modifiedCheckable = new boolean[span];
+		this.comparedByEquals = new boolean[span];
+		for ( int i = 0; i < span; i++ ) {
+			final Type type = properties[i].getType();
+			types[i] = type;
+			dirtyCheckable[i] = properties[i].isDirtyCheckable();
+			modifiedCheckable[i] = dirtyCheckable[i] && includeProperties[i];
+			comparedByEquals[i] = isComparedByEquals( type, includeColumns[i] );
+		}
+	}
+
+	/**
+	 * Is the given type a standard basic type of a wrapper or string value,
+	 * mapped to a single updatable column? For such a type, the outcome of
+	 * {@link Type#isDirty} and {@link Type#isModified} is the negation of
+	 * {@link Objects#equals}.
+	 */
+	private static boolean isComparedByEquals(Type type, boolean[] includeColumns) {
+		if ( includeColumns.length == 1 && includeColumns[0]
+				&& ( type.getClass() == BasicTypeImpl.class || type.getClass() == NamedBasicTypeImpl.class ) ) {
+			final Class<?> javaTypeClass = ( (BasicTypeImpl<?>) type ).getJavaTypeDescriptor().getClass();
+			return javaTypeClass == IntegerJavaType.class
+				|| javaTypeClass == LongJavaType.class
+				|| javaTypeClass == ShortJavaType.class
+				|| javaTypeClass == ByteJavaType.class
+				|| javaTypeClass == BooleanJavaType.class
+				|| javaTypeClass == CharacterJavaType.class
+				|| javaTypeClass == StringJavaType.class;
+		}
+		else {
+			return false;
+		}
+	}
+
 	/**
 	 * Determine if any of the given field values are dirty, returning an array containing
 	 * indices of the dirty fields.
 	 * <p>
 	 * If it is determined that no fields are dirty, null is returned.
 	 *
-	 * @param properties The property definitions
 	 * @param currentState The current state of the entity
 	 * @param previousState The baseline state of the entity
-	 * @param includeColumns Columns to be included in the dirty checking, per property
 	 * @param session The session from which the dirty check request originated.
 	 *
 	 * @return Array containing indices of the dirty properties, or null if no properties considered dirty.
 	 */
-	public static int[] findDirty(
-			final NonIdentifierAttribute[] properties,
+	int[] findDirty(
 			final Object[] currentState,
 			final Object[] previousState,
-			final boolean[][] includeColumns,
 			final SharedSessionContractImplementor session) {
-		int[] results = null;
-		int count = 0;
-		int span = properties.length;
-
+		long firstWord = 0;
+		long[] words = null;
 		for ( int i = 0; i < span; i++ ) {
-
-			if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
-				if ( results == null ) {
-					results = new int[span];
+			if ( isDirty( currentState[i], previousState[i], session, i ) ) {
+				if ( i < Long.SIZE ) {
+					firstWord |= 1L << i;
+				}
+				else {
+					if ( words == null ) {
+						words = new long[( span + Long.SIZE - 1 ) / Long.SIZE];
+					}
+					words[i / Long.SIZE] |= 1L << i;
 				}
-				results[count++] = i;
 			}
 		}
-
-		return count == 0 ? null : ArrayHelper.trim( results, count );
+		return toIndices( firstWord, words );
 	}
 
-	private static boolean isDirty(
-			NonIdentifierAttribute[] properties,
-			Object[] currentState,
-			Object[] previousState,
-			boolean[][] includeColumns,
-			SharedSessionContractImplementor session, int i) {
-		if ( currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+	private boolean isDirty(
+			Object currentValue,
+			Object previousValue,
+			SharedSessionContractImplementor session,
+			int i) {
+		if ( currentValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return false;
 		}
-		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+		else if ( previousValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
+		else if ( !dirtyCheckable[i] || currentValue == previousValue ) {
+			return false;
+		}
+		else if ( comparedByEquals[i] ) {
+			return !Objects.equals( previousValue, currentValue );
+		}
 		else {
-			return properties[i].isDirtyCheckable()
-				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
+			return types[i].isDirty( previousValue, currentValue, includeColumns[i], session );
 		}
 	}
 
@@ -76,56 +152,81 @@ class DirtyHelper {
 	 * <p>
 	 * If it is determined that no fields are dirty, null is returned.
 	 *
-	 * @param properties The property definitions
 	 * @param currentState The current state of the entity
 	 * @param previousState The baseline state of the entity
-	 * @param includeColumns Columns to be included in the mod checking, per property
-	 * @param includeProperties Array of property indices that identify which properties participate in check
 	 * @param session The session from which the dirty check request originated.
 	 *
 	 * @return Array containing indices of the modified properties, or null if no properties considered modified.
 	 **/
-	public static int[] findModified(
-			final NonIdentifierAttribute[] properties,
+	int[] findModified(
 			final Object[] currentState,
 			final Object[] previousState,
-			final boolean[][] includeColumns,
-			final boolean[] includeProperties,
 			final SharedSessionContractImplementor session) {
-		int[] results = null;
-		int count = 0;
-		int span = properties.length;
-
+		long firstWord = 0;
+		long[] words = null;
 		for ( int i = 0; i < span; i++ ) {
-			if ( isModified( properties, currentState, previousState, includeColumns, includeProperties, session, i ) ) {
-				if ( results == null ) {
-					results = new int[ span ];
+			if ( isModified( currentState[i], previousState[i], session, i ) ) {
+				if ( i < Long.SIZE ) {
+					firstWord |= 1L << i;
+				}
+				else {
+					if ( words == null ) {
+						words = new long[( span + Long.SIZE - 1 ) / Long.SIZE];
+					}
+					words[i / Long.SIZE] |= 1L << i;
 				}
-				results[ count++ ] = i;
 			}
 		}
+		return toIndices( firstWord, words );
+	}
 
-		if ( count == 0 ) {
-			return null;
+	private boolean isModified(
+			Object currentValue,
+			Object previousValue,
+			SharedSessionContractImplementor session,
+			int i) {
+		if ( currentValue == LazyPropertyInitializer.UNFETCHED_PROPERTY
+				|| !modifiedCheckable[i]
+				|| currentValue == previousValue ) {
+			return false;
+		}
+		else if ( comparedByEquals[i] ) {
+			return !Objects.equals( previousValue, currentValue );
 		}
 		else {
-			int[] trimmed = new int[ count ];
-			System.arraycopy( results, 0, trimmed, 0, count );
-			return trimmed;
+			return types[i].isModified( previousValue, currentValue, includeColumns[i], session );
 		}
 	}
 
-	private static boolean isModified(
-			NonIdentifierAttribute[] properties,
-			Object[] currentState,
-			Object[] previousState,
-			boolean[][] includeColumns,
-			boolean[] includeProperties,
-			SharedSessionContractImplementor session,
-			int i) {
-		return currentState[i] != LazyPropertyInitializer.UNFETCHED_PROPERTY
-			&& includeProperties[i]
-			&& properties[i].isDirtyCheckable()
-			&& properties[i].getType().isModified( previousState[i], currentState[i], includeColumns[i], session );
+	/**
+	 * Convert the given bitset to an array of indices, in ascending order,
+	 * or {@code null} if no bit is set. The first word holds the bits of the
+	 * first 64 indices, the other words, if any, are at their natural position
+	 * in the array.
+	 */
+	private static int[] toIndices(long firstWord, long[] words) {
+		int count = Long.bitCount( firstWord );
+		if ( words != null ) {
+			for ( int w = 1; w < words.length; w++ ) {
+				count += Long.bitCount( words[w] );
+			}
+		}
+		if ( count == 0 ) {
+			return null;
+		}
+
+		final int[] indices = new int[count];
+		int position = 0;
+		for ( long word = firstWord; word != 0; word &= word - 1 ) {
+			indices[position++] = Long.numberOfTrailingZeros( word );
+		}
+		if ( words != null ) {
+			for ( int w = 1; w < words.length; w++ ) {
+				for ( long word = words[w]; word != 0; word &= word - 1 ) {
+					indices[position++] = w * Long.SIZE + Long.numberOfTrailingZeros( word );
+				}
+			}
+		}
+		return indices;
 	}
 }
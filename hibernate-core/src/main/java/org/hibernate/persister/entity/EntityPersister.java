@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -282,6 +283,17 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	boolean hasSubselectLoadableCollections();
 
+	/**
+	 * Determine whether this entity contains lazy to-one associations
+	 * which are fetchable by subselect?
+	 *
+	 * @return True if the entity contains to-one associations fetchable by subselect; false otherwise.
+	 * @since 6.2
+	 */
+	default boolean hasSubselectLoadableToOnes() {
+		return false;
+	}
+
 	/**
 	 * Determine whether this entity contains references to persistent collections
 	 * not referencing the primary key.
@@ -574,6 +586,27 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Performs a load of multiple entities (of this type) by identifier on
+	 * behalf of a stateless session, in batches.
+	 *
+	 * @param ids The identifiers to load
+	 * @param lockOptions The lock options to apply
+	 * @param session The originating stateless session
+	 *
+	 * @return The loaded entities, in the order of the given identifiers, with
+	 *         {@code null} for each identifier matching no row
+	 *
+	 * @since 6.2
+	 */
+	default List<?> multiLoadStateless(Object[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		final List<Object> result = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			result.add( load( id, null, lockOptions, session ) );
+		}
+		return result;
+	}
+
 	/**
 	 * Do a version check (optional operation)
 	 */
@@ -594,6 +627,50 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Can several instances be persisted by {@link #insertBatch} as a single
+	 * JDBC batch, even though their identifiers are natively generated?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.2
+	 */
+	default boolean canBatchIdentityInserts() {
+		return false;
+	}
+
+	/**
+	 * Persist several instances using a single JDBC batch, using natively
+	 * generated identifiers (optional operation)
+	 *
+	 * @return the generated identifiers, in the order of the given instances
+	 *
+	 * @see #canBatchIdentityInserts()
+	 *
+	 * @since 6.2
+	 */
+	default Object[] insertBatch(List<Object[]> fields, List<Object> objects, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Persister does not support batched identity inserts" );
+	}
+
+	/**
+	 * Persist several instances with assigned or pre-generated identifiers,
+	 * using statements which insert up to the given number of rows where the
+	 * mapping and the database allow it, and otherwise one insert per instance.
+	 *
+	 * @since 6.2
+	 */
+	default void bulkInsert(
+			List<Object> ids,
+			List<Object[]> fields,
+			List<Object> objects,
+			int maxRowsPerStatement,
+			SharedSessionContractImplementor session) {
+		for ( int i = 0; i < objects.size(); i++ ) {
+			insert( ids.get( i ), fields.get( i ), objects.get( i ), session );
+		}
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
@@ -613,6 +690,16 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 			Object rowId,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Update a persistent instance, or insert it if its row does not exist
+	 * yet (optional operation)
+	 *
+	 * @since 6.2
+	 */
+	default void merge(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Persister does not support merge" );
+	}
+
 	/**
 	 * Get the Hibernate types of the class properties
 	 */
@@ -6,37 +6,53 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.Internal;
+import org.hibernate.StaleStateException;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.JdbcValueBindingsImpl;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.AttributeMappingsList;
+import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.MutationGroup;
+import org.hibernate.sql.model.ast.TableMutation;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
+import org.hibernate.sql.model.internal.TableInsertStandard;
 import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
+import static org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper.identityPreparation;
 import static org.hibernate.generator.EventType.INSERT;
 
 /**
@@ -51,6 +67,9 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey insertBatchKey;
 
+	// the single-row insert from which multi-row inserts are rendered, built lazily
+	private volatile TableInsertStandard staticTableInsert;
+
 	public InsertCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -180,6 +199,250 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 		}
 	}
 
+	/**
+	 * Whether {@link #coordinateIdentityInsertBatch} may be used: the entity
+	 * is mapped to a single table, with static inserts, and its identity is
+	 * read using {@link java.sql.Statement#getGeneratedKeys()}.
+	 */
+	public boolean canBatchIdentityInserts() {
+		return staticInsertGroup != null
+			&& staticInsertGroup.getNumberOfOperations() == 1
+			&& entityPersister().getIdentityInsertDelegate() instanceof GetGeneratedKeysDelegate;
+	}
+
+	/**
+	 * Perform the inserts of several entities whose identifier is generated by
+	 * an identity column, as a single JDBC batch.
+	 *
+	 * @param valuesList The extracted attribute values of each entity
+	 * @param entities The entity instances being persisted
+	 * @param session The originating context
+	 *
+	 * @return The generated ids, in the order of the entities
+	 */
+	public Object[] coordinateIdentityInsertBatch(
+			List<Object[]> valuesList,
+			List<Object> entities,
+			SharedSessionContractImplementor session) {
+		assert canBatchIdentityInserts();
+
+		final PreparableMutationOperation operation = staticInsertGroup.getSingleOperation();
+		final PreparedStatementDetails statementDetails = identityPreparation( operation, session );
+		final JdbcValueBindingsImpl jdbcValueBindings = new JdbcValueBindingsImpl(
+				MutationType.INSERT,
+				entityPersister(),
+				(tableName, columnName, usage) -> operation.findValueDescriptor( columnName, usage ),
+				session
+		);
+
+		final GetGeneratedKeysDelegate identityDelegate =
+				(GetGeneratedKeysDelegate) entityPersister().getIdentityInsertDelegate();
+		return identityDelegate.performBatchInsert(
+				statementDetails,
+				jdbcValueBindings,
+				entities.size(),
+				(position) -> {
+					final Object[] values = valuesList.get( position );
+					preInsertInMemoryValueGeneration( values, entities.get( position ), session );
+					final InsertValuesAnalysis insertValuesAnalysis = new InsertValuesAnalysis( entityPersister(), values );
+					decomposeForInsert(
+							jdbcValueBindings,
+							null,
+							values,
+							staticInsertGroup,
+							entityPersister().getPropertyInsertability(),
+							getTableInclusionChecker( insertValuesAnalysis ),
+							session
+					);
+				},
+				insertBatchKey,
+				session
+		);
+	}
+
+	/**
+	 * Whether {@link #coordinateMultiRowInsert} may be used: the entity is
+	 * mapped to a single table, with static inserts and no custom SQL, its
+	 * identifier is assigned before the insert, no other value is generated
+	 * by the insert, and the database accepts multi-row {@code values} lists.
+	 */
+	public boolean canInsertMultipleRows() {
+		if ( staticInsertGroup == null
+				|| staticInsertGroup.getNumberOfOperations() != 1
+				|| entityPersister().getGenerator().generatedOnExecution()
+				|| entityPersister().hasInsertGeneratedProperties()
+				|| !dialect().supportsValuesListForInsert() ) {
+			return false;
+		}
+		final MutationOperation operation = staticInsertGroup.getSingleOperation();
+		if ( !( operation instanceof PreparableMutationOperation )
+				|| ( (PreparableMutationOperation) operation ).isCallable()
+				|| operation.getTableDetails().getInsertDetails().getCustomSql() != null ) {
+			return false;
+		}
+		final TableInsertStandard tableInsert = staticTableInsert();
+		return tableInsert != null
+			&& tableInsert.getNumberOfValueBindings() > 0
+			&& tableInsert.getNumberOfReturningColumns() == 0;
+	}
+
+	private TableInsertStandard staticTableInsert() {
+		if ( staticTableInsert == null ) {
+			final TableMutation<?> tableMutation = buildStaticMutationGroup().getSingleTableMutation();
+			if ( tableMutation instanceof TableInsertStandard ) {
+				staticTableInsert = (TableInsertStandard) tableMutation;
+			}
+		}
+		return staticTableInsert;
+	}
+
+	/**
+	 * Perform the inserts of several entities using {@code insert} statements
+	 * with a {@code values} list of several rows, bound using the parameters of
+	 * the static insert of a single row.  The number of rows of each statement
+	 * is limited by {@link Dialect#getParameterCountLimit()}.
+	 *
+	 * @param ids The identifiers of the entities
+	 * @param valuesList The extracted attribute values of each entity
+	 * @param entities The entity instances being persisted
+	 * @param maxRowsPerStatement The maximum number of rows inserted by a single statement
+	 * @param session The originating context
+	 */
+	public void coordinateMultiRowInsert(
+			List<Object> ids,
+			List<Object[]> valuesList,
+			List<Object> entities,
+			int maxRowsPerStatement,
+			SharedSessionContractImplementor session) {
+		assert canInsertMultipleRows();
+
+		final PreparableMutationOperation operation = staticInsertGroup.getSingleOperation();
+		final int parametersPerRow = operation.getParameterBinders().size();
+		final int parameterCountLimit = dialect().getParameterCountLimit();
+		final int rowsPerStatement = parameterCountLimit > 0 && parametersPerRow > 0
+				? Math.max( 1, Math.min( maxRowsPerStatement, parameterCountLimit / parametersPerRow ) )
+				: Math.max( 1, maxRowsPerStatement );
+
+		final JdbcValueBindingsImpl jdbcValueBindings = new JdbcValueBindingsImpl(
+				MutationType.INSERT,
+				entityPersister(),
+				(tableName, columnName, usage) -> operation.findValueDescriptor( columnName, usage ),
+				session
+		);
+
+		final TableInsertStandard tableInsert = staticTableInsert();
+		PreparableMutationOperation fullStatementOperation = null;
+		for ( int start = 0; start < entities.size(); start += rowsPerStatement ) {
+			final int rowCount = Math.min( rowsPerStatement, entities.size() - start );
+			final PreparableMutationOperation statementOperation;
+			if ( rowCount == rowsPerStatement ) {
+				if ( fullStatementOperation == null ) {
+					fullStatementOperation = multiRowOperation( tableInsert, rowCount );
+				}
+				statementOperation = fullStatementOperation;
+			}
+			else {
+				statementOperation = multiRowOperation( tableInsert, rowCount );
+			}
+
+			final int firstRow = start;
+			executeMultiRowInsert(
+					statementOperation.getSqlString(),
+					rowCount,
+					(row, statement) -> {
+						final int position = firstRow + row;
+						final Object[] values = valuesList.get( position );
+						preInsertInMemoryValueGeneration( values, entities.get( position ), session );
+						try {
+							decomposeForInsert(
+									jdbcValueBindings,
+									ids.get( position ),
+									values,
+									staticInsertGroup,
+									entityPersister().getPropertyInsertability(),
+									getTableInclusionChecker( new InsertValuesAnalysis( entityPersister(), values ) ),
+									session
+							);
+							final BindingGroup bindingGroup =
+									jdbcValueBindings.getBindingGroup( operation.getTableDetails().getTableName() );
+							if ( bindingGroup != null ) {
+								final int offset = row * parametersPerRow;
+								for ( Binding binding : bindingGroup.getBindings() ) {
+									binding.getValueBinder().bind(
+											statement,
+											binding.getValue(),
+											offset + binding.getPosition(),
+											session
+									);
+								}
+							}
+						}
+						finally {
+							// the bindings of the next row reuse the same binding group
+							jdbcValueBindings.afterStatement( operation.getTableDetails() );
+						}
+					},
+					session
+			);
+		}
+	}
+
+	/**
+	 * Renders the insert of the given number of rows from the AST of the static
+	 * single-row insert, so that the parameters of each row are bound exactly
+	 * like the parameters of the single-row insert
+	 */
+	private PreparableMutationOperation multiRowOperation(TableInsertStandard tableInsert, int rowCount) {
+		return new TableInsertStandard(
+				tableInsert.getMutatingTable(),
+				tableInsert.getMutationTarget(),
+				tableInsert.getValueBindings(),
+				tableInsert.getReturningColumns(),
+				tableInsert.getParameters(),
+				rowCount
+		).createMutationOperation( null, factory() );
+	}
+
+	@FunctionalInterface
+	private interface RowBinder {
+		void bind(int row, PreparedStatement statement) throws SQLException;
+	}
+
+	private void executeMultiRowInsert(
+			String sql,
+			int rowCount,
+			RowBinder rowBinder,
+			SharedSessionContractImplementor session) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+		final PreparedStatement statement =
+				jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+		try {
+			for ( int row = 0; row < rowCount; row++ ) {
+				rowBinder.bind( row, statement );
+			}
+			final int affectedRowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			if ( affectedRowCount != rowCount ) {
+				throw new StaleStateException(
+						"Unexpected row count: " + affectedRowCount + "; expected: " + rowCount
+								+ "; statement executed: " + sql
+				);
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					"Unable to execute multi-row insert for `" + entityPersister().getNavigableRole().getFullPath() + "`",
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+	}
+
 	protected void decomposeForInsert(
 			MutationExecutor mutationExecutor,
 			Object id,
@@ -188,8 +451,25 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 			boolean[] propertyInclusions,
 			TableInclusionChecker tableInclusionChecker,
 			SharedSessionContractImplementor session) {
-		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		decomposeForInsert(
+				mutationExecutor.getJdbcValueBindings(),
+				id,
+				values,
+				mutationGroup,
+				propertyInclusions,
+				tableInclusionChecker,
+				session
+		);
+	}
 
+	private void decomposeForInsert(
+			JdbcValueBindings jdbcValueBindings,
+			Object id,
+			Object[] values,
+			MutationOperationGroup mutationGroup,
+			boolean[] propertyInclusions,
+			TableInclusionChecker tableInclusionChecker,
+			SharedSessionContractImplementor session) {
 		mutationGroup.forEachOperation( (position, operation) -> {
 			final EntityTableMapping tableDetails = (EntityTableMapping) operation.getTableDetails();
 			if ( tableInclusionChecker.include( tableDetails ) ) {
@@ -328,12 +608,16 @@ public class InsertCoordinator extends AbstractMutationCoordinator {
 	}
 
 	public MutationOperationGroup generateStaticOperationGroup() {
+		return createOperationGroup( null, buildStaticMutationGroup() );
+	}
+
+	private MutationGroup buildStaticMutationGroup() {
 		final MutationGroupBuilder insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, entityPersister() );
 		entityPersister().forEachMutableTable(
 				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping ) )
 		);
 		applyTableInsertDetails( insertGroupBuilder, entityPersister().getPropertyInsertability() );
-		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
+		return insertGroupBuilder.buildMutationGroup();
 	}
 
 	private TableInsertBuilder createTableInsertBuilder(EntityTableMapping tableMapping) {
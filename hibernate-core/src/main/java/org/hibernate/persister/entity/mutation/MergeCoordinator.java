@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.persister.entity.mutation;
+
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.ast.builder.AbstractTableUpdateBuilder;
+import org.hibernate.sql.model.ast.builder.TableMergeBuilder;
+
+/**
+ * Coordinates the "upsert" of an entity: the rows of the entity are updated,
+ * or inserted if they do not exist yet.  Depending on the dialect, this is
+ * done using a {@code merge} statement, an {@code insert} handling conflicts
+ * with an existing row, or an update followed by an insert.
+ *
+ * @see org.hibernate.StatelessSession#upsert
+ * @see org.hibernate.dialect.Dialect#createOptionalTableUpdateOperation
+ */
+public class MergeCoordinator extends UpdateCoordinatorStandard {
+	private final BatchKey batchKey;
+
+	public MergeCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
+		super( entityPersister, factory );
+		this.batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#MERGE", null );
+	}
+
+	@Override
+	protected <O extends MutationOperation> AbstractTableUpdateBuilder<O> newTableUpdateBuilder(EntityTableMapping tableMapping) {
+		return new TableMergeBuilder<>( entityPersister(), tableMapping, factory() );
+	}
+
+	@Override
+	protected BatchKey getBatchKey() {
+		return batchKey;
+	}
+}
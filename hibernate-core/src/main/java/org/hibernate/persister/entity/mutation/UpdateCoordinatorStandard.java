@@ -7,10 +7,13 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -32,6 +35,8 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.MutableInteger;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.EntityRowIdMapping;
@@ -45,6 +50,7 @@ import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.ast.builder.AbstractTableUpdateBuilder;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.RestrictedTableMutationBuilder;
 import org.hibernate.sql.model.ast.builder.TableUpdateBuilder;
@@ -54,6 +60,7 @@ import org.hibernate.sql.model.internal.MutationOperationGroupSingle;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
+import static org.hibernate.cfg.AvailableSettings.DYNAMIC_UPDATE_CACHE_SIZE;
 import static org.hibernate.engine.OptimisticLockStyle.DIRTY;
 import static org.hibernate.engine.internal.Versioning.isVersionIncrementRequired;
 import static org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper.identifiedResultsCheck;
@@ -62,6 +69,7 @@ import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_INT_ARRA
 import static org.hibernate.internal.util.collections.ArrayHelper.contains;
 import static org.hibernate.internal.util.collections.ArrayHelper.join;
 import static org.hibernate.internal.util.collections.ArrayHelper.trim;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * Coordinates the updating of an entity.
@@ -77,10 +85,26 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 //	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( UpdateCoordinatorStandard.class );
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AbstractEntityPersister.class );
 
+	/**
+	 * The default maximum number of dynamic update shapes cached per entity
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#DYNAMIC_UPDATE_CACHE_SIZE
+	 */
+	public static final int DEFAULT_DYNAMIC_UPDATE_CACHE_SIZE = 32;
+
 	private final MutationOperationGroup staticUpdateGroup;
 	private final BatchKey batchKey;
 
 	private final MutationOperationGroup versionUpdateGroup;
+	private final BatchKey versionUpdateBatchKey;
+
+	/**
+	 * The dynamic update groups already built, keyed by their
+	 * {@linkplain #dynamicUpdateShape shape}, or {@code null}
+	 * if dynamic updates are not cached for this entity
+	 */
+	private final BoundedConcurrentHashMap<BitSet, DynamicUpdateGroup> dynamicUpdateGroups;
+	private final AtomicInteger dynamicUpdateShapeCount = new AtomicInteger();
 
 	public UpdateCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
@@ -93,6 +117,31 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 				entityPersister.getEntityName() + "#UPDATE",
 				null
 		);
+		this.versionUpdateBatchKey = new BasicBatchKey(
+				entityPersister.getEntityName() + "#VERSION",
+				null
+		);
+		this.dynamicUpdateGroups = createDynamicUpdateGroupCache( entityPersister, factory );
+	}
+
+	private static BoundedConcurrentHashMap<BitSet, DynamicUpdateGroup> createDynamicUpdateGroupCache(
+			AbstractEntityPersister entityPersister,
+			SessionFactoryImplementor factory) {
+		// only entities which are routinely updated dynamically are worth a cache
+		final boolean usuallyDynamic = entityPersister.getEntityMetamodel().isDynamicUpdate()
+				|| entityPersister.optimisticLockStyle() == DIRTY
+				|| entityPersister.optimisticLockStyle() == OptimisticLockStyle.ALL;
+		if ( usuallyDynamic ) {
+			final int cacheSize = getInt(
+					DYNAMIC_UPDATE_CACHE_SIZE,
+					factory.getProperties(),
+					DEFAULT_DYNAMIC_UPDATE_CACHE_SIZE
+			);
+			if ( cacheSize > 0 ) {
+				return new BoundedConcurrentHashMap<>( cacheSize, 4, BoundedConcurrentHashMap.Eviction.LRU );
+			}
+		}
+		return null;
 	}
 
 	@Override
@@ -441,7 +490,8 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 
 		final EntityTableMapping mutatingTableDetails = (EntityTableMapping) versionUpdateGroup.getSingleOperation().getTableDetails();
 
-		final MutationExecutor mutationExecutor = executor( session, versionUpdateGroup );
+		// version updates have their own batch key, since their SQL differs from that of the static update
+		final MutationExecutor mutationExecutor = executor( session, versionUpdateGroup, () -> versionUpdateBatchKey );
 
 		final EntityVersionMapping versionMapping = entityPersister().getVersionMapping();
 
@@ -896,18 +946,19 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			InclusionChecker dirtinessChecker,
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
-		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
+		// Create the JDBC operation descriptors, or reuse those of a previous update with the same shape
+		final DynamicUpdateGroup resolvedGroup = resolveDynamicUpdateGroup(
 				id,
 				rowId,
 				oldValues,
 				valuesAnalysis,
 				session
 		);
+		final MutationOperationGroup dynamicUpdateGroup = resolvedGroup.operationGroup;
 
 		// and then execute them
 
-		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup );
+		final MutationExecutor mutationExecutor = executor( session, dynamicUpdateGroup, resolvedGroup::getBatchKey );
 
 		decomposeForUpdate(
 				id,
@@ -953,10 +1004,97 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 	}
 
 	private MutationExecutor executor(SharedSessionContractImplementor session, MutationOperationGroup group) {
+		return executor( session, group, this::getBatchKey );
+	}
+
+	private MutationExecutor executor(
+			SharedSessionContractImplementor session,
+			MutationOperationGroup group,
+			Supplier<BatchKey> batchKeySupplier) {
 		return session.getSessionFactory()
 				.getServiceRegistry()
 				.getService( MutationExecutorService.class )
-				.createExecutor( () -> batchKey, group, session );
+				.createExecutor( batchKeySupplier, group, session );
+	}
+
+	/**
+	 * Obtain the operations of a dynamic update from the cache, building and caching
+	 * them if this is the first update of its {@linkplain #dynamicUpdateShape shape}.
+	 * Cached operations come with a batch key specific to their shape, so that the
+	 * updates of several entities sharing a shape may be batched. Operations which
+	 * are not cached are never batched, since their SQL is unique to this update.
+	 */
+	private DynamicUpdateGroup resolveDynamicUpdateGroup(
+			Object id,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		if ( dynamicUpdateGroups == null ) {
+			return new DynamicUpdateGroup(
+					generateDynamicUpdateGroup( id, rowId, oldValues, valuesAnalysis, session ),
+					null
+			);
+		}
+
+		final BitSet shape = dynamicUpdateShape( rowId, oldValues, valuesAnalysis );
+		final DynamicUpdateGroup cachedGroup = dynamicUpdateGroups.get( shape );
+		if ( cachedGroup != null ) {
+			return cachedGroup;
+		}
+
+		final DynamicUpdateGroup group = new DynamicUpdateGroup(
+				generateDynamicUpdateGroup( id, rowId, oldValues, valuesAnalysis, session ),
+				new BasicBatchKey(
+						getBatchKey().toLoggableString() + "#" + dynamicUpdateShapeCount.incrementAndGet(),
+						null
+				)
+		);
+		final DynamicUpdateGroup existingGroup = dynamicUpdateGroups.putIfAbsent( shape, group );
+		return existingGroup == null ? group : existingGroup;
+	}
+
+	/**
+	 * Encodes everything which determines the SQL of a dynamic update: the tables
+	 * which need updating and, for each of their attributes, whether it is set, dirty,
+	 * or part of the optimistic lock, along with which of the optimistic lock values
+	 * are null, since those are restricted using {@code is null}.
+	 */
+	private BitSet dynamicUpdateShape(Object rowId, Object[] oldValues, UpdateValuesAnalysisImpl valuesAnalysis) {
+		final EntityVersionMapping versionMapping = entityPersister().getVersionMapping();
+		final BitSet shape = new BitSet();
+		final MutableInteger position = new MutableInteger();
+		shape.set( position.getAndIncrement(), rowId != null );
+		shape.set( position.getAndIncrement(), oldValues == null );
+
+		entityPersister().forEachMutableTable( (tableMapping) -> {
+			shape.set( position.getAndIncrement(), valuesAnalysis.tablesNeedingUpdate.contains( tableMapping ) );
+
+			final int[] attributeIndexes = tableMapping.getAttributeIndexes();
+			for ( int i = 0; i < attributeIndexes.length; i++ ) {
+				final int attributeIndex = attributeIndexes[i];
+				final AttributeAnalysis attributeAnalysis = valuesAnalysis.attributeAnalyses.get( attributeIndex );
+				shape.set( position.getAndIncrement(), attributeAnalysis.includeInSet() );
+				shape.set( position.getAndIncrement(), attributeAnalysis.isDirty() );
+				shape.set( position.getAndIncrement(), attributeAnalysis.includeInLocking() );
+
+				if ( oldValues != null && attributeAnalysis.includeInLocking() ) {
+					if ( versionMapping != null && versionMapping.getVersionAttribute() == attributeAnalysis.getAttribute() ) {
+						shape.set( position.getAndIncrement(), oldValues[attributeIndex] == null );
+					}
+					else {
+						( (IncludedAttributeAnalysis) attributeAnalysis ).columnLockingAnalyses.forEach(
+								(columnLockingAnalysis) -> shape.set(
+										position.getAndIncrement(),
+										columnLockingAnalysis.getLockValue() == null
+								)
+						);
+					}
+				}
+			}
+		} );
+
+		return shape;
 	}
 
 	protected MutationOperationGroup generateDynamicUpdateGroup(
@@ -993,7 +1131,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		return createOperationGroup( valuesAnalysis, updateGroupBuilder.buildMutationGroup() );
 	}
 
-	private <O extends MutationOperation> TableUpdateBuilderStandard<O> newTableUpdateBuilder(EntityTableMapping tableMapping) {
+	protected <O extends MutationOperation> AbstractTableUpdateBuilder<O> newTableUpdateBuilder(EntityTableMapping tableMapping) {
 		return new TableUpdateBuilderStandard<>( entityPersister(), tableMapping, factory() );
 	}
 
@@ -1448,6 +1586,24 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		}
 	}
 
+	/**
+	 * The operations of a dynamic update, along with the batch key to use
+	 * when executing them, or {@code null} if they may not be batched
+	 */
+	private static class DynamicUpdateGroup {
+		private final MutationOperationGroup operationGroup;
+		private final BatchKey batchKey;
+
+		private DynamicUpdateGroup(MutationOperationGroup operationGroup, BatchKey batchKey) {
+			this.operationGroup = operationGroup;
+			this.batchKey = batchKey;
+		}
+
+		public BatchKey getBatchKey() {
+			return batchKey;
+		}
+	}
+
 	private static class ColumnSetAnalysis {
 		private final String readExpression;
 		private final String writeExpression;
@@ -1544,7 +1700,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			return null;
 		}
 		else {
-			final TableUpdateBuilderStandard<JdbcMutationOperation> updateBuilder =
+			final AbstractTableUpdateBuilder<JdbcMutationOperation> updateBuilder =
 					newTableUpdateBuilder( entityPersister().getIdentifierTableMapping() );
 
 			updateBuilder.setSqlComment( "forced version increment for " + entityPersister().getRolePath() );
@@ -1569,7 +1725,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 
 	}
 
-	private void addPartitionRestriction(TableUpdateBuilderStandard<JdbcMutationOperation> updateBuilder) {
+	private void addPartitionRestriction(AbstractTableUpdateBuilder<JdbcMutationOperation> updateBuilder) {
 		final AbstractEntityPersister persister = entityPersister();
 		if ( persister.hasPartitionedSelectionMapping() ) {
 			for ( AttributeMapping attributeMapping : persister.getAttributeMappings() ) {
@@ -16,6 +16,8 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.SessionFactoryRegistry;
@@ -170,7 +172,14 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 					throw new LazyInitializationException( "could not initialize proxy [" + entityName + "#" + id + "] - the owning Session is disconnected" );
 				}
 				else {
-					target = session.immediateLoad( entityName, id );
+					final EventManager eventManager = session.getEventManager();
+					final HibernateMonitoringEvent lazyInitializationEvent = eventManager.beginLazyInitializationEvent();
+					try {
+						target = session.immediateLoad( entityName, id );
+					}
+					finally {
+						eventManager.completeLazyInitializationEvent( lazyInitializationEvent, session, entityName, id );
+					}
 					initialized = true;
 					checkTargetState( session );
 				}
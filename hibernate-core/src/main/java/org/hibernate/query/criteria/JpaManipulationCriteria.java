@@ -21,4 +21,17 @@ public interface JpaManipulationCriteria<E> extends JpaQueryableCriteria<E> {
 	 * Set the root path
 	 */
 	void setTarget(SqmRoot<E> root);
+
+	/**
+	 * Specify the attributes of the affected rows to be returned by the
+	 * statement, using a {@code returning} clause, or an equivalent.
+	 *
+	 * @throws UnsupportedOperationException if the implementation does
+	 *         not support returning the affected rows
+	 *
+	 * @since 6.2
+	 */
+	default JpaManipulationCriteria<E> returning(JpaPath<?>... paths) {
+		throw new UnsupportedOperationException( "Returning the affected rows is not supported" );
+	}
 }
@@ -99,6 +99,7 @@ import org.hibernate.query.sqm.internal.SqmQueryPartCreationProcessingStateStand
 import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
 import org.hibernate.query.sqm.spi.ParameterDeclarationContext;
 import org.hibernate.query.sqm.spi.SqmCreationContext;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmJoinType;
 import org.hibernate.query.sqm.tree.SqmQuery;
 import org.hibernate.query.sqm.tree.SqmStatement;
@@ -495,6 +496,7 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 						final SqmPath<?> stateField = (SqmPath<?>) visitSimplePath( stateFieldCtx );
 						insertStatement.addInsertTargetStateField( stateField );
 					}
+					applyReturningClause( insertStatement, ctx.returningClause() );
 				}
 				finally {
 					processingStateStack.pop();
@@ -533,6 +535,7 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 					final SqmPath<?> stateField = (SqmPath<?>) visitSimplePath( stateFieldCtx );
 					insertStatement.addInsertTargetStateField( stateField );
 				}
+				applyReturningClause( insertStatement, ctx.returningClause() );
 
 				return insertStatement;
 			}
@@ -580,11 +583,11 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 				}
 			}
 
-			if ( dmlTargetIndex + 2 <= ctx.getChildCount() ) {
-				updateStatement.applyPredicate(
-						visitWhereClause( (HqlParser.WhereClauseContext) ctx.getChild( dmlTargetIndex + 2 ) )
-				);
+			final HqlParser.WhereClauseContext whereClauseContext = ctx.whereClause();
+			if ( whereClauseContext != null ) {
+				updateStatement.applyPredicate( visitWhereClause( whereClauseContext ) );
 			}
+			applyReturningClause( updateStatement, ctx.returningClause() );
 
 			return updateStatement;
 		}
@@ -618,11 +621,11 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 
 		processingStateStack.push( sqmDeleteCreationState );
 		try {
-			if ( dmlTargetIndex + 1 <= ctx.getChildCount() ) {
-				deleteStatement.applyPredicate(
-						visitWhereClause( (HqlParser.WhereClauseContext) ctx.getChild( dmlTargetIndex + 1 ) )
-				);
+			final HqlParser.WhereClauseContext whereClauseContext = ctx.whereClause();
+			if ( whereClauseContext != null ) {
+				deleteStatement.applyPredicate( visitWhereClause( whereClauseContext ) );
 			}
+			applyReturningClause( deleteStatement, ctx.returningClause() );
 
 			return deleteStatement;
 		}
@@ -631,6 +634,17 @@ public class SemanticQueryBuilder<R> extends HqlParserBaseVisitor<Object> implem
 		}
 	}
 
+	private void applyReturningClause(SqmDmlStatement<R> statement, HqlParser.ReturningClauseContext ctx) {
+		if ( ctx != null ) {
+			final List<HqlParser.SimplePathContext> simplePathContexts = ctx.simplePath();
+			final List<SqmPath<?>> returningPaths = new ArrayList<>( simplePathContexts.size() );
+			for ( HqlParser.SimplePathContext simplePathContext : simplePathContexts ) {
+				returningPaths.add( consumeDomainPath( simplePathContext ) );
+			}
+			statement.setReturningPaths( returningPaths );
+		}
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query spec
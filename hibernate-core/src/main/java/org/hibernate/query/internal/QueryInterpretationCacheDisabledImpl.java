@@ -13,11 +13,13 @@ import java.util.function.Supplier;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryExecutionObserver;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryExecutionPhase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -26,9 +28,17 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 public class QueryInterpretationCacheDisabledImpl implements QueryInterpretationCache {
 
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final QueryExecutionObserver queryExecutionObserver;
 
 	public QueryInterpretationCacheDisabledImpl(Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( statisticsSupplier, QueryExecutionObserver.NO_OP );
+	}
+
+	public QueryInterpretationCacheDisabledImpl(
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			QueryExecutionObserver queryExecutionObserver) {
 		this.statisticsSupplier = statisticsSupplier;
+		this.queryExecutionObserver = queryExecutionObserver;
 	}
 
 	@Override
@@ -47,6 +57,9 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
+		if ( queryExecutionObserver.isEnabled() ) {
+			queryExecutionObserver.queryPlanCacheAccessed( key.getQueryString(), false );
+		}
 		return creator.get();
 	}
 
@@ -63,7 +76,8 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 	public HqlInterpretation resolveHqlInterpretation(String queryString, Class<?> expectedResultType, Function<String, SqmStatement<?>> creator) {
 		final StatisticsImplementor statistics = statisticsSupplier.get();
 		final boolean stats = statistics.isStatisticsEnabled();
-		final long startTime = ( stats ) ? System.nanoTime() : 0L;
+		final boolean observed = queryExecutionObserver.isEnabled();
+		final long startTime = ( stats || observed ) ? System.nanoTime() : 0L;
 		final SqmStatement<?> sqmStatement = creator.apply( queryString );
 
 		final DomainParameterXref domainParameterXref;
@@ -78,10 +92,16 @@ public class QueryInterpretationCacheDisabledImpl implements QueryInterpretation
 			parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
 		}
 
-		if ( stats ) {
+		if ( stats || observed ) {
 			final long endTime = System.nanoTime();
-			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryCompiled( queryString, microseconds );
+			if ( stats ) {
+				final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+				statistics.queryCompiled( queryString, microseconds );
+			}
+			if ( observed ) {
+				queryExecutionObserver.queryPlanCacheAccessed( queryString, false );
+				queryExecutionObserver.queryPhaseCompleted( queryString, QueryExecutionPhase.PARSE, endTime - startTime );
+			}
 		}
 
 		return new HqlInterpretation() {
@@ -16,6 +16,7 @@ import org.hibernate.query.QueryLogging;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
+import org.hibernate.query.spi.QueryExecutionObserver;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryPlan;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -23,6 +24,7 @@ import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryExecutionPhase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -43,14 +45,23 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
 	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
+	private final QueryExecutionObserver queryExecutionObserver;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
+		this( maxQueryPlanCount, statisticsSupplier, QueryExecutionObserver.NO_OP );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			QueryExecutionObserver queryExecutionObserver) {
 		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
 
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		this.queryExecutionObserver = queryExecutionObserver;
 	}
 
 	@Override
@@ -77,6 +88,9 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			if ( stats ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
 			}
+			if ( queryExecutionObserver.isEnabled() ) {
+				queryExecutionObserver.queryPlanCacheAccessed( key.getQueryString(), true );
+			}
 			return cached;
 		}
 
@@ -85,6 +99,9 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		if ( stats ) {
 			statistics.queryPlanCacheMiss( key.getQueryString() );
 		}
+		if ( queryExecutionObserver.isEnabled() ) {
+			queryExecutionObserver.queryPlanCacheAccessed( key.getQueryString(), false );
+		}
 		return plan;
 	}
 
@@ -122,10 +139,21 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
 			}
+			if ( queryExecutionObserver.isEnabled() ) {
+				queryExecutionObserver.queryPlanCacheAccessed( queryString, true );
+			}
 			return existing;
 		}
 
-		final HqlInterpretation hqlInterpretation = createHqlInterpretation( queryString, creator, statisticsSupplier );
+		if ( queryExecutionObserver.isEnabled() ) {
+			queryExecutionObserver.queryPlanCacheAccessed( queryString, false );
+		}
+		final HqlInterpretation hqlInterpretation = createHqlInterpretation(
+				queryString,
+				creator,
+				statisticsSupplier,
+				queryExecutionObserver
+		);
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
 		return hqlInterpretation;
 	}
@@ -134,9 +162,18 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			String queryString,
 			Function<String, SqmStatement<?>> creator,
 			Supplier<StatisticsImplementor> statisticsSupplier) {
+		return createHqlInterpretation( queryString, creator, statisticsSupplier, QueryExecutionObserver.NO_OP );
+	}
+
+	protected static HqlInterpretation createHqlInterpretation(
+			String queryString,
+			Function<String, SqmStatement<?>> creator,
+			Supplier<StatisticsImplementor> statisticsSupplier,
+			QueryExecutionObserver queryExecutionObserver) {
 		final StatisticsImplementor statistics = statisticsSupplier.get();
 		final boolean stats = statistics.isStatisticsEnabled();
-		final long startTime = ( stats ) ? System.nanoTime() : 0L;
+		final boolean observed = queryExecutionObserver.isEnabled();
+		final long startTime = ( stats || observed ) ? System.nanoTime() : 0L;
 
 		final SqmStatement<?> sqmStatement = creator.apply( queryString );
 		final ParameterMetadataImplementor parameterMetadata;
@@ -151,10 +188,15 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			parameterMetadata = new ParameterMetadataImpl( domainParameterXref.getQueryParameters() );
 		}
 
-		if ( stats ) {
+		if ( stats || observed ) {
 			final long endTime = System.nanoTime();
-			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryCompiled( queryString, microseconds );
+			if ( stats ) {
+				final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+				statistics.queryCompiled( queryString, microseconds );
+			}
+			if ( observed ) {
+				queryExecutionObserver.queryPhaseCompleted( queryString, QueryExecutionPhase.PARSE, endTime - startTime );
+			}
 		}
 
 		return new SimpleHqlInterpretationImpl( sqmStatement, parameterMetadata, domainParameterXref );
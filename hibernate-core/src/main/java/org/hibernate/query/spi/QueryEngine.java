@@ -17,6 +17,7 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cfg.AvailableSettings;
@@ -24,6 +25,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.jfr.internal.JfrQueryExecutionObserver;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.spi.JpaMetamodelImplementor;
@@ -68,6 +70,10 @@ public class QueryEngine {
 	public static QueryEngine from(SessionFactoryImplementor sessionFactory, MetadataImplementor metadata) {
 		final QueryEngineOptions options = sessionFactory.getSessionFactoryOptions();
 		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		final QueryExecutionObserver queryExecutionObserver = resolveQueryExecutionObserver(
+				sessionFactory.getServiceRegistry(),
+				sessionFactory.getProperties()
+		);
 		return new QueryEngine(
 				sessionFactory,
 				metadata.getTypeConfiguration(),
@@ -75,7 +81,12 @@ public class QueryEngine {
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( sessionFactory, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository( sessionFactory ),
-				buildInterpretationCache( sessionFactory::getStatistics, sessionFactory.getProperties() )
+				buildInterpretationCache(
+						sessionFactory::getStatistics,
+						queryExecutionObserver,
+						sessionFactory.getProperties()
+				),
+				queryExecutionObserver
 		);
 	}
 
@@ -122,6 +133,7 @@ public class QueryEngine {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
 	private final TypeConfiguration typeConfiguration;
+	private final QueryExecutionObserver queryExecutionObserver;
 
 	private QueryEngine(
 			SessionFactoryImplementor sessionFactory,
@@ -130,13 +142,15 @@ public class QueryEngine {
 			SqmTranslatorFactory sqmTranslatorFactory,
 			SqmFunctionRegistry functionRegistry,
 			NamedObjectRepository namedObjectRepository,
-			QueryInterpretationCache interpretationCache) {
+			QueryInterpretationCache interpretationCache,
+			QueryExecutionObserver queryExecutionObserver) {
 		this.typeConfiguration = typeConfiguration;
 		this.sqmFunctionRegistry = functionRegistry;
 		this.sqmTranslatorFactory = sqmTranslatorFactory;
 		this.hqlTranslator = hqlTranslator;
 		this.namedObjectRepository = namedObjectRepository;
 		this.interpretationCache = interpretationCache;
+		this.queryExecutionObserver = queryExecutionObserver;
 		this.nativeQueryInterpreter = sessionFactory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 		final SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.criteriaBuilder = new SqmCriteriaNodeBuilder(
@@ -172,9 +186,12 @@ public class QueryEngine {
 
 		dialect.contributeFunctions( new FunctionContributionsImpl( serviceRegistry, typeConfiguration, sqmFunctionRegistry ) );
 
+		final Map<String, Object> settings = serviceRegistry.getService( ConfigurationService.class ).getSettings();
+		this.queryExecutionObserver = resolveQueryExecutionObserver( serviceRegistry, settings );
 		this.interpretationCache = buildInterpretationCache(
 				() -> serviceRegistry.getService( StatisticsImplementor.class ),
-				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+				queryExecutionObserver,
+				settings
 		);
 
 		this.criteriaBuilder = new SqmCriteriaNodeBuilder(
@@ -252,8 +269,24 @@ public class QueryEngine {
 		return contributors;
 	}
 
+	private static QueryExecutionObserver resolveQueryExecutionObserver(
+			ServiceRegistry serviceRegistry,
+			Map<String,Object> properties) {
+		final Object setting = properties.get( AvailableSettings.QUERY_EXECUTION_OBSERVER );
+		final Object observer = setting == null
+				&& ConfigurationHelper.getBoolean( AvailableSettings.JFR_ENABLED, properties )
+				? JfrQueryExecutionObserver.SHORT_NAME
+				: setting;
+		return serviceRegistry.getService( StrategySelector.class ).resolveDefaultableStrategy(
+				QueryExecutionObserver.class,
+				observer,
+				QueryExecutionObserver.NO_OP
+		);
+	}
+
 	private static QueryInterpretationCache buildInterpretationCache(
 			Supplier<StatisticsImplementor> statisticsSupplier,
+			QueryExecutionObserver queryExecutionObserver,
 			Map<String,Object> properties) {
 		final boolean explicitUseCache = ConfigurationHelper.getBoolean(
 				AvailableSettings.QUERY_PLAN_CACHE_ENABLED,
@@ -272,11 +305,11 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier, queryExecutionObserver );
 		}
 		else {
 			// disabled
-			return new QueryInterpretationCacheDisabledImpl( statisticsSupplier );
+			return new QueryInterpretationCacheDisabledImpl( statisticsSupplier, queryExecutionObserver );
 		}
 	}
 
@@ -319,6 +352,16 @@ public class QueryEngine {
 		return typeConfiguration;
 	}
 
+	/**
+	 * The observer to notify about the phases of query executions,
+	 * {@link QueryExecutionObserver#NO_OP} if none was configured
+	 *
+	 * @see AvailableSettings#QUERY_EXECUTION_OBSERVER
+	 */
+	public QueryExecutionObserver getQueryExecutionObserver() {
+		return queryExecutionObserver;
+	}
+
 	public void close() {
 		if ( namedObjectRepository != null ) {
 			namedObjectRepository.close();
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.stat.QueryExecutionPhase;
+
+/**
+ * Observes the execution of queries phase by phase, for example to
+ * find out whether a slow query spent its time in parsing, translation,
+ * on the JDBC side, or in hydrating the results.
+ * <p>
+ * Queries are identified the same way as in
+ * {@link org.hibernate.stat.Statistics#getQueryStatistics(String)},
+ * i.e. by their HQL, or their SQL in the case of criteria queries.
+ * <p>
+ * Callbacks happen synchronously on the thread executing the query, so
+ * implementations must be threadsafe and cheap. Timings are only taken
+ * when the observer is {@linkplain #isEnabled() enabled}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_EXECUTION_OBSERVER
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface QueryExecutionObserver {
+	/**
+	 * An observer which ignores all callbacks, and is never enabled.
+	 */
+	QueryExecutionObserver NO_OP = new QueryExecutionObserver() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+	};
+
+	/**
+	 * Whether this observer is interested in callbacks at all
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Callback indicating a lookup of the interpretation or plan of the
+	 * given query in the query plan cache.
+	 *
+	 * @param query The query
+	 * @param hit Whether the lookup resulted in a hit
+	 */
+	default void queryPlanCacheAccessed(String query, boolean hit) {
+	}
+
+	/**
+	 * Callback indicating a lookup of the results of the given query in
+	 * the query results cache.
+	 *
+	 * @param query The query
+	 * @param regionName The name of the query cache region
+	 * @param hit Whether the lookup resulted in a hit
+	 */
+	default void queryResultsCacheAccessed(String query, String regionName, boolean hit) {
+	}
+
+	/**
+	 * Callback indicating completion of one phase of the execution of the
+	 * given query.
+	 *
+	 * @param query The query
+	 * @param phase The phase which completed
+	 * @param nanoseconds The time spent in the phase
+	 */
+	default void queryPhaseCompleted(String query, QueryExecutionPhase phase, long nanoseconds) {
+	}
+
+	/**
+	 * Callback indicating that the results of the given query were read
+	 * from the database.
+	 *
+	 * @param query The query
+	 * @param sql The executed SQL
+	 * @param rowCount The number of returned rows, or {@code -1} for
+	 * stream and scroll queries, whose results are read lazily
+	 * @param nanoseconds The time spent executing the query and
+	 * reading its results
+	 */
+	default void queryExecuted(String query, String sql, int rowCount, long nanoseconds) {
+	}
+}
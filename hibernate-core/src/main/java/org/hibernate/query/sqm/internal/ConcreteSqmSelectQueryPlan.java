@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
@@ -29,6 +30,7 @@ import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.Query;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryExecutionObserver;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
@@ -59,6 +61,8 @@ import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.QueryExecutionPhase;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
 
@@ -71,6 +75,7 @@ import static org.hibernate.query.sqm.internal.QuerySqmImpl.CRITERIA_HQL_STRING;
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
@@ -86,6 +91,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			TupleMetadata tupleMetadata,
 			QueryOptions queryOptions) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
 		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
@@ -287,11 +293,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			synchronized ( this ) {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation(
-							sqm,
-							domainParameterXref,
-							executionContext
-					);
+					localCopy = buildCacheableSqmInterpretation( executionContext );
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
 					cacheableSqmInterpretation = localCopy;
@@ -304,17 +306,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
+			// If the translation depends on the limit, we have to use a different JdbcSelect.
+			// Lock options are part of the plan cache key and the limit does not influence the SQL AST,
+			// so we first look for a previously rendered variant and otherwise just re-render the SQL AST
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation(
-						sqm,
-						domainParameterXref,
-						executionContext
-				);
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
+				if ( jdbcParameterBindings == null ) {
+					jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
+				}
+				final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+				final long startTime = isPhaseTimingEnabled( sessionFactory ) ? System.nanoTime() : 0L;
+				final CacheableSqmInterpretation previous = localCopy;
+				localCopy = localCopy.withCompatibleJdbcSelect( jdbcParameterBindings, executionContext );
 				cacheableSqmInterpretation = localCopy;
+				// only count the rendering of a new variant, not the reuse of a previously rendered one
+				if ( startTime != 0L && localCopy.renderedJdbcSelects != previous.renderedJdbcSelects ) {
+					phaseCompleted(
+							sessionFactory,
+							localCopy.getJdbcSelect(),
+							QueryExecutionPhase.RENDER,
+							System.nanoTime() - startTime
+					);
+				}
 			}
 		}
 
@@ -325,6 +337,33 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	private static boolean isPhaseTimingEnabled(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getStatistics().isStatisticsEnabled()
+				|| sessionFactory.getQueryEngine().getQueryExecutionObserver().isEnabled();
+	}
+
+	private void phaseCompleted(
+			SessionFactoryImplementor sessionFactory,
+			JdbcOperationQuerySelect jdbcSelect,
+			QueryExecutionPhase phase,
+			long nanoseconds) {
+		final String queryIdentifier = CRITERIA_HQL_STRING.equals( hql )
+				? "[CRITERIA] " + jdbcSelect.getSqlString()
+				: hql;
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryExecutionPhaseCompleted(
+					queryIdentifier,
+					phase,
+					TimeUnit.MICROSECONDS.convert( nanoseconds, TimeUnit.NANOSECONDS )
+			);
+		}
+		final QueryExecutionObserver observer = sessionFactory.getQueryEngine().getQueryExecutionObserver();
+		if ( observer.isEnabled() ) {
+			observer.queryPhaseCompleted( queryIdentifier, phase, nanoseconds );
+		}
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
@@ -346,13 +385,12 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return jdbcParameterBindings;
 	}
 
-	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
-			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
-			DomainQueryExecutionContext executionContext) {
+	private CacheableSqmInterpretation buildCacheableSqmInterpretation(DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final boolean timed = isPhaseTimingEnabled( sessionFactory );
+		final long startTime = timed ? System.nanoTime() : 0L;
 
 		final SqmTranslatorFactory sqmTranslatorFactory = queryEngine.getSqmTranslatorFactory();
 
@@ -368,6 +406,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 //			tableGroupAccess = sqmConverter.getFromClauseAccess();
 		final SqmTranslation<SelectStatement> sqmInterpretation = sqmConverter.translate();
+		final long translatedTime = timed ? System.nanoTime() : 0L;
 		final FromClauseAccess tableGroupAccess = sqmConverter.getFromClauseAccess();
 
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
@@ -394,11 +433,18 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				},
 				session
 		);
+		final long renderStartTime = timed ? System.nanoTime() : 0L;
 		final JdbcOperationQuerySelect jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( timed ) {
+			final long endTime = System.nanoTime();
+			phaseCompleted( sessionFactory, jdbcSelect, QueryExecutionPhase.TRANSLATE, translatedTime - startTime );
+			phaseCompleted( sessionFactory, jdbcSelect, QueryExecutionPhase.RENDER, endTime - renderStartTime );
+		}
 
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				jdbcSelect,
+				new JdbcOperationQuerySelect[] { jdbcSelect },
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -406,6 +452,18 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		);
 	}
 
+	private static JdbcOperationQuerySelect renderJdbcSelect(
+			SelectStatement selectStatement,
+			JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory();
+		return sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, selectStatement )
+				.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -415,8 +473,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	}
 
 	private static class CacheableSqmInterpretation {
+		/**
+		 * The maximum number of rendered variants of the same SQL AST we keep around,
+		 * e.g. for executions with and without a limit or with different literal limit values
+		 */
+		private static final int MAX_RENDERED_JDBC_SELECTS = 4;
+
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcOperationQuerySelect[] renderedJdbcSelects;
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
@@ -425,18 +490,65 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
+				JdbcOperationQuerySelect[] renderedJdbcSelects,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.renderedJdbcSelects = renderedJdbcSelects;
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
 			this.firstParameterBindings = firstParameterBindings;
 		}
 
+		/**
+		 * Returns an interpretation sharing the SQL AST and parameter cross-references with this one,
+		 * but with a {@link JdbcOperationQuerySelect} that is compatible with the given bindings and options.
+		 * Previously rendered variants are reused, so only a new shape requires rendering the SQL AST again.
+		 * The SQM to SQL AST translation is never repeated.
+		 */
+		CacheableSqmInterpretation withCompatibleJdbcSelect(
+				JdbcParameterBindings jdbcParameterBindings,
+				DomainQueryExecutionContext executionContext) {
+			final QueryOptions queryOptions = executionContext.getQueryOptions();
+			for ( JdbcOperationQuerySelect renderedJdbcSelect : renderedJdbcSelects ) {
+				if ( renderedJdbcSelect != jdbcSelect
+						&& renderedJdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+					renderedJdbcSelect.bindFilterJdbcParameters( jdbcParameterBindings );
+					return withJdbcSelect( renderedJdbcSelect, renderedJdbcSelects );
+				}
+			}
+
+			final JdbcOperationQuerySelect newJdbcSelect = renderJdbcSelect(
+					selectStatement,
+					jdbcParameterBindings,
+					executionContext
+			);
+			// Most recently rendered variants first, evicting the oldest one if we are at capacity
+			final int size = Math.min( renderedJdbcSelects.length + 1, MAX_RENDERED_JDBC_SELECTS );
+			final JdbcOperationQuerySelect[] newRenderedJdbcSelects = new JdbcOperationQuerySelect[size];
+			newRenderedJdbcSelects[0] = newJdbcSelect;
+			System.arraycopy( renderedJdbcSelects, 0, newRenderedJdbcSelects, 1, size - 1 );
+			return withJdbcSelect( newJdbcSelect, newRenderedJdbcSelects );
+		}
+
+		private CacheableSqmInterpretation withJdbcSelect(
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcOperationQuerySelect[] renderedJdbcSelects) {
+			return new CacheableSqmInterpretation(
+					selectStatement,
+					jdbcSelect,
+					renderedJdbcSelects,
+					tableGroupAccess,
+					jdbcParamsXref,
+					sqmParameterMappingModelTypes,
+					null
+			);
+		}
+
 		SelectStatement getSelectStatement() {
 			return selectStatement;
 		}
@@ -33,6 +33,8 @@ public class MultiTableDeleteQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
+		// the matching ids are selected, and temporary tables created, on the primary database
+		executionContext.getSession().getJdbcCoordinator().beforeModifyingStatement();
 		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref, executionContext );
 	}
 }
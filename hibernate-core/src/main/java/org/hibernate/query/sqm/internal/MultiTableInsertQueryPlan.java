@@ -32,6 +32,8 @@ public class MultiTableInsertQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
+		// the temporary table is created and populated on the primary database
+		executionContext.getSession().getJdbcCoordinator().beforeModifyingStatement();
 		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref, executionContext );
 	}
 }
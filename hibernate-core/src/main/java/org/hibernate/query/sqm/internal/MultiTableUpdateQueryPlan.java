@@ -33,6 +33,8 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
+		// the matching ids are selected, and temporary tables created, on the primary database
+		executionContext.getSession().getJdbcCoordinator().beforeModifyingStatement();
 		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref, executionContext );
 	}
 }
@@ -79,6 +79,7 @@ import org.hibernate.query.sqm.SqmPathSource;
 import org.hibernate.query.sqm.internal.SqmInterpretationsKey.InterpretationsKeySource;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
 import org.hibernate.query.sqm.tree.SqmStatement;
 import org.hibernate.query.sqm.tree.SqmTypedNode;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
@@ -268,7 +269,7 @@ public class QuerySqmImpl<R>
 			);
 		}
 		else {
-			if ( resultType != null ) {
+			if ( resultType != null && !hasReturningClause( sqm ) ) {
 				throw new IllegalQueryOperationException(
 						"Result type given for a non-SELECT Query",
 						hql,
@@ -298,7 +299,7 @@ public class QuerySqmImpl<R>
 			SqmUtil.verifyIsSelectStatement( sqmStatement, hql );
 		}
 		else {
-			if ( resultType != null ) {
+			if ( resultType != null && !hasReturningClause( sqmStatement ) ) {
 				throw new IllegalQueryOperationException(
 						"Result type given for a non-SELECT Query",
 						hql,
@@ -505,7 +506,18 @@ public class QuerySqmImpl<R>
 		}
 	}
 
+	private static boolean hasReturningClause(SqmStatement<?> sqmStatement) {
+		return sqmStatement instanceof SqmDmlStatement<?>
+				&& !( (SqmDmlStatement<?>) sqmStatement ).getReturningPaths().isEmpty();
+	}
+
 	protected List<R> doList() {
+		if ( hasReturningClause( getSqmStatement() ) ) {
+			// a mutation query with a returning clause produces a result list
+			getSession().prepareForQueryExecution( true );
+			//noinspection unchecked
+			return ( (SimpleReturningMutationQueryPlan<R>) resolveNonSelectQueryPlan() ).performList( this );
+		}
 		verifySelect();
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 
@@ -624,6 +636,14 @@ public class QuerySqmImpl<R>
 
 	@Override
 	protected ScrollableResultsImplementor doScroll(ScrollMode scrollMode) {
+		if ( hasReturningClause( getSqmStatement() ) ) {
+			// the rows are only read, and so the mutation only executed, as the results are scrolled
+			throw new IllegalQueryOperationException(
+					"A mutation query with a returning clause cannot be scrolled or streamed, use 'getResultList()' instead",
+					hql,
+					null
+			);
+		}
 		getSession().prepareForQueryExecution( requiresTxn( getQueryOptions().getLockOptions().findGreatestLockMode() ) );
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
@@ -757,6 +777,10 @@ public class QuerySqmImpl<R>
 	private NonSelectQueryPlan buildNonSelectQueryPlan() {
 		// to get here the SQM statement has already been validated to be
 		// a non-select variety...
+		if ( hasReturningClause( getSqmStatement() ) ) {
+			return buildReturningMutationQueryPlan();
+		}
+
 		if ( getSqmStatement() instanceof SqmDeleteStatement<?> ) {
 			return buildDeleteQueryPlan();
 		}
@@ -830,6 +854,26 @@ public class QuerySqmImpl<R>
 		}
 	}
 
+	private NonSelectQueryPlan buildReturningMutationQueryPlan() {
+		final SqmDmlStatement<?> sqmStatement = (SqmDmlStatement<?>) getSqmStatement();
+
+		final String entityName = sqmStatement.getTarget().getModel().getHibernateEntityName();
+		final AbstractEntityPersister entityDescriptor = (AbstractEntityPersister) getSessionFactory().getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityName );
+
+		final boolean multiTable = sqmStatement instanceof SqmInsertStatement<?>
+				? useMultiTableInsert( (SqmInsertStatement<?>) sqmStatement, entityDescriptor )
+				: entityDescriptor.getSqmMultiTableMutationStrategy() != null;
+		if ( multiTable ) {
+			throw new SemanticException(
+					"A returning clause is not supported for mutation queries which affect multiple tables: '"
+							+ entityName + "'"
+			);
+		}
+		return new SimpleReturningMutationQueryPlan<R>( sqmStatement, domainParameterXref );
+	}
+
 	private NonSelectQueryPlan buildInsertQueryPlan() {
 		//noinspection rawtypes
 		final SqmInsertStatement sqmInsert = (SqmInsertStatement) getSqmStatement();
@@ -839,18 +883,7 @@ public class QuerySqmImpl<R>
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityNameToInsert );
 
-		boolean useMultiTableInsert = entityDescriptor.isMultiTable();
-		if ( !useMultiTableInsert && !isSimpleValuesInsert( sqmInsert, entityDescriptor ) ) {
-			final Generator identifierGenerator = entityDescriptor.getGenerator();
-			if ( identifierGenerator instanceof BulkInsertionCapableIdentifierGenerator
-					&& identifierGenerator instanceof OptimizableGenerator ) {
-				final Optimizer optimizer = ( (OptimizableGenerator) identifierGenerator ).getOptimizer();
-				if ( optimizer != null && optimizer.getIncrementSize() > 1 ) {
-					useMultiTableInsert = !hasIdentifierAssigned( sqmInsert, entityDescriptor );
-				}
-			}
-		}
-		if ( !useMultiTableInsert ) {
+		if ( !useMultiTableInsert( sqmInsert, entityDescriptor ) ) {
 			return new SimpleInsertQueryPlan( sqmInsert, domainParameterXref );
 		}
 		else {
@@ -862,6 +895,23 @@ public class QuerySqmImpl<R>
 		}
 	}
 
+	private boolean useMultiTableInsert(SqmInsertStatement<?> sqmInsert, AbstractEntityPersister entityDescriptor) {
+		if ( entityDescriptor.isMultiTable() ) {
+			return true;
+		}
+		if ( !isSimpleValuesInsert( sqmInsert, entityDescriptor ) ) {
+			final Generator identifierGenerator = entityDescriptor.getGenerator();
+			if ( identifierGenerator instanceof BulkInsertionCapableIdentifierGenerator
+					&& identifierGenerator instanceof OptimizableGenerator ) {
+				final Optimizer optimizer = ( (OptimizableGenerator) identifierGenerator ).getOptimizer();
+				if ( optimizer != null && optimizer.getIncrementSize() > 1 ) {
+					return !hasIdentifierAssigned( sqmInsert, entityDescriptor );
+				}
+			}
+		}
+		return false;
+	}
+
 	protected boolean hasIdentifierAssigned(SqmInsertStatement<?> sqmInsert, EntityPersister entityDescriptor) {
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
 		final String partName;
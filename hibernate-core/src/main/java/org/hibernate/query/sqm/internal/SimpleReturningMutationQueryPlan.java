@@ -0,0 +1,203 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.NonSelectQueryPlan;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.SqmDmlStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.MutationStatement;
+import org.hibernate.sql.ast.tree.delete.DeleteStatement;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.insert.InsertStatement;
+import org.hibernate.sql.ast.tree.update.UpdateStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerStandard;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * A {@link NonSelectQueryPlan} for a single-table {@code update}, {@code delete},
+ * or {@code insert} statement with a {@code returning} clause. The mutation is
+ * rendered with the native syntax of the dialect, and the rows it returns are
+ * read using the usual {@link org.hibernate.sql.exec.spi.JdbcSelectExecutor}.
+ */
+public class SimpleReturningMutationQueryPlan<R> implements NonSelectQueryPlan {
+	private final SqmDmlStatement<?> sqmStatement;
+	private final DomainParameterXref domainParameterXref;
+
+	private JdbcOperationQueryMutation jdbcMutation;
+	private JdbcOperationQuerySelect jdbcSelect;
+	private SqmTranslation<? extends MutationStatement> sqmInterpretation;
+	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<List<JdbcParameter>>>> jdbcParamsXref;
+
+	public SimpleReturningMutationQueryPlan(
+			SqmDmlStatement<?> sqmStatement,
+			DomainParameterXref domainParameterXref) {
+		assert !sqmStatement.getReturningPaths().isEmpty();
+		this.sqmStatement = sqmStatement;
+		this.domainParameterXref = domainParameterXref;
+	}
+
+	@Override
+	public int executeUpdate(DomainQueryExecutionContext executionContext) {
+		return performList( executionContext ).size();
+	}
+
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmStatement );
+		// the returned rows are read like a query, but the statement modifies data
+		executionContext.getSession().getJdbcCoordinator().beforeModifyingStatement();
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		SqlAstTranslator<? extends JdbcOperationQueryMutation> translator = null;
+		if ( jdbcMutation == null ) {
+			translator = createTranslator( executionContext );
+		}
+
+		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				factory.getRuntimeMetamodels().getMappingMetamodel(),
+				sqmInterpretation.getFromClauseAccess()::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
+					}
+				},
+				session
+		);
+
+		if ( jdbcMutation != null
+				&& !jdbcMutation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			translator = createTranslator( executionContext );
+		}
+
+		if ( translator != null ) {
+			jdbcMutation = translator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+			jdbcSelect = createJdbcSelect( jdbcMutation, sqmInterpretation.getSqlAst().getReturningColumns() );
+		}
+		else {
+			jdbcMutation.bindFilterJdbcParameters( jdbcParameterBindings );
+		}
+
+		return factory.getJdbcServices().getJdbcSelectExecutor().list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext ),
+				rowTransformer(),
+				ListResultsConsumer.UniqueSemantic.NONE
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private RowTransformer<R> rowTransformer() {
+		return sqmStatement.getReturningPaths().size() == 1
+				? RowTransformerSingularReturnImpl.instance()
+				: (RowTransformer<R>) RowTransformerArrayImpl.instance();
+	}
+
+	private static JdbcOperationQuerySelect createJdbcSelect(
+			JdbcOperationQueryMutation jdbcMutation,
+			List<ColumnReference> returningColumns) {
+		final List<SqlSelection> sqlSelections = new ArrayList<>( returningColumns.size() );
+		final List<DomainResult<?>> domainResults = new ArrayList<>( returningColumns.size() );
+		for ( int i = 0; i < returningColumns.size(); i++ ) {
+			final ColumnReference columnReference = returningColumns.get( i );
+			sqlSelections.add( new SqlSelectionImpl( i + 1, i, columnReference ) );
+			domainResults.add( new BasicResult<>( i, null, columnReference.getJdbcMapping() ) );
+		}
+		return new JdbcOperationQuerySelect(
+				jdbcMutation.getSqlString(),
+				jdbcMutation.getParameterBinders(),
+				new JdbcValuesMappingProducerStandard( sqlSelections, domainResults ),
+				jdbcMutation.getAffectedTableNames(),
+				jdbcMutation.getFilterJdbcParameters()
+		);
+	}
+
+	private SqlAstTranslator<? extends JdbcOperationQueryMutation> createTranslator(DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final SqmTranslatorFactory translatorFactory = factory.getQueryEngine().getSqmTranslatorFactory();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory = factory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory();
+
+		final SqlAstTranslator<? extends JdbcOperationQueryMutation> sqlAstTranslator;
+		if ( sqmStatement instanceof SqmUpdateStatement<?> ) {
+			final SqmTranslation<UpdateStatement> translation = translatorFactory.createSimpleUpdateTranslator(
+					(SqmUpdateStatement<?>) sqmStatement,
+					executionContext.getQueryOptions(),
+					domainParameterXref,
+					executionContext.getQueryParameterBindings(),
+					executionContext.getSession().getLoadQueryInfluencers(),
+					factory
+			).translate();
+			sqlAstTranslator = sqlAstTranslatorFactory.buildUpdateTranslator( factory, translation.getSqlAst() );
+			sqmInterpretation = translation;
+		}
+		else if ( sqmStatement instanceof SqmDeleteStatement<?> ) {
+			final SqmTranslation<DeleteStatement> translation = translatorFactory.createSimpleDeleteTranslator(
+					(SqmDeleteStatement<?>) sqmStatement,
+					executionContext.getQueryOptions(),
+					domainParameterXref,
+					executionContext.getQueryParameterBindings(),
+					executionContext.getSession().getLoadQueryInfluencers(),
+					factory
+			).translate();
+			sqlAstTranslator = sqlAstTranslatorFactory.buildDeleteTranslator( factory, translation.getSqlAst() );
+			sqmInterpretation = translation;
+		}
+		else {
+			final SqmTranslation<InsertStatement> translation = translatorFactory.createInsertTranslator(
+					(SqmInsertStatement<?>) sqmStatement,
+					executionContext.getQueryOptions(),
+					domainParameterXref,
+					executionContext.getQueryParameterBindings(),
+					executionContext.getSession().getLoadQueryInfluencers(),
+					factory
+			).translate();
+			sqlAstTranslator = sqlAstTranslatorFactory.buildInsertTranslator( factory, translation.getSqlAst() );
+			sqmInterpretation = translation;
+		}
+
+		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+				domainParameterXref,
+				sqmInterpretation::getJdbcParamsBySqmParam
+		);
+
+		return sqlAstTranslator;
+	}
+}
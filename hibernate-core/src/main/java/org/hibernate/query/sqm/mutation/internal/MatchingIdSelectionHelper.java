@@ -23,6 +23,7 @@ import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.sqm.FetchClauseType;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
 import org.hibernate.query.sqm.internal.SqmUtil;
@@ -35,6 +36,7 @@ import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.QueryLiteral;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
@@ -189,6 +191,19 @@ public class MatchingIdSelectionHelper {
 			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
+		return selectMatchingIds( sqmMutationStatement, domainParameterXref, executionContext, -1 );
+	}
+
+	/**
+	 * Selection of at most {@code maxResults} ids matching the restriction of
+	 * the DELETE or UPDATE SQM query, or of all matching ids if {@code maxResults}
+	 * is negative
+	 */
+	public static List<Object> selectMatchingIds(
+			SqmDeleteOrUpdateStatement<?> sqmMutationStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext executionContext,
+			int maxResults) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 
 		final EntityMappingType entityDescriptor = factory.getRuntimeMetamodels().getEntityMappingType(
@@ -277,6 +292,16 @@ public class MatchingIdSelectionHelper {
 			sqmConverter.getProcessingStateStack().pop();
 		}
 
+		if ( maxResults >= 0 ) {
+			matchingIdSelection.getQuerySpec().setFetchClauseExpression(
+					new QueryLiteral<>(
+							maxResults,
+							factory.getTypeConfiguration().getBasicTypeForJavaType( Integer.class )
+					),
+					FetchClauseType.ROWS_ONLY
+			);
+		}
+
 		final JdbcServices jdbcServices = factory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslator<JdbcOperationQuerySelect> sqlAstSelectTranslator = jdbcEnvironment
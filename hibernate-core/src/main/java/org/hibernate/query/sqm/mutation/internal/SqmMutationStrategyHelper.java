@@ -10,14 +10,18 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.query.sqm.mutation.internal.inline.AdaptiveMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy;
 import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
@@ -52,14 +56,21 @@ public class SqmMutationStrategyHelper {
 		final RuntimeModelCreationContext creationContext = creationProcess.getCreationContext();
 		final SessionFactoryOptions options = creationContext.getSessionFactoryOptions();
 
+		// todo (6.0) : add capability define strategy per-hierarchy
 		final SqmMultiTableMutationStrategy specifiedStrategy = options.getCustomSqmMultiTableMutationStrategy();
-		if ( specifiedStrategy != null ) {
-			return specifiedStrategy;
+		final SqmMultiTableMutationStrategy strategy = specifiedStrategy != null
+				? specifiedStrategy
+				: creationContext.getDialect().getFallbackSqmMutationStrategy( rootEntityDescriptor, creationContext );
+
+		final int inlineThreshold = ConfigurationHelper.getInt(
+				AvailableSettings.QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD,
+				creationContext.getSettings(),
+				0
+		);
+		if ( inlineThreshold > 0 && !( strategy instanceof InlineMutationStrategy ) ) {
+			return new AdaptiveMutationStrategy( strategy, inlineThreshold );
 		}
-
-		// todo (6.0) : add capability define strategy per-hierarchy
-
-		return creationContext.getDialect().getFallbackSqmMutationStrategy( rootEntityDescriptor, creationContext );
+		return strategy;
 	}
 
 	/**
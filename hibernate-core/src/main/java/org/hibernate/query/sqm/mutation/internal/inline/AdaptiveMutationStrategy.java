@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.mutation.internal.inline;
+
+import java.util.List;
+
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.SqmQuery;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.mutation.internal.MatchingIdSelectionHelper;
+import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.temptable.LocalTemporaryTableMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.temptable.PersistentTableMutationStrategy;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.stat.MultiTableMutationStrategyKind;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Wraps the temporary table or CTE based strategy of an entity hierarchy, and
+ * uses the in-line strategy instead when few rows match the restriction of the
+ * mutation. To decide, at most {@code inlineThreshold + 1} matching ids are
+ * selected. When no more than {@code inlineThreshold} are found, they are all
+ * the matching ids, and they are passed inline to the mutation statements,
+ * avoiding the DDL of a temporary table, or a potentially costly CTE.
+ * Otherwise, the wrapped strategy executes the mutation.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD
+ */
+public class AdaptiveMutationStrategy implements SqmMultiTableMutationStrategy {
+	private final SqmMultiTableMutationStrategy fallbackStrategy;
+	private final MultiTableMutationStrategyKind fallbackStrategyKind;
+	private final int inlineThreshold;
+
+	public AdaptiveMutationStrategy(SqmMultiTableMutationStrategy fallbackStrategy, int inlineThreshold) {
+		assert inlineThreshold > 0;
+		this.fallbackStrategy = fallbackStrategy;
+		this.fallbackStrategyKind = kind( fallbackStrategy );
+		this.inlineThreshold = inlineThreshold;
+	}
+
+	private static MultiTableMutationStrategyKind kind(SqmMultiTableMutationStrategy strategy) {
+		if ( strategy instanceof CteMutationStrategy ) {
+			return MultiTableMutationStrategyKind.CTE;
+		}
+		else if ( strategy instanceof GlobalTemporaryTableMutationStrategy
+				|| strategy instanceof LocalTemporaryTableMutationStrategy
+				|| strategy instanceof PersistentTableMutationStrategy ) {
+			return MultiTableMutationStrategyKind.TEMPORARY_TABLE;
+		}
+		else if ( strategy instanceof InlineMutationStrategy ) {
+			return MultiTableMutationStrategyKind.INLINE;
+		}
+		else {
+			return MultiTableMutationStrategyKind.OTHER;
+		}
+	}
+
+	public SqmMultiTableMutationStrategy getFallbackStrategy() {
+		return fallbackStrategy;
+	}
+
+	public int getInlineThreshold() {
+		return inlineThreshold;
+	}
+
+	@Override
+	public void prepare(
+			MappingModelCreationProcess mappingModelCreationProcess,
+			JdbcConnectionAccess connectionAccess) {
+		fallbackStrategy.prepare( mappingModelCreationProcess, connectionAccess );
+	}
+
+	@Override
+	public void release(SessionFactoryImplementor sessionFactory, JdbcConnectionAccess connectionAccess) {
+		fallbackStrategy.release( sessionFactory, connectionAccess );
+	}
+
+	@Override
+	public int executeUpdate(
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final List<Object> matchingIds = selectMatchingIds( sqmUpdate, domainParameterXref, context );
+		if ( matchingIds == null ) {
+			recordStrategy( fallbackStrategyKind, context );
+			return fallbackStrategy.executeUpdate( sqmUpdate, domainParameterXref, context );
+		}
+		else {
+			recordStrategy( MultiTableMutationStrategyKind.INLINE, context );
+			return new InlineUpdateHandler(
+					new InPredicateRestrictionProducer(),
+					sqmUpdate,
+					domainParameterXref,
+					matchingIds,
+					context
+			).execute( context );
+		}
+	}
+
+	@Override
+	public int executeDelete(
+			SqmDeleteStatement<?> sqmDelete,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final List<Object> matchingIds = selectMatchingIds( sqmDelete, domainParameterXref, context );
+		if ( matchingIds == null ) {
+			recordStrategy( fallbackStrategyKind, context );
+			return fallbackStrategy.executeDelete( sqmDelete, domainParameterXref, context );
+		}
+		else {
+			recordStrategy( MultiTableMutationStrategyKind.INLINE, context );
+			return new InlineDeleteHandler(
+					new InPredicateRestrictionProducer(),
+					sqmDelete,
+					domainParameterXref,
+					matchingIds,
+					context
+			).execute( context );
+		}
+	}
+
+	/**
+	 * @return all the matching ids, or {@code null} if there are more than
+	 *         {@link #inlineThreshold} of them
+	 */
+	private List<Object> selectMatchingIds(
+			SqmDeleteOrUpdateStatement<?> sqmStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final List<Object> matchingIds = MatchingIdSelectionHelper.selectMatchingIds(
+				sqmStatement,
+				domainParameterXref,
+				context,
+				inlineThreshold + 1
+		);
+		return matchingIds.size() > inlineThreshold ? null : matchingIds;
+	}
+
+	private static void recordStrategy(MultiTableMutationStrategyKind kind, DomainQueryExecutionContext context) {
+		final StatisticsImplementor statistics = context.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && context instanceof SqmQuery ) {
+			statistics.multiTableMutationExecuted( ( (SqmQuery) context ).getQueryString(), kind );
+		}
+	}
+}
@@ -45,6 +45,7 @@ public class InlineDeleteHandler implements DeleteHandler {
 	private final MatchingIdRestrictionProducer matchingIdsPredicateProducer;
 	private final SqmDeleteStatement<?> sqmDeleteStatement;
 	private final DomainParameterXref domainParameterXref;
+	private final List<Object> matchingIds;
 
 	private final DomainQueryExecutionContext executionContext;
 
@@ -57,7 +58,21 @@ public class InlineDeleteHandler implements DeleteHandler {
 			SqmDeleteStatement<?> sqmDeleteStatement,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		this( matchingIdsPredicateProducer, sqmDeleteStatement, domainParameterXref, null, context );
+	}
+
+	/**
+	 * @param matchingIds the ids (and FK target values) matching the restriction
+	 *                    of the delete, if they were already selected, or {@code null}
+	 */
+	protected InlineDeleteHandler(
+			MatchingIdRestrictionProducer matchingIdsPredicateProducer,
+			SqmDeleteStatement<?> sqmDeleteStatement,
+			DomainParameterXref domainParameterXref,
+			List<Object> matchingIds,
+			DomainQueryExecutionContext context) {
 		this.sqmDeleteStatement = sqmDeleteStatement;
+		this.matchingIds = matchingIds;
 
 		this.domainParameterXref = domainParameterXref;
 		this.matchingIdsPredicateProducer = matchingIdsPredicateProducer;
@@ -71,11 +86,9 @@ public class InlineDeleteHandler implements DeleteHandler {
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final List<Object> idsAndFks = MatchingIdSelectionHelper.selectMatchingIds(
-				sqmDeleteStatement,
-				domainParameterXref,
-				executionContext
-		);
+		final List<Object> idsAndFks = matchingIds != null
+				? matchingIds
+				: MatchingIdSelectionHelper.selectMatchingIds( sqmDeleteStatement, domainParameterXref, executionContext );
 
 		if ( idsAndFks == null || idsAndFks.isEmpty() ) {
 			return 0;
@@ -87,6 +87,7 @@ public class InlineUpdateHandler implements UpdateHandler {
 	private final SqmUpdateStatement<?> sqmUpdate;
 	private final DomainParameterXref domainParameterXref;
 	private final MatchingIdRestrictionProducer matchingIdsPredicateProducer;
+	private final List<Object> matchingIds;
 
 	private final DomainQueryExecutionContext executionContext;
 
@@ -99,7 +100,21 @@ public class InlineUpdateHandler implements UpdateHandler {
 			SqmUpdateStatement<?> sqmUpdate,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext context) {
+		this( matchingIdsPredicateProducer, sqmUpdate, domainParameterXref, null, context );
+	}
+
+	/**
+	 * @param matchingIds the ids matching the restriction of the update, if
+	 *                    they were already selected, or {@code null}
+	 */
+	public InlineUpdateHandler(
+			MatchingIdRestrictionProducer matchingIdsPredicateProducer,
+			SqmUpdateStatement<?> sqmUpdate,
+			DomainParameterXref domainParameterXref,
+			List<Object> matchingIds,
+			DomainQueryExecutionContext context) {
 		this.matchingIdsPredicateProducer = matchingIdsPredicateProducer;
+		this.matchingIds = matchingIds;
 		this.domainParameterXref = domainParameterXref;
 		this.sqmUpdate = sqmUpdate;
 
@@ -112,11 +127,9 @@ public class InlineUpdateHandler implements UpdateHandler {
 
 	@Override
 	public int execute(DomainQueryExecutionContext executionContext) {
-		final List<Object> ids = MatchingIdSelectionHelper.selectMatchingIds(
-				sqmUpdate,
-				domainParameterXref,
-				executionContext
-		);
+		final List<Object> ids = matchingIds != null
+				? matchingIds
+				: MatchingIdSelectionHelper.selectMatchingIds( sqmUpdate, domainParameterXref, executionContext );
 
 		if ( ids == null || ids.isEmpty() ) {
 			return 0;
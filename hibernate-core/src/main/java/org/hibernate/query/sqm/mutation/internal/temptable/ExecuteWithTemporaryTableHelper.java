@@ -17,6 +17,7 @@ import org.hibernate.dialect.temptable.TemporaryTable;
 import org.hibernate.dialect.temptable.TemporaryTableColumn;
 import org.hibernate.dialect.temptable.TemporaryTableHelper;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -292,6 +293,9 @@ public final class ExecuteWithTemporaryTableHelper {
 			ExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final Dialect dialect = factory.getJdbcServices().getDialect();
+		// the temporary table, or its rows, must not be lost along with the connection
+		executionContext.getSession().getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+				.registerConnectionState( temporaryTable );
 		if ( dialect.getTemporaryTableBeforeUseAction() == BeforeUseAction.CREATE ) {
 			final TemporaryTableHelper.TemporaryTableCreationWork temporaryTableCreationWork = new TemporaryTableHelper.TemporaryTableCreationWork(
 					temporaryTable,
@@ -320,36 +324,44 @@ public final class ExecuteWithTemporaryTableHelper {
 			ExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 		final Dialect dialect = factory.getJdbcServices().getDialect();
-		switch ( afterUseAction ) {
-			case CLEAN:
-				TemporaryTableHelper.cleanTemporaryTableRows(
-						temporaryTable,
-						dialect.getTemporaryTableExporter(),
-						sessionUidAccess,
-						executionContext.getSession()
-				);
-				break;
-			case DROP:
-				final TemporaryTableHelper.TemporaryTableDropWork temporaryTableDropWork = new TemporaryTableHelper.TemporaryTableDropWork(
-						temporaryTable,
-						factory
-				);
-
-				final TempTableDdlTransactionHandling ddlTransactionHandling = dialect.getTemporaryTableDdlTransactionHandling();
-				if ( ddlTransactionHandling == TempTableDdlTransactionHandling.NONE ) {
-					executionContext.getSession().doWork( temporaryTableDropWork );
-				}
-				else {
-					final IsolationDelegate isolationDelegate = executionContext.getSession()
-							.getJdbcCoordinator()
-							.getJdbcSessionOwner()
-							.getTransactionCoordinator()
-							.createIsolationDelegate();
-					isolationDelegate.delegateWork(
-							temporaryTableDropWork,
-							ddlTransactionHandling == TempTableDdlTransactionHandling.ISOLATE_AND_TRANSACT
+		try {
+			switch ( afterUseAction ) {
+				case CLEAN:
+					TemporaryTableHelper.cleanTemporaryTableRows(
+							temporaryTable,
+							dialect.getTemporaryTableExporter(),
+							sessionUidAccess,
+							executionContext.getSession()
 					);
-				}
+					break;
+				case DROP:
+					final TemporaryTableHelper.TemporaryTableDropWork temporaryTableDropWork = new TemporaryTableHelper.TemporaryTableDropWork(
+							temporaryTable,
+							factory
+					);
+
+					final TempTableDdlTransactionHandling ddlTransactionHandling = dialect.getTemporaryTableDdlTransactionHandling();
+					if ( ddlTransactionHandling == TempTableDdlTransactionHandling.NONE ) {
+						executionContext.getSession().doWork( temporaryTableDropWork );
+					}
+					else {
+						final IsolationDelegate isolationDelegate = executionContext.getSession()
+								.getJdbcCoordinator()
+								.getJdbcSessionOwner()
+								.getTransactionCoordinator()
+								.createIsolationDelegate();
+						isolationDelegate.delegateWork(
+								temporaryTableDropWork,
+								ddlTransactionHandling == TempTableDdlTransactionHandling.ISOLATE_AND_TRANSACT
+						);
+					}
+			}
+		}
+		finally {
+			final JdbcCoordinator jdbcCoordinator = executionContext.getSession().getJdbcCoordinator();
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().releaseConnectionState( temporaryTable );
+			// the connection might now be idle
+			jdbcCoordinator.afterStatementExecution();
 		}
 	}
 }
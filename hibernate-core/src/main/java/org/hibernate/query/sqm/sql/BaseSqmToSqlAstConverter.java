@@ -840,7 +840,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 					(NamedTableReference) rootTableGroup.getPrimaryTableReference(),
 					assignments,
 					SqlAstTreeHelper.combinePredicates( suppliedPredicate, additionalRestrictions ),
-					Collections.emptyList()
+					visitReturningPaths( sqmStatement, getDialect().supportsUpdateReturning() )
 			);
 		}
 		finally {
@@ -1121,7 +1121,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 					cteContainer,
 					(NamedTableReference) rootTableGroup.getPrimaryTableReference(),
 					SqlAstTreeHelper.combinePredicates( suppliedPredicate, additionalRestrictions ),
-					Collections.emptyList()
+					visitReturningPaths( statement, getDialect().supportsDeleteReturning() )
 			);
 		}
 		finally {
@@ -1182,7 +1182,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			insertStatement = new InsertSelectStatement(
 					cteContainer,
 					(NamedTableReference) rootTableGroup.getPrimaryTableReference(),
-					Collections.emptyList()
+					visitReturningPaths( sqmStatement, getDialect().supportsInsertReturning() )
 			);
 			additionalInsertValues = visitInsertionTargetPaths(
 					(assigable, references) -> insertStatement.addTargetColumnReferences( references ),
@@ -1222,6 +1222,31 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		return insertStatement;
 	}
 
+	private List<ColumnReference> visitReturningPaths(SqmDmlStatement<?> sqmStatement, boolean supported) {
+		final List<SqmPath<?>> returningPaths = sqmStatement.getReturningPaths();
+		if ( returningPaths.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		if ( !supported ) {
+			throw new SemanticException(
+					"Dialect '" + getDialect().getClass().getName()
+							+ "' does not support a returning clause for this kind of mutation query"
+			);
+		}
+		final List<ColumnReference> returningColumns = new ArrayList<>( returningPaths.size() );
+		for ( SqmPath<?> returningPath : returningPaths ) {
+			final Object interpretation = returningPath.accept( this );
+			if ( !( interpretation instanceof BasicValuedPathInterpretation<?> ) ) {
+				throw new SemanticException(
+						"The returning clause of a mutation query may only list basic attributes: "
+								+ returningPath.getNavigablePath().getFullPath()
+				);
+			}
+			returningColumns.add( ( (BasicValuedPathInterpretation<?>) interpretation ).getColumnReferences().get( 0 ) );
+		}
+		return returningColumns;
+	}
+
 	private static boolean hasJoins(TableGroup rootTableGroup) {
 		if ( !rootTableGroup.getTableReferenceJoins().isEmpty() ) {
 			return true;
@@ -1287,7 +1312,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			final InsertSelectStatement insertStatement = new InsertSelectStatement(
 					cteContainer,
 					(NamedTableReference) rootTableGroup.getPrimaryTableReference(),
-					Collections.emptyList()
+					visitReturningPaths( sqmStatement, getDialect().supportsInsertReturning() )
 			);
 
 			final AdditionalInsertValues additionalInsertValues = visitInsertionTargetPaths(
@@ -6,16 +6,22 @@
  */
 package org.hibernate.query.sqm.tree;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.query.criteria.JpaCteCriteria;
+import org.hibernate.query.criteria.JpaManipulationCriteria;
+import org.hibernate.query.criteria.JpaPath;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.SqmQuerySource;
 import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 import org.hibernate.query.sqm.tree.select.SqmSelectQuery;
@@ -33,6 +39,7 @@ public abstract class AbstractSqmDmlStatement<E>
 		implements SqmDmlStatement<E> {
 	private final Map<String, SqmCteStatement<?>> cteStatements;
 	private SqmRoot<E> target;
+	private List<SqmPath<?>> returningPaths = Collections.emptyList();
 
 	public AbstractSqmDmlStatement(SqmQuerySource querySource, NodeBuilder nodeBuilder) {
 		super( querySource, nodeBuilder );
@@ -180,6 +187,37 @@ public abstract class AbstractSqmDmlStatement<E>
 		this.target = root;
 	}
 
+	@Override
+	public List<SqmPath<?>> getReturningPaths() {
+		return returningPaths;
+	}
+
+	@Override
+	public void setReturningPaths(List<SqmPath<?>> returningPaths) {
+		this.returningPaths = returningPaths == null ? Collections.emptyList() : returningPaths;
+	}
+
+	@Override
+	public JpaManipulationCriteria<E> returning(JpaPath<?>... paths) {
+		final List<SqmPath<?>> returningPaths = new ArrayList<>( paths.length );
+		for ( JpaPath<?> path : paths ) {
+			returningPaths.add( (SqmPath<?>) path );
+		}
+		setReturningPaths( returningPaths );
+		return this;
+	}
+
+	protected List<SqmPath<?>> copyReturningPaths(SqmCopyContext context) {
+		if ( returningPaths.isEmpty() ) {
+			return returningPaths;
+		}
+		final List<SqmPath<?>> copies = new ArrayList<>( returningPaths.size() );
+		for ( SqmPath<?> returningPath : returningPaths ) {
+			copies.add( returningPath.copy( context ) );
+		}
+		return copies;
+	}
+
 	@Override
 	public <U> SqmSubQuery<U> subquery(Class<U> type) {
 		return new SqmSubQuery<>( this, type, nodeBuilder() );
@@ -195,4 +233,15 @@ public abstract class AbstractSqmDmlStatement<E>
 			sb.setLength( sb.length() - 2 );
 		}
 	}
+
+	protected void appendHqlReturningString(StringBuilder sb) {
+		if ( !returningPaths.isEmpty() ) {
+			sb.append( " returning " );
+			returningPaths.get( 0 ).appendHqlString( sb );
+			for ( int i = 1; i < returningPaths.size(); i++ ) {
+				sb.append( ", " );
+				returningPaths.get( i ).appendHqlString( sb );
+			}
+		}
+	}
 }
@@ -126,5 +126,6 @@ public abstract class AbstractSqmRestrictedDmlStatement<T> extends AbstractSqmDm
 			sb.append( " where " );
 			whereClause.getPredicate().appendHqlString( sb );
 		}
+		appendHqlReturningString( sb );
 	}
 }
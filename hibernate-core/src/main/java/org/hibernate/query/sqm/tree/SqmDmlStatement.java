@@ -6,9 +6,12 @@
  */
 package org.hibernate.query.sqm.tree;
 
+import java.util.List;
+
 import org.hibernate.query.criteria.JpaManipulationCriteria;
 import org.hibernate.query.sqm.tree.cte.SqmCteContainer;
 import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.from.SqmRoot;
 
 /**
@@ -29,4 +32,19 @@ public interface SqmDmlStatement<E> extends SqmStatement<E>, SqmCteContainer, Jp
 	 * Set the root path
 	 */
 	void setTarget(SqmRoot<E> root);
+
+	/**
+	 * The paths of the attributes of the affected rows which are returned
+	 * by the statement, empty if the statement only returns a row count.
+	 *
+	 * @since 6.2
+	 */
+	List<SqmPath<?>> getReturningPaths();
+
+	/**
+	 * Set the paths of the attributes of the affected rows to return.
+	 *
+	 * @since 6.2
+	 */
+	void setReturningPaths(List<SqmPath<?>> returningPaths);
 }
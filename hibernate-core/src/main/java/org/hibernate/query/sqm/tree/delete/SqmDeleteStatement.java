@@ -74,6 +74,7 @@ public class SqmDeleteStatement<T>
 				)
 		);
 		statement.setWhereClause( copyWhereClause( context ) );
+		statement.setReturningPaths( copyReturningPaths( context ) );
 		return statement;
 	}
 
@@ -68,7 +68,7 @@ public class SqmInsertSelectStatement<T> extends AbstractSqmInsertStatement<T> i
 		if ( existing != null ) {
 			return existing;
 		}
-		return context.registerCopy(
+		final SqmInsertSelectStatement<T> statement = context.registerCopy(
 				this,
 				new SqmInsertSelectStatement<>(
 						nodeBuilder(),
@@ -80,6 +80,8 @@ public class SqmInsertSelectStatement<T> extends AbstractSqmInsertStatement<T> i
 						selectQueryPart.copy( context )
 				)
 		);
+		statement.setReturningPaths( copyReturningPaths( context ) );
+		return statement;
 	}
 
 	public SqmQueryPart<?> getSelectQueryPart() {
@@ -106,5 +108,6 @@ public class SqmInsertSelectStatement<T> extends AbstractSqmInsertStatement<T> i
 		super.appendHqlString( sb );
 		sb.append( ' ' );
 		selectQueryPart.appendHqlString( sb );
+		appendHqlReturningString( sb );
 	}
 }
@@ -55,7 +55,7 @@ public class SqmInsertValuesStatement<T> extends AbstractSqmInsertStatement<T> {
 		for ( SqmValues sqmValues : this.valuesList ) {
 			valuesList.add( sqmValues.copy( context ) );
 		}
-		return context.registerCopy(
+		final SqmInsertValuesStatement<T> statement = context.registerCopy(
 				this,
 				new SqmInsertValuesStatement<>(
 						nodeBuilder(),
@@ -67,6 +67,8 @@ public class SqmInsertValuesStatement<T> extends AbstractSqmInsertStatement<T> {
 						valuesList
 				)
 		);
+		statement.setReturningPaths( copyReturningPaths( context ) );
+		return statement;
 	}
 
 	public List<SqmValues> getValuesList() {
@@ -93,6 +95,7 @@ public class SqmInsertValuesStatement<T> extends AbstractSqmInsertStatement<T> {
 			appendValues( valuesList.get( i ), sb );
 		}
 		sb.append( ')' );
+		appendHqlReturningString( sb );
 	}
 
 	private static void appendValues(SqmValues sqmValues, StringBuilder sb) {
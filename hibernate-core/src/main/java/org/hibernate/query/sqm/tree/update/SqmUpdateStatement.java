@@ -89,6 +89,7 @@ public class SqmUpdateStatement<T>
 		if ( setClause != null ) {
 			statement.setClause = setClause.copy( context );
 		}
+		statement.setReturningPaths( copyReturningPaths( context ) );
 		return statement;
 	}
 
@@ -74,4 +74,34 @@ public interface ResourceRegistry {
 
 	void cancelLastQuery();
 
+	/**
+	 * Register state held by the JDBC connection which would be lost if the
+	 * connection were released, a local temporary table, for example. While
+	 * such state is registered, the connection is not released when idle.
+	 * By default, the state is not tracked.
+	 *
+	 * @param state An object identifying the state
+	 *
+	 * @see org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode#DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE
+	 */
+	default void registerConnectionState(Object state) {
+	}
+
+	/**
+	 * Release state previously registered by {@link #registerConnectionState(Object)}.
+	 *
+	 * @param state The object identifying the state
+	 */
+	default void releaseConnectionState(Object state) {
+	}
+
+	/**
+	 * Does the JDBC connection currently hold any registered state?
+	 *
+	 * @return True if some state was registered and not yet released; false otherwise.
+	 */
+	default boolean hasConnectionState() {
+		return false;
+	}
+
 }
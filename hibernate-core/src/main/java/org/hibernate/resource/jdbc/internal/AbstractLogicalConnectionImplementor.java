@@ -64,10 +64,20 @@ public abstract class AbstractLogicalConnectionImplementor implements LogicalCon
 
 	protected abstract Connection getConnectionForTransactionManagement();
 
+	/**
+	 * Does beginning or completing the current transaction involve the JDBC
+	 * {@code Connection}? When not, no {@code Connection} was used since the
+	 * transaction began, and the transaction is begun on a {@code Connection}
+	 * only once one is acquired.
+	 */
+	protected boolean requiresConnectionForTransactionManagement() {
+		return true;
+	}
+
 	@Override
 	public void begin() {
 		try {
-			if ( !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
+			if ( requiresConnectionForTransactionManagement() && !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
 				log.trace( "Preparing to begin transaction via JDBC Connection.setAutoCommit(false)" );
 				getConnectionForTransactionManagement().setAutoCommit( false );
 				log.trace( "Transaction begun via JDBC Connection.setAutoCommit(false)" );
@@ -82,10 +92,12 @@ public abstract class AbstractLogicalConnectionImplementor implements LogicalCon
 	@Override
 	public void commit() {
 		try {
-			log.trace( "Preparing to commit transaction via JDBC Connection.commit()" );
-			getConnectionForTransactionManagement().commit();
+			if ( requiresConnectionForTransactionManagement() ) {
+				log.trace( "Preparing to commit transaction via JDBC Connection.commit()" );
+				getConnectionForTransactionManagement().commit();
+				log.trace( "Transaction committed via JDBC Connection.commit()" );
+			}
 			status = TransactionStatus.COMMITTED;
-			log.trace( "Transaction committed via JDBC Connection.commit()" );
 		}
 		catch( SQLException e ) {
 			status = TransactionStatus.FAILED_COMMIT;
@@ -117,10 +129,12 @@ public abstract class AbstractLogicalConnectionImplementor implements LogicalCon
 	@Override
 	public void rollback() {
 		try {
-			log.trace( "Preparing to rollback transaction via JDBC Connection.rollback()" );
-			getConnectionForTransactionManagement().rollback();
+			if ( requiresConnectionForTransactionManagement() ) {
+				log.trace( "Preparing to rollback transaction via JDBC Connection.rollback()" );
+				getConnectionForTransactionManagement().rollback();
+				log.trace( "Transaction rolled-back via JDBC Connection.rollback()" );
+			}
 			status = TransactionStatus.ROLLED_BACK;
-			log.trace( "Transaction rolled-back via JDBC Connection.rollback()" );
 		}
 		catch( SQLException e ) {
 			status = TransactionStatus.FAILED_ROLLBACK;
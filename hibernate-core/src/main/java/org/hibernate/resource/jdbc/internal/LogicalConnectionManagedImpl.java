@@ -13,13 +13,17 @@ import java.sql.Connection;
 import java.sql.SQLException;
 
 import org.hibernate.ResourceClosedException;
+import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.internal.RoutingJdbcConnectionAccess;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
+import org.hibernate.resource.transaction.spi.TransactionStatus;
 
 import org.jboss.logging.Logger;
 
@@ -28,6 +32,7 @@ import static org.hibernate.ConnectionReleaseMode.AFTER_STATEMENT;
 import static org.hibernate.ConnectionReleaseMode.BEFORE_TRANSACTION_COMPLETION;
 import static org.hibernate.ConnectionReleaseMode.ON_CLOSE;
 import static org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION;
+import static org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE;
 
 /**
  * Represents a LogicalConnection where we manage obtaining and releasing the Connection as needed.
@@ -62,7 +67,8 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 		this.connectionHandlingMode = determineConnectionHandlingMode(
 				jdbcSessionContext.getPhysicalConnectionHandlingMode(),
-				jdbcConnectionAccess );
+				jdbcConnectionAccess,
+				jdbcSessionContext );
 
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
 
@@ -84,12 +90,21 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 	private PhysicalConnectionHandlingMode determineConnectionHandlingMode(
 			PhysicalConnectionHandlingMode connectionHandlingMode,
-			JdbcConnectionAccess jdbcConnectionAccess) {
+			JdbcConnectionAccess jdbcConnectionAccess,
+			JdbcSessionContext jdbcSessionContext) {
 		if ( connectionHandlingMode.getReleaseMode() == AFTER_STATEMENT
 				&& !jdbcConnectionAccess.supportsAggressiveRelease() ) {
 			return DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION;
 		}
 
+		if ( connectionHandlingMode == DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE
+				&& !jdbcConnectionAccess.supportsAggressiveRelease()
+				&& jdbcSessionContext.getServiceRegistry().getService( TransactionCoordinatorBuilder.class ).isJta() ) {
+			// a JTA transaction is not begun on the logical connection, and
+			// so the connection would be released in the middle of it
+			return DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION;
+		}
+
 		return connectionHandlingMode;
 	}
 
@@ -110,7 +125,9 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		if ( physicalConnection == null ) {
 			// todo : is this the right place for these observer calls?
 			try {
-				physicalConnection = jdbcConnectionAccess.obtainConnection();
+				physicalConnection = jdbcConnectionAccess instanceof RoutingJdbcConnectionAccess
+						? ( (RoutingJdbcConnectionAccess) jdbcConnectionAccess ).obtainRoutedConnection()
+						: jdbcConnectionAccess.obtainConnection();
 			}
 			catch ( SQLException e ) {
 				throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection" );
@@ -118,10 +135,30 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			finally {
 				observer.jdbcConnectionAcquisitionEnd( physicalConnection );
 			}
+			if ( beginOnAcquisition ) {
+				beginOnAcquisition = false;
+				beginOnAcquiredConnection();
+			}
 		}
 		return physicalConnection;
 	}
 
+	/**
+	 * Begin the current transaction on a connection acquired after it began.
+	 */
+	private void beginOnAcquiredConnection() {
+		if ( !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
+			initiallyAutoCommit = determineInitialAutoCommitMode( physicalConnection );
+			try {
+				log.trace( "Beginning transaction on acquired JDBC Connection via setAutoCommit(false)" );
+				physicalConnection.setAutoCommit( false );
+			}
+			catch ( SQLException e ) {
+				throw new TransactionException( "JDBC begin transaction failed: ", e );
+			}
+		}
+	}
+
 	@Override
 	public boolean isOpen() {
 		return !closed;
@@ -156,6 +193,21 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 				releaseConnection();
 			}
 		}
+		else if ( connectionHandlingMode == DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE ) {
+			if ( getStatus() == TransactionStatus.ACTIVE ) {
+				log.trace( "Skipping release of JDBC Connection after-statement due to active transaction" );
+			}
+			else if ( getResourceRegistry().hasRegisteredResources() ) {
+				log.trace( "Skipping release of JDBC Connection after-statement due to held resources" );
+			}
+			else if ( getResourceRegistry().hasConnectionState() ) {
+				log.trace( "Skipping release of JDBC Connection after-statement due to state held by the connection" );
+			}
+			else {
+				log.debug( "Initiating release of idle JDBC connection from afterStatement" );
+				releaseConnection();
+			}
+		}
 	}
 
 	@Override
@@ -275,17 +327,63 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 
 	boolean initiallyAutoCommit;
 
+	/**
+	 * Whether the current transaction is begun on a connection only once one
+	 * is acquired, because no statement was executed since it began.
+	 */
+	private boolean beginOnAcquisition;
+
+	@Override
+	protected boolean requiresConnectionForTransactionManagement() {
+		return !beginOnAcquisition;
+	}
+
 	@Override
 	public void begin() {
-		initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled()
+		// when released while idle, the connection is only acquired, and the
+		// transaction begun on it, once the transaction executes a statement
+		beginOnAcquisition = connectionHandlingMode == DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE
+				&& physicalConnection == null;
+		initiallyAutoCommit = requiresConnectionForTransactionManagement()
+				&& !doConnectionsFromProviderHaveAutoCommitDisabled()
 				&& determineInitialAutoCommitMode( getConnectionForTransactionManagement() );
 		super.begin();
 	}
 
+	/**
+	 * Release the current connection, which was only used for reading, so that
+	 * the following statements are executed on a newly acquired connection. A
+	 * transaction begun on the released connection is rolled back, and begun
+	 * again on the new connection.
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider
+	 */
+	public void releaseReadOnlyConnection() {
+		if ( physicalConnection == null ) {
+			return;
+		}
+		if ( getStatus() == TransactionStatus.ACTIVE ) {
+			try {
+				log.debug( "Moving transaction from read-only JDBC connection" );
+				physicalConnection.rollback();
+				if ( initiallyAutoCommit ) {
+					physicalConnection.setAutoCommit( true );
+				}
+			}
+			catch ( SQLException e ) {
+				throw sqlExceptionHelper.convert( e, "Unable to release read-only JDBC Connection" );
+			}
+			initiallyAutoCommit = false;
+			beginOnAcquisition = true;
+		}
+		releaseConnection();
+	}
+
 	@Override
 	protected void afterCompletion() {
 		resetConnection( initiallyAutoCommit );
 		initiallyAutoCommit = false;
+		beginOnAcquisition = false;
 
 		afterTransaction();
 	}
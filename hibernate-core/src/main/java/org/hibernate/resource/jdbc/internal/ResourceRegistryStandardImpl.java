@@ -17,6 +17,7 @@ import java.util.HashMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
+import org.hibernate.engine.jdbc.internal.PreparedStatementCache;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.resource.jdbc.ResourceRegistry;
@@ -50,6 +51,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -60,12 +62,30 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	//Used as a set, see the note above
+	private HashMap<Object,Object> connectionState;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param statementCache The cache to offer released statements to, instead of closing them; may be null
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
+	}
+
+	/**
+	 * The cache of prepared statements which are kept open when released, or {@code null} if disabled.
+	 */
+	public PreparedStatementCache getStatementCache() {
+		return statementCache;
 	}
 
 	@Override
@@ -105,7 +125,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null || !statementCache.offer( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -324,6 +346,26 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public void registerConnectionState(Object state) {
+		if ( connectionState == null ) {
+			connectionState = new HashMap<>();
+		}
+		connectionState.put( state, PRESENT );
+	}
+
+	@Override
+	public void releaseConnectionState(Object state) {
+		if ( connectionState != null ) {
+			connectionState.remove( state );
+		}
+	}
+
+	@Override
+	public boolean hasConnectionState() {
+		return hasRegistered( connectionState );
+	}
+
 	@Override
 	public void releaseResources() {
 		log.trace( "Releasing JDBC resources" );
@@ -335,6 +377,11 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( statementCache != null ) {
+			// cached statements must not outlive the physical connection they were prepared on
+			statementCache.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
@@ -373,6 +420,9 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			} );
 			nclobs = null;
 		}
+
+		// state held by the connection is not tracked beyond its other resources
+		connectionState = null;
 	}
 
 	private boolean hasRegistered(final HashMap resource) {
@@ -8,7 +8,10 @@ package org.hibernate.resource.jdbc.spi;
 
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.PreparedStatementCacheManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.service.ServiceRegistry;
 
@@ -87,6 +90,24 @@ public interface JdbcSessionContext {
 
 	BatchBuilder getBatchBuilder();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @return The manager of the prepared statement cache, or {@code null} if statements are not cached
+	 */
+	default PreparedStatementCacheManager getPreparedStatementCacheManager() {
+		return null;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#JFR_ENABLED
+	 *
+	 * @return The manager of low level monitoring events
+	 */
+	default EventManager getEventManager() {
+		return EmptyEventManager.INSTANCE;
+	}
+
 	/**
 	 * @see org.hibernate.resource.transaction.spi.TransactionCoordinatorOwner#isActive()
 	 *
@@ -52,7 +52,22 @@ public enum PhysicalConnectionHandlingMode {
 	 * The {@code Connection} will be acquired as soon as it is needed; it will be
 	 * released after each transaction is completed.
 	 */
-	DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION( AS_NEEDED, AFTER_TRANSACTION )
+	DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION( AS_NEEDED, AFTER_TRANSACTION ),
+	/**
+	 * The {@code Connection} will be acquired as soon as it is needed; it will be
+	 * released after each statement is executed, unless it is still needed by a
+	 * transaction, by an open JDBC resource such as a cursor, or by
+	 * {@linkplain org.hibernate.resource.jdbc.ResourceRegistry#registerConnectionState
+	 * state held by the connection} such as a local temporary table. Otherwise, it
+	 * is released after the transaction is completed.
+	 * <p>
+	 * A JDBC transaction is only begun on a {@code Connection} when its first
+	 * statement is executed, and so no {@code Connection} is held by a transaction
+	 * before that. Unlike {@link #DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT},
+	 * this mode never releases a {@code Connection} in the middle of a transaction,
+	 * and so it may be used with any connection pool.
+	 */
+	DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE( AS_NEEDED, AFTER_TRANSACTION )
 	;
 
 	private final ConnectionAcquisitionMode acquisitionMode;
@@ -7770,12 +7770,17 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		try {
 			sqlBuffer.append( ") values (" );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
-					sqlBuffer.append( ',' );
+			for ( int row = 0; row < tableInsert.getNumberOfRows(); row++ ) {
+				if ( row > 0 ) {
+					sqlBuffer.append( "),(" );
 				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
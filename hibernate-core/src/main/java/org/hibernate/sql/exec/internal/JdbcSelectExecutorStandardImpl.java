@@ -32,6 +32,7 @@ import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.spi.Limit;
+import org.hibernate.query.spi.QueryExecutionObserver;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -61,6 +62,7 @@ import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
+import org.hibernate.stat.QueryExecutionPhase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -292,17 +294,22 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		}
 
 		final boolean stats;
+		final boolean observed;
 		long startTime = 0;
-		final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final QueryExecutionObserver observer = factory.getQueryEngine().getQueryExecutionObserver();
 		if ( executionContext.hasQueryExecutionToBeAddedToStatistics()
 				&& jdbcValues instanceof JdbcValuesResultSetImpl ) {
 			stats = statistics.isStatisticsEnabled();
-			if ( stats ) {
+			observed = observer.isEnabled();
+			if ( stats || observed ) {
 				startTime = System.nanoTime();
 			}
 		}
 		else {
 			stats = false;
+			observed = false;
 		}
 
 		/*
@@ -366,14 +373,48 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowReader
 		);
 
-		if ( stats ) {
+		if ( stats || observed ) {
 			final long endTime = System.nanoTime();
-			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
-			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
-					getResultSize( result ),
-					milliseconds
-			);
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
+			final int resultSize = getResultSize( result );
+			// stream and scroll queries hydrate the results only after we return
+			final boolean hydrated = resultSize >= 0;
+			final long executionNanos = deferredResultSetAccess.getExecutionNanos();
+			// the statement might have been executed already to resolve the result mapping
+			final long hydrationNanos = endTime - Math.max( startTime, deferredResultSetAccess.getExecutionEndNanos() );
+			if ( stats ) {
+				final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+				statistics.queryExecuted(
+						queryIdentifier,
+						resultSize,
+						milliseconds,
+						TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS )
+				);
+				if ( hydrated ) {
+					statistics.queryExecutionPhaseCompleted(
+							queryIdentifier,
+							QueryExecutionPhase.EXECUTE,
+							TimeUnit.MICROSECONDS.convert( executionNanos, TimeUnit.NANOSECONDS )
+					);
+					statistics.queryExecutionPhaseCompleted(
+							queryIdentifier,
+							QueryExecutionPhase.HYDRATE,
+							TimeUnit.MICROSECONDS.convert( hydrationNanos, TimeUnit.NANOSECONDS )
+					);
+				}
+			}
+			if ( observed ) {
+				if ( hydrated ) {
+					observer.queryPhaseCompleted( queryIdentifier, QueryExecutionPhase.EXECUTE, executionNanos );
+					observer.queryPhaseCompleted( queryIdentifier, QueryExecutionPhase.HYDRATE, hydrationNanos );
+				}
+				observer.queryExecuted(
+						queryIdentifier,
+						deferredResultSetAccess.getFinalSql(),
+						resultSize,
+						endTime - startTime
+				);
+			}
 		}
 
 		return result;
@@ -449,6 +490,14 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					statistics.queryCacheHit( queryIdentifier, queryCache.getRegion().getName() );
 				}
 			}
+			final QueryExecutionObserver observer = factory.getQueryEngine().getQueryExecutionObserver();
+			if ( observer.isEnabled() ) {
+				observer.queryResultsCacheAccessed(
+						queryIdentifier,
+						queryCache.getRegion().getName(),
+						cachedResults != null
+				);
+			}
 		}
 		else {
 			SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Skipping reading Query result cache data: cache-enabled = %s, cache-mode = %s",
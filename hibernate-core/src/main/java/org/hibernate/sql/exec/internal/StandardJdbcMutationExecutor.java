@@ -13,6 +13,8 @@ import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -39,6 +41,7 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 			ExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		session.autoFlushIfRequired( jdbcMutation.getAffectedTableNames() );
+		session.getJdbcCoordinator().beforeModifyingStatement();
 
 		final LogicalConnectionImplementor logicalConnection = session
 				.getJdbcCoordinator()
@@ -78,6 +81,8 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
+				final EventManager eventManager = session.getEventManager();
+				final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 				session.getEventListenerManager().jdbcExecuteStatementStart();
 				try {
 					int rows = preparedStatement.executeUpdate();
@@ -85,6 +90,7 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					return rows;
 				}
 				finally {
+					eventManager.completeJdbcPreparedStatementExecutionEvent( executionEvent, finalSql );
 					session.getEventListenerManager().jdbcExecuteStatementEnd();
 				}
 			}
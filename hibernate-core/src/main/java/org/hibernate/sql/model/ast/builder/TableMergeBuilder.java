@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.sql.model.ast.builder;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.ast.RestrictedTableMutation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
+
+/**
+ * TableUpdateBuilder implementation which builds an "upsert" of the row,
+ * inserting it when it does not exist yet.  Optimistic lock restrictions
+ * are not applied, since there may be no previous version of the row.
+ *
+ * @see OptionalTableUpdate
+ */
+public class TableMergeBuilder<O extends MutationOperation> extends AbstractTableUpdateBuilder<O> {
+
+	public TableMergeBuilder(
+			MutationTarget<?> mutationTarget,
+			TableMapping tableMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( mutationTarget, tableMapping, sessionFactory );
+	}
+
+	public TableMergeBuilder(
+			MutationTarget<?> mutationTarget,
+			MutatingTableReference tableReference,
+			SessionFactoryImplementor sessionFactory) {
+		super( mutationTarget, tableReference, sessionFactory );
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public RestrictedTableMutation<O> buildMutation() {
+		final List<ColumnValueBinding> valueBindings = combine( getValueBindings(), getKeyBindings(), getLobValueBindings() );
+		return (RestrictedTableMutation<O>) new OptionalTableUpdate(
+				getMutatingTable(),
+				getMutationTarget(),
+				valueBindings,
+				getKeyRestrictionBindings(),
+				Collections.emptyList()
+		);
+	}
+}
@@ -22,6 +22,7 @@ import org.hibernate.sql.model.ast.MutatingTableReference;
  */
 public class TableInsertStandard extends AbstractTableInsert {
 	private final List<ColumnReference> returningColumns;
+	private final int numberOfRows;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -29,8 +30,30 @@ public class TableInsertStandard extends AbstractTableInsert {
 			List<ColumnValueBinding> valueBindings,
 			List<ColumnReference> returningColumns,
 			List<ColumnValueParameter> parameters) {
+		this( mutatingTable, mutationTarget, valueBindings, returningColumns, parameters, 1 );
+	}
+
+	/**
+	 * Creates an insert whose {@code values} list repeats the value bindings
+	 * for the given number of rows
+	 */
+	public TableInsertStandard(
+			MutatingTableReference mutatingTable,
+			MutationTarget<?> mutationTarget,
+			List<ColumnValueBinding> valueBindings,
+			List<ColumnReference> returningColumns,
+			List<ColumnValueParameter> parameters,
+			int numberOfRows) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.numberOfRows = numberOfRows;
+	}
+
+	/**
+	 * The number of rows of values inserted by this insert
+	 */
+	public int getNumberOfRows() {
+		return numberOfRows;
 	}
 
 	@Override
@@ -132,8 +132,9 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 		}
 
 		try {
-			if ( !valuesAnalysis.getTablesWithNonNullValues().contains( tableMapping ) ) {
-				// all the new values for this table were null - possibly delete the row
+			if ( tableMapping.isOptional()
+					&& !valuesAnalysis.getTablesWithNonNullValues().contains( tableMapping ) ) {
+				// all the new values for this optional table were null - possibly delete the row
 				if ( valuesAnalysis.getTablesWithPreviousNonNullValues().contains( tableMapping ) ) {
 					performDelete( jdbcValueBindings, session );
 				}
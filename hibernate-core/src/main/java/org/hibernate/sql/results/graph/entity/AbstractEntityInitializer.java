@@ -27,6 +27,8 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.event.spi.PreLoadEventListener;
 import org.hibernate.internal.util.StringHelper;
@@ -718,6 +720,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		// so regardless of the requested lock mode, we upgrade to at least the read level
 		final LockMode lockModeToAcquire = lockMode == LockMode.NONE ? LockMode.READ : lockMode;
 
+		// The entry is registered even for a stateless session or a read-only
+		// query, since skipInitialization() relies on its LOADING status to
+		// resolve references between the rows of the result, and a stateful
+		// session hands the instance out again with its lock mode and read-only
+		// status. Only the snapshot and the natural id resolution are skipped.
 		final EntityEntry entityEntry = persistenceContext.addEntry(
 				toInitialize,
 				Status.LOADING,
@@ -733,7 +740,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 		updateCaches( toInitialize, rowProcessingState, session, persistenceContext, entityIdentifier, version );
 
-		registerNaturalIdResolution( persistenceContext, entityIdentifier );
+		if ( !session.isStatelessSession() ) {
+			// the temporary persistence context of a stateless session
+			// is discarded after the load, so don't bother
+			registerNaturalIdResolution( persistenceContext, entityIdentifier );
+		}
 
 		takeSnapshot( rowProcessingState, session, persistenceContext, entityEntry );
 
@@ -801,6 +812,11 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		if ( !concreteDescriptor.isMutable() ) {
 			return true;
 		}
+		else if ( session.isStatelessSession() ) {
+			// a stateless session never performs dirty checking,
+			// so a snapshot of the loaded state would never be used
+			return true;
+		}
 		else {
 			final LazyInitializer lazyInitializer = extractLazyInitializer( entityInstance );
 			if ( lazyInitializer != null ) {
@@ -856,9 +872,12 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		}
 		else {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+			boolean put = false;
 			try {
 				eventListenerManager.cachePutStart();
-				final boolean put = cacheAccess.putFromLoad(
+				put = cacheAccess.putFromLoad(
 						session,
 						cacheKey,
 						rootEntityDescriptor.getCacheEntryStructure().structure( cacheEntry ),
@@ -873,6 +892,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				}
 			}
 			finally {
+				eventManager.completeCachePutEvent( cachePutEvent, session, cacheAccess.getRegion(), put );
 				eventListenerManager.cachePutEnd();
 			}
 		}
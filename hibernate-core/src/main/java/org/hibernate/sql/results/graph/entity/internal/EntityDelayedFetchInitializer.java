@@ -9,11 +9,14 @@ package org.hibernate.sql.results.graph.entity.internal;
 import java.util.function.Consumer;
 
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
@@ -170,6 +173,9 @@ public class EntityDelayedFetchInitializer extends AbstractFetchParentAccess imp
 								false,
 								false
 						);
+						if ( referencedModelPart.isSubselectLoadable() ) {
+							registerSubselectFetch( parentEntityInitializer, concreteDescriptor, session );
+						}
 					}
 
 					final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entityInstance );
@@ -183,6 +189,30 @@ public class EntityDelayedFetchInitializer extends AbstractFetchParentAccess imp
 		}
 	}
 
+	/**
+	 * Register the proxy with the sub-select fetch of the owner, if the owner was
+	 * loaded by a query which can be re-executed as a sub-select
+	 */
+	private void registerSubselectFetch(
+			EntityInitializer parentEntityInitializer,
+			EntityPersister concreteDescriptor,
+			SharedSessionContractImplementor session) {
+		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entityInstance );
+		if ( lazyInitializer != null && lazyInitializer.isUninitialized()
+				&& parentEntityInitializer != null
+				&& referencedModelPart.getSideNature() == ForeignKeyDescriptor.Nature.KEY ) {
+			final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+			final SubselectFetch ownerSubselect = batchFetchQueue.getSubselect( parentEntityInitializer.getEntityKey() );
+			if ( ownerSubselect != null && ownerSubselect.getEntityModelPart() == null ) {
+				final SubselectFetch subselect = ownerSubselect.getAssociationSubselectFetch( referencedModelPart );
+				final EntityKey entityKey = session.generateEntityKey( identifier, concreteDescriptor );
+				if ( subselect.getResultingEntityKeys().add( entityKey ) ) {
+					batchFetchQueue.addSubselect( entityKey, subselect );
+				}
+			}
+		}
+	}
+
 	private EntityInitializer getParentEntityInitializer(FetchParentAccess parentAccess) {
 		if ( parentAccess != null ) {
 			return parentAccess.findFirstEntityInitializer();
@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+
+/**
+ * The assemblers and initializers resolved for the domain results of a
+ * {@link org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping}.
+ * <p>
+ * Initializers only keep state for the row being processed, which they
+ * reset in {@link org.hibernate.sql.results.graph.Initializer#finishUpRow},
+ * so a graph which was used to completely process a result may be handed
+ * to the next execution of the same mapping instead of resolving the
+ * assemblers and initializers again.  A graph must never be used by two
+ * executions at the same time.
+ *
+ * @see org.hibernate.sql.results.jdbc.internal.StandardJdbcValuesMapping#acquireInitializerGraph
+ */
+public final class InitializerGraph {
+	private final List<DomainResultAssembler<?>> assemblers;
+	private final InitializersList initializers;
+
+	public InitializerGraph(List<DomainResultAssembler<?>> assemblers, InitializersList initializers) {
+		this.assemblers = assemblers;
+		this.initializers = initializers;
+	}
+
+	public List<DomainResultAssembler<?>> getAssemblers() {
+		return assemblers;
+	}
+
+	public InitializersList getInitializers() {
+		return initializers;
+	}
+
+	/**
+	 * Can the graph be used again once the processing of a result is finished?
+	 */
+	public boolean isReusable() {
+		return initializers.isReusable();
+	}
+}
@@ -14,6 +14,7 @@ import java.util.Map;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.graph.entity.internal.AbstractBatchEntitySelectFetchInitializer;
 import org.hibernate.sql.results.graph.entity.internal.EntityDelayedFetchInitializer;
 import org.hibernate.sql.results.graph.entity.internal.EntitySelectFetchInitializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -34,6 +35,7 @@ public final class InitializersList {
 	private final Initializer[] sortedNonCollectionsFirst;
 	private final Initializer[] sortedForResolveInstance;
 	private final boolean hasCollectionInitializers;
+	private final boolean reusable;
 	private final Map<NavigablePath, Initializer> initializerMap;
 
 	private InitializersList(
@@ -41,11 +43,13 @@ public final class InitializersList {
 			Initializer[] sortedNonCollectionsFirst,
 			Initializer[] sortedForResolveInstance,
 			boolean hasCollectionInitializers,
+			boolean reusable,
 			Map<NavigablePath, Initializer> initializerMap) {
 		this.initializers = initializers;
 		this.sortedNonCollectionsFirst = sortedNonCollectionsFirst;
 		this.sortedForResolveInstance = sortedForResolveInstance;
 		this.hasCollectionInitializers = hasCollectionInitializers;
+		this.reusable = reusable;
 		this.initializerMap = initializerMap;
 	}
 
@@ -92,10 +96,20 @@ public final class InitializersList {
 		return this.hasCollectionInitializers;
 	}
 
+	/**
+	 * Can the initializers be used for processing another result once
+	 * {@link #endLoading} was called?  This is not the case for the batch
+	 * select fetch initializers, which release their parent in {@code endLoading}.
+	 */
+	public boolean isReusable() {
+		return this.reusable;
+	}
+
 	static class Builder {
 		private ArrayList<Initializer> initializers = new ArrayList<>();
 		int nonCollectionInitializersNum = 0;
 		int resolveFirstNum = 0;
+		boolean reusable = true;
 
 		public Builder() {}
 
@@ -112,6 +126,9 @@ public final class InitializersList {
 			if ( initializeFirst( initializer ) ) {
 				resolveFirstNum++;
 			}
+			if ( initializer instanceof AbstractBatchEntitySelectFetchInitializer ) {
+				reusable = false;
+			}
 		}
 
 		private static boolean initializeFirst(final Initializer initializer) {
@@ -147,6 +164,7 @@ public final class InitializersList {
 					sortedNonCollectionsFirst,
 					sortedForResolveInstance,
 					hasCollectionInitializers,
+					reusable,
 					initializerMap
 			);
 		}
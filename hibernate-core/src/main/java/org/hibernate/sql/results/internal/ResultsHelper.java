@@ -26,6 +26,8 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.mapping.JdbcMapping;
@@ -42,6 +44,7 @@ import org.hibernate.sql.results.ResultsLogger;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.internal.StandardJdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.RowReader;
@@ -70,6 +73,46 @@ public class ResultsHelper {
 			RowTransformer<R> rowTransformer,
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
+		// the initializers do not depend on anything else from the execution,
+		// so unless they depend on lock modes, the graph is pooled with the mapping
+		final StandardJdbcValuesMapping poolingMapping =
+				jdbcValuesMapping instanceof StandardJdbcValuesMapping
+						&& !executionContext.isScrollResult()
+						&& !hasLockModes( lockOptions )
+						? (StandardJdbcValuesMapping) jdbcValuesMapping
+						: null;
+
+		InitializerGraph initializerGraph = poolingMapping == null ? null : poolingMapping.acquireInitializerGraph();
+		if ( initializerGraph == null ) {
+			initializerGraph = resolveInitializerGraph( executionContext, lockOptions, jdbcValuesMapping );
+		}
+
+		if ( poolingMapping != null && initializerGraph.isReusable() ) {
+			return new StandardRowReader<>(
+					initializerGraph,
+					rowTransformer,
+					transformedResultJavaType,
+					poolingMapping::releaseInitializerGraph
+			);
+		}
+		return new StandardRowReader<>(
+				initializerGraph.getAssemblers(),
+				initializerGraph.getInitializers(),
+				rowTransformer,
+				transformedResultJavaType
+		);
+	}
+
+	private static boolean hasLockModes(LockOptions lockOptions) {
+		final LockMode lockMode = lockOptions.getLockMode();
+		return lockMode != null && lockMode != LockMode.NONE
+				|| lockOptions.hasAliasSpecificLockModes();
+	}
+
+	private static InitializerGraph resolveInitializerGraph(
+			ExecutionContext executionContext,
+			LockOptions lockOptions,
+			JdbcValuesMapping jdbcValuesMapping) {
 		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
 
 		final Map<NavigablePath, Initializer> initializerMap = new LinkedHashMap<>();
@@ -128,7 +171,7 @@ public class ResultsHelper {
 
 		final InitializersList initializersList = initializersBuilder.build( initializerMap );
 
-		return new StandardRowReader<>( assemblers, initializersList, rowTransformer, transformedResultJavaType );
+		return new InitializerGraph( assemblers, initializersList );
 	}
 
 	private static void logInitializers(Map<NavigablePath, Initializer> initializerMap) {
@@ -295,9 +338,12 @@ public class ResultsHelper {
 		// CollectionRegionAccessStrategy has no update, so avoid putting uncommitted data via putFromLoad
 		if ( isPutFromLoad ) {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+			boolean put = false;
 			try {
 				eventListenerManager.cachePutStart();
-				final boolean put = cacheAccess.putFromLoad(
+				put = cacheAccess.putFromLoad(
 						session,
 						cacheKey,
 						collectionDescriptor.getCacheEntryStructure().structure( entry ),
@@ -315,6 +361,7 @@ public class ResultsHelper {
 				}
 			}
 			finally {
+				eventManager.completeCachePutEvent( cachePutEvent, session, cacheAccess.getRegion(), put );
 				eventListenerManager.cachePutEnd();
 			}
 		}
@@ -8,6 +8,7 @@ package org.hibernate.sql.results.internal;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
@@ -34,6 +35,10 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 	private final int assemblerCount;
 
+	private InitializerGraph initializerGraph;
+	private final Consumer<InitializerGraph> initializerGraphRecycler;
+	private boolean rowInProgress;
+
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			InitializersList initializers,
@@ -44,6 +49,26 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.initializerGraph = null;
+		this.initializerGraphRecycler = null;
+	}
+
+	/**
+	 * Create a reader using the given initializer graph, which is handed to
+	 * the recycler once all rows were processed successfully and loading ended
+	 */
+	public StandardRowReader(
+			InitializerGraph initializerGraph,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType,
+			Consumer<InitializerGraph> initializerGraphRecycler) {
+		this.resultAssemblers = initializerGraph.getAssemblers();
+		this.initializers = initializerGraph.getInitializers();
+		this.rowTransformer = rowTransformer;
+		this.assemblerCount = resultAssemblers.size();
+		this.domainResultJavaType = domainResultJavaType;
+		this.initializerGraph = initializerGraph;
+		this.initializerGraphRecycler = initializerGraphRecycler;
 	}
 
 	@Override
@@ -84,6 +109,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 
+		rowInProgress = true;
 		coordinateInitializers( rowProcessingState );
 
 		final Object[] resultRow = new Object[ assemblerCount ];
@@ -102,6 +128,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private void afterRow(RowProcessingState rowProcessingState) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
 		initializers.finishUpRow( rowProcessingState );
+		rowInProgress = false;
 	}
 
 	@SuppressWarnings("ForLoopReplaceableByForEach")
@@ -115,6 +142,11 @@ public class StandardRowReader<T> implements RowReader<T> {
 	@SuppressWarnings("ForLoopReplaceableByForEach")
 	public void finishUp(JdbcValuesSourceProcessingState processingState) {
 		initializers.endLoading( processingState.getExecutionContext() );
+		// a row which failed leaves its state behind in the initializers
+		if ( initializerGraph != null && !rowInProgress ) {
+			initializerGraphRecycler.accept( initializerGraph );
+			initializerGraph = null;
+		}
 	}
 
 	@Override
@@ -17,9 +17,12 @@ import org.hibernate.LockOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.query.spi.Limit;
@@ -31,6 +34,8 @@ import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
+import static org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE;
+
 /**
  * @author Steve Ebersole
  */
@@ -51,6 +56,8 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
+	private long executionNanos;
+	private long executionEndNanos;
 
 	public DeferredResultSetAccess(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -179,6 +186,22 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		return usesFollowOnLocking;
 	}
 
+	/**
+	 * The time spent preparing and executing the JDBC statement,
+	 * or {@code 0} if the query was not executed yet
+	 */
+	public long getExecutionNanos() {
+		return executionNanos;
+	}
+
+	/**
+	 * The {@link System#nanoTime()} at which the execution of the JDBC statement
+	 * completed, or {@code 0} if the query was not executed yet
+	 */
+	public long getExecutionEndNanos() {
+		return executionEndNanos;
+	}
+
 	protected void bindParameters(PreparedStatement preparedStatement) throws SQLException {
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 
@@ -220,32 +243,38 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
+		final long startNanos = System.nanoTime();
 
 		try {
 			LOG.tracef( "Executing query to retrieve ResultSet : %s", finalSql );
 			// prepare the query
-			preparedStatement = statementCreator.apply( finalSql );
+			preparedStatement = prepareStatement();
 
 			bindParameters( preparedStatement );
 
 			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
 					.getEventListenerManager();
+			final EventManager eventManager = executionContext.getSession().getEventManager();
 
 			long executeStartNanos = 0;
 			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 				executeStartNanos = System.nanoTime();
 			}
+			final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 			try {
 				eventListenerManager.jdbcExecuteStatementStart();
 				resultSet = wrapResultSet( preparedStatement.executeQuery() );
 			}
 			finally {
+				eventManager.completeJdbcPreparedStatementExecutionEvent( executionEvent, finalSql );
 				eventListenerManager.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
 			}
 
 			skipRows( resultSet );
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
+			executionEndNanos = System.nanoTime();
+			executionNanos = executionEndNanos - startNanos;
 
 		}
 		catch (SQLException e) {
@@ -259,6 +288,40 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private PreparedStatement prepareStatement() {
+		final JdbcCoordinator jdbcCoordinator = getPersistenceContext().getJdbcCoordinator();
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions == null ) {
+			jdbcCoordinator.beforeReadWriteQuery();
+			return statementCreator.apply( finalSql );
+		}
+		else if ( isLocking( queryOptions.getLockOptions() ) ) {
+			// locking reads are executed against the primary database
+			jdbcCoordinator.beforeModifyingStatement();
+			return statementCreator.apply( finalSql );
+		}
+		else if ( queryOptions.isReadOnly() == Boolean.TRUE ) {
+			jdbcCoordinator.readOnlyQueryBeginning();
+			try {
+				return statementCreator.apply( finalSql );
+			}
+			finally {
+				jdbcCoordinator.readOnlyQueryEnding();
+			}
+		}
+		else {
+			// a read-only query might have left a connection to a read replica
+			jdbcCoordinator.beforeReadWriteQuery();
+			return statementCreator.apply( finalSql );
+		}
+	}
+
+	private static boolean isLocking(LockOptions lockOptions) {
+		return lockOptions != null
+			&& !lockOptions.isEmpty()
+			&& lockOptions.findGreatestLockMode().greaterThan( LockMode.READ );
+	}
+
 	protected void skipRows(ResultSet resultSet) throws SQLException {
 		// For dialects that don't support an offset clause
 		final int rowsToSkip;
@@ -307,20 +370,21 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	@Override
 	public void release() {
+		final JdbcCoordinator jdbcCoordinator = getPersistenceContext().getJdbcCoordinator();
+		final LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
 		if ( resultSet != null ) {
-			getPersistenceContext().getJdbcCoordinator()
-					.getLogicalConnection()
-					.getResourceRegistry()
-					.release( resultSet, preparedStatement );
+			logicalConnection.getResourceRegistry().release( resultSet, preparedStatement );
 			resultSet = null;
 		}
 
 		if ( preparedStatement != null ) {
-			getPersistenceContext().getJdbcCoordinator()
-					.getLogicalConnection()
-					.getResourceRegistry()
-					.release( preparedStatement );
+			logicalConnection.getResourceRegistry().release( preparedStatement );
 			preparedStatement = null;
+
+			if ( logicalConnection.getConnectionHandlingMode() == DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE ) {
+				// the connection might now be idle, unless releases are disabled during a flush
+				jdbcCoordinator.afterStatementExecution();
+			}
 		}
 	}
 }
@@ -7,12 +7,14 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.results.graph.AssemblerCreationState;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.InitializerGraph;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 
 /**
@@ -22,6 +24,8 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 	private final List<SqlSelection> sqlSelections;
 	private final List<DomainResult<?>> domainResults;
 
+	private final AtomicReference<InitializerGraph> pooledInitializerGraph = new AtomicReference<>();
+
 	public StandardJdbcValuesMapping(
 			List<SqlSelection> sqlSelections,
 			List<DomainResult<?>> domainResults) {
@@ -57,4 +61,24 @@ public class StandardJdbcValuesMapping implements JdbcValuesMapping {
 
 		return assemblers;
 	}
+
+	/**
+	 * Take the pooled initializer graph, if there is one.  The graph is removed
+	 * from the pool, so that a concurrent or nested execution of this mapping
+	 * resolves its own graph.
+	 *
+	 * @return the pooled graph, or {@code null} if none is available
+	 */
+	public InitializerGraph acquireInitializerGraph() {
+		return pooledInitializerGraph.getAndSet( null );
+	}
+
+	/**
+	 * Hand back a graph, once the processing of a result using it completed
+	 * normally, for the next execution of this mapping to use.
+	 */
+	public void releaseInitializerGraph(InitializerGraph initializerGraph) {
+		assert initializerGraph.isReusable();
+		pooledInitializerGraph.set( initializerGraph );
+	}
 }
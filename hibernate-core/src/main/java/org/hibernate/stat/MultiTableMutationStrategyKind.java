@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * The kinds of strategy which may be chosen to execute an HQL or criteria
+ * {@code update} or {@code delete} affecting an entity mapped to multiple
+ * tables.
+ *
+ * @see QueryStatistics#getMultiTableMutationCount(MultiTableMutationStrategyKind)
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD
+ *
+ * @since 6.2
+ */
+@Incubating
+public enum MultiTableMutationStrategyKind {
+	/**
+	 * The matching ids were selected and passed to the mutation
+	 * statements inline.
+	 */
+	INLINE,
+	/**
+	 * The matching ids were collected in a temporary table.
+	 */
+	TEMPORARY_TABLE,
+	/**
+	 * The matching ids were selected in a common table expression.
+	 */
+	CTE,
+	/**
+	 * A custom strategy was used.
+	 */
+	OTHER
+}
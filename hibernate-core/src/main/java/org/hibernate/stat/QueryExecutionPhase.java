@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * The phases of the execution of a query, for which timings are
+ * collected separately.
+ *
+ * @see QueryStatistics#getPhaseTimePercentile(QueryExecutionPhase, double)
+ *
+ * @since 6.2
+ */
+@Incubating
+public enum QueryExecutionPhase {
+	/**
+	 * Parsing the query string into the semantic query model.
+	 * Only happens when the query is not in the query plan cache.
+	 */
+	PARSE,
+	/**
+	 * Translating the semantic query model into a SQL AST.
+	 * Only happens when the query plan is built.
+	 */
+	TRANSLATE,
+	/**
+	 * Rendering the SQL AST to SQL, which happens when no compatible
+	 * SQL was rendered for the query plan yet.
+	 */
+	RENDER,
+	/**
+	 * Preparing and executing the JDBC statement.
+	 */
+	EXECUTE,
+	/**
+	 * Reading the results and building the returned objects.
+	 */
+	HYDRATE
+}
@@ -105,4 +105,81 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The execution time, in microseconds, below which the given
+	 * percentage of executions of this query completed.
+	 * <p>
+	 * Unlike {@link #getExecutionMaxTime()}, which is in milliseconds,
+	 * the percentiles keep sub-millisecond executions apart.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}
+	 *
+	 * @since 6.2
+	 */
+	default long getExecutionTimePercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of rows below which the given percentage of
+	 * executions of this query returned.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}
+	 *
+	 * @since 6.2
+	 */
+	default long getExecutionRowCountPercentile(double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * How many times has the given phase been performed for this query?
+	 *
+	 * @since 6.2
+	 */
+	default long getPhaseCount(QueryExecutionPhase phase) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The overall time, in microseconds, spent in the given phase
+	 * for this query.
+	 *
+	 * @since 6.2
+	 */
+	default long getPhaseTotalMicroseconds(QueryExecutionPhase phase) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The time, in microseconds, below which the given percentage
+	 * of the given phase for this query completed.
+	 *
+	 * @param phase The phase
+	 * @param percentile The percentile, between {@code 0} and {@code 100}
+	 *
+	 * @since 6.2
+	 */
+	default long getPhaseTimePercentile(QueryExecutionPhase phase, double percentile) {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * How many times has the given kind of strategy been chosen to
+	 * execute this multi-table mutation query?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	default long getMultiTableMutationCount(MultiTableMutationStrategyKind kind) {
+		//For backward compatibility
+		return 0;
+	}
 }
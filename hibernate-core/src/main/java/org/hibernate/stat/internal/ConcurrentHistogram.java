@@ -0,0 +1,163 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values with a bounded
+ * relative error, in the spirit of HdrHistogram.
+ * <p>
+ * Values are counted in buckets of logarithmically increasing width: every
+ * power of two range is split into {@value #SUB_BUCKET_COUNT} linear buckets,
+ * so that any value is reported with a relative error of at most 1/16.
+ * The buckets of a power of two range are only allocated once a value in that
+ * range is recorded, which keeps histograms of narrow distributions small.
+ * <p>
+ * Recording a value costs a handful of atomic operations, and never blocks.
+ * Reads are not atomic with respect to concurrent recording, which is fine for
+ * statistical purposes.
+ */
+public final class ConcurrentHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	// values below SUB_BUCKET_COUNT are counted exactly in the first chunk,
+	// each following chunk covers one power of two range
+	private static final int CHUNK_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+	private final AtomicReferenceArray<AtomicLongArray> chunks = new AtomicReferenceArray<>( CHUNK_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record the given value; negative values are ignored
+	 */
+	public void record(long value) {
+		if ( value < 0 ) {
+			return;
+		}
+		final int chunkIndex;
+		final int bucketIndex;
+		if ( value < SUB_BUCKET_COUNT ) {
+			chunkIndex = 0;
+			bucketIndex = (int) value;
+		}
+		else {
+			final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros( value ) - SUB_BUCKET_BITS;
+			chunkIndex = shift + 1;
+			bucketIndex = (int) ( value >>> shift ) - SUB_BUCKET_COUNT;
+		}
+		chunk( chunkIndex ).incrementAndGet( bucketIndex );
+		count.increment();
+		total.add( value );
+		//noinspection StatementWithEmptyBody
+		for ( long old = max.get(); value > old && !max.compareAndSet( old, value ); old = max.get() ) {
+		}
+	}
+
+	private AtomicLongArray chunk(int chunkIndex) {
+		final AtomicLongArray chunk = chunks.get( chunkIndex );
+		if ( chunk != null ) {
+			return chunk;
+		}
+		final AtomicLongArray newChunk = new AtomicLongArray( SUB_BUCKET_COUNT );
+		return chunks.compareAndSet( chunkIndex, null, newChunk ) ? newChunk : chunks.get( chunkIndex );
+	}
+
+	/**
+	 * The number of recorded values
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * The sum of all recorded values
+	 */
+	public long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * The largest recorded value, or {@code 0} if no value was recorded yet
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * The value below which the given percentage of recorded values fall.
+	 * <p>
+	 * The reported value is the upper bound of the bucket containing the
+	 * percentile, but never larger than {@link #getMax()}.
+	 *
+	 * @param percentile The percentile, between {@code 0} and {@code 100}
+	 *
+	 * @return The value at the percentile, or {@code 0} if no value was recorded yet
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100 : " + percentile );
+		}
+		// take a snapshot first, so that the rank is consistent with the counts we walk
+		final long[][] snapshot = new long[CHUNK_COUNT][];
+		long snapshotCount = 0;
+		for ( int i = 0; i < CHUNK_COUNT; i++ ) {
+			final AtomicLongArray chunk = chunks.get( i );
+			if ( chunk != null ) {
+				final long[] counts = new long[SUB_BUCKET_COUNT];
+				for ( int j = 0; j < SUB_BUCKET_COUNT; j++ ) {
+					counts[j] = chunk.get( j );
+					snapshotCount += counts[j];
+				}
+				snapshot[i] = counts;
+			}
+		}
+		if ( snapshotCount == 0 ) {
+			return 0;
+		}
+
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100d * snapshotCount ) );
+		long cumulativeCount = 0;
+		for ( int i = 0; i < CHUNK_COUNT; i++ ) {
+			final long[] counts = snapshot[i];
+			if ( counts != null ) {
+				for ( int j = 0; j < SUB_BUCKET_COUNT; j++ ) {
+					cumulativeCount += counts[j];
+					if ( cumulativeCount >= rank ) {
+						return Math.min( highestValueInBucket( i, j ), max.get() );
+					}
+				}
+			}
+		}
+		return max.get();
+	}
+
+	private static long highestValueInBucket(int chunkIndex, int bucketIndex) {
+		if ( chunkIndex == 0 ) {
+			return bucketIndex;
+		}
+		final int shift = chunkIndex - 1;
+		final long nextBucketStart = (long) ( SUB_BUCKET_COUNT + bucketIndex + 1 ) << shift;
+		// the last bucket of the largest range overflows
+		return nextBucketStart < 0 ? Long.MAX_VALUE : nextBucketStart - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrentHistogram[count=" + getCount()
+				+ ",p50=" + getValueAtPercentile( 50 )
+				+ ",p99=" + getValueAtPercentile( 99 )
+				+ ",max=" + getMax()
+				+ ']';
+	}
+}
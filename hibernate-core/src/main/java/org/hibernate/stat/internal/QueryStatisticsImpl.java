@@ -6,6 +6,7 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -13,6 +14,8 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.MultiTableMutationStrategyKind;
+import org.hibernate.stat.QueryExecutionPhase;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -38,6 +41,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final ConcurrentHistogram executionTimeHistogram = new ConcurrentHistogram();
+	private final ConcurrentHistogram executionRowCountHistogram = new ConcurrentHistogram();
+	private final ConcurrentHistogram[] phaseHistograms;
+	private final LongAdder[] multiTableMutationCounts;
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -47,6 +54,16 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		ReadWriteLock lock = new ReentrantReadWriteLock();
 		this.readLock = lock.readLock();
 		this.writeLock = lock.writeLock();
+		final QueryExecutionPhase[] phases = QueryExecutionPhase.values();
+		this.phaseHistograms = new ConcurrentHistogram[phases.length];
+		for ( QueryExecutionPhase phase : phases ) {
+			phaseHistograms[phase.ordinal()] = new ConcurrentHistogram();
+		}
+		final MultiTableMutationStrategyKind[] kinds = MultiTableMutationStrategyKind.values();
+		this.multiTableMutationCounts = new LongAdder[kinds.length];
+		for ( MultiTableMutationStrategyKind kind : kinds ) {
+			multiTableMutationCounts[kind.ordinal()] = new LongAdder();
+		}
 	}
 
 	/**
@@ -154,13 +171,66 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * time in microseconds below which the given percentage of executions of this query completed
+	 */
+	public long getExecutionTimePercentile(double percentile) {
+		return executionTimeHistogram.getValueAtPercentile( percentile );
+	}
+
+	/**
+	 * number of rows below which the given percentage of executions of this query returned
+	 */
+	public long getExecutionRowCountPercentile(double percentile) {
+		return executionRowCountHistogram.getValueAtPercentile( percentile );
+	}
+
+	/**
+	 * number of times the given phase was performed for this query
+	 */
+	public long getPhaseCount(QueryExecutionPhase phase) {
+		return phaseHistograms[phase.ordinal()].getCount();
+	}
+
+	/**
+	 * total time in microseconds spent in the given phase for this query
+	 */
+	public long getPhaseTotalMicroseconds(QueryExecutionPhase phase) {
+		return phaseHistograms[phase.ordinal()].getTotal();
+	}
+
+	/**
+	 * time in microseconds below which the given percentage of the given phase completed
+	 */
+	public long getPhaseTimePercentile(QueryExecutionPhase phase, double percentile) {
+		return phaseHistograms[phase.ordinal()].getValueAtPercentile( percentile );
+	}
+
+	/**
+	 * number of times the given kind of strategy was chosen to execute this multi-table mutation query
+	 */
+	public long getMultiTableMutationCount(MultiTableMutationStrategyKind kind) {
+		return multiTableMutationCounts[kind.ordinal()].sum();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
 	 * @param rows rows count returned
-	 * @param time time taken
+	 * @param time time taken in milliseconds
 	 */
 	public void executed(long rows, long time) {
+		executed( rows, time, TimeUnit.MICROSECONDS.convert( time, TimeUnit.MILLISECONDS ) );
+	}
+
+	/**
+	 * add statistics report of a DB query
+	 *
+	 * @param rows rows count returned
+	 * @param time time taken in milliseconds
+	 * @param microseconds time taken in microseconds, used for the percentiles
+	 */
+	public void executed(long rows, long time, long microseconds) {
 		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
 		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
 		readLock.lock();
@@ -175,6 +245,29 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		finally {
 			readLock.unlock();
 		}
+		// the histograms are lock-free and don't take part in the average
+		executionTimeHistogram.record( microseconds );
+		// the row count is unknown for stream and scroll queries
+		executionRowCountHistogram.record( rows );
+	}
+
+	/**
+	 * add timing report of one phase of a query execution
+	 *
+	 * @param phase the phase
+	 * @param microseconds time taken
+	 */
+	void phaseCompleted(QueryExecutionPhase phase, long microseconds) {
+		phaseHistograms[phase.ordinal()].record( microseconds );
+	}
+
+	/**
+	 * add report of the strategy chosen to execute a multi-table mutation query
+	 *
+	 * @param kind the kind of strategy
+	 */
+	void multiTableMutationExecuted(MultiTableMutationStrategyKind kind) {
+		multiTableMutationCounts[kind.ordinal()].increment();
 	}
 
 	/**
@@ -185,6 +278,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	void compiled(long microseconds) {
 		planCacheMissCount.increment();
 		planCompilationTotalMicroseconds.addAndGet( microseconds );
+		phaseCompleted( QueryExecutionPhase.PARSE, microseconds );
 	}
 
 	void incrementCacheHitCount() {
@@ -220,6 +314,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
 				+ ",executionMaxTime=" + this.executionMaxTime
 				+ ",executionMinTime=" + this.executionMinTime
+				+ ",executionTimeHistogram=" + this.executionTimeHistogram
 				+ ']';
 	}
 }
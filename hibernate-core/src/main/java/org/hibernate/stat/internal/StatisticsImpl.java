@@ -10,6 +10,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -24,6 +25,8 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.MultiTableMutationStrategyKind;
+import org.hibernate.stat.QueryExecutionPhase;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -58,6 +61,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -160,6 +165,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -668,6 +675,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	@Override
 	public void queryExecuted(String hql, int rows, long time) {
+		queryExecuted( hql, rows, time, TimeUnit.MICROSECONDS.convert( time, TimeUnit.MILLISECONDS ) );
+	}
+
+	@Override
+	public void queryExecuted(String hql, int rows, long time, long microseconds) {
 		LOG.hql( hql, time, (long) rows );
 		queryExecutionCount.increment();
 
@@ -684,7 +696,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 
 		if ( hql != null ) {
-			getQueryStatistics( hql ).executed( rows, time );
+			getQueryStatistics( hql ).executed( rows, time, microseconds );
 		}
 	}
 
@@ -746,6 +758,20 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryExecutionPhaseCompleted(String hql, QueryExecutionPhase phase, long microseconds) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).phaseCompleted( phase, microseconds );
+		}
+	}
+
+	@Override
+	public void multiTableMutationExecuted(String hql, MultiTableMutationStrategyKind kind) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).multiTableMutationExecuted( kind );
+		}
+	}
+
 	@Override
 	public void queryPlanCacheHit(String query) {
 		queryPlanCacheHitCount.increment();
@@ -814,6 +840,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -844,6 +880,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -908,6 +954,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
+				",statement cache misses=" + preparedStatementCacheMissCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
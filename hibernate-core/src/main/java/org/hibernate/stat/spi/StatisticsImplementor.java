@@ -8,6 +8,8 @@ package org.hibernate.stat.spi;
 
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.MultiTableMutationStrategyKind;
+import org.hibernate.stat.QueryExecutionPhase;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -46,6 +48,20 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback about a hot statement being reused from the prepared statement cache.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a hot statement which was not found in the prepared statement cache.
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -232,6 +248,20 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating execution of a sql/hql query
+	 *
+	 * @param hql The query
+	 * @param rows Number of rows returned
+	 * @param time execution time in milliseconds
+	 * @param microseconds execution time in microseconds
+	 *
+	 * @since 6.2
+	 */
+	default void queryExecuted(String hql, int rows, long time, long microseconds) {
+		queryExecuted( hql, rows, time );
+	}
+
 	/**
 	 * Callback indicating a hit to the timestamp cache
 	 */
@@ -274,4 +304,33 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating completion of one phase of the execution of a sql/hql query.
+	 * <p>
+	 * Note that the {@link QueryExecutionPhase#PARSE} phase is reported through
+	 * {@link #queryCompiled(String, long)} instead.
+	 *
+	 * @param hql The query
+	 * @param phase The phase which completed
+	 * @param microseconds time spent in the phase
+	 *
+	 * @since 6.2
+	 */
+	default void queryExecutionPhaseCompleted(String hql, QueryExecutionPhase phase, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the given kind of strategy was chosen to
+	 * execute a multi-table mutation query.
+	 *
+	 * @param hql The query
+	 * @param kind The kind of strategy
+	 *
+	 * @since 6.2
+	 */
+	default void multiTableMutationExecuted(String hql, MultiTableMutationStrategyKind kind) {
+		//For backward compatibility
+	}
 }
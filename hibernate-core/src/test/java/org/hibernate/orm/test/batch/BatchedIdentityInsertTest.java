@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts of entities with an identity column executed as JDBC batches
+ */
+@RequiresDialect( H2Dialect.class )
+@RequiresDialect( MySQLDialect.class )
+@RequiresDialect( PostgreSQLDialect.class )
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = AvailableSettings.BATCH_IDENTITY_INSERTS, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = BatchedIdentityInsertTest.Node.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class BatchedIdentityInsertTest {
+
+	@Test
+	public void testInsertsAreBatched(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		final List<Node> nodes = new ArrayList<>();
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 5; i++ ) {
+				final Node node = new Node( "node " + i, null );
+				session.persist( node );
+				nodes.add( node );
+			}
+			assertThat( nodes.get( 0 ).id ).isNull();
+			session.flush();
+
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			for ( Node node : nodes ) {
+				assertThat( node.id ).isNotNull();
+				assertThat( session.contains( node ) ).isTrue();
+			}
+			assertThat( nodes.stream().map( node -> node.id ).distinct() ).hasSize( 5 );
+		} );
+
+		scope.inTransaction( (session) -> {
+			for ( Node node : nodes ) {
+				assertThat( session.get( Node.class, node.id ).name ).isEqualTo( node.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testReferenceWithinBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		final Node[] nodes = new Node[4];
+		scope.inTransaction( (session) -> {
+			nodes[0] = new Node( "root", null );
+			nodes[1] = new Node( "other root", null );
+			nodes[2] = new Node( "child", nodes[0] );
+			nodes[3] = new Node( "other child", nodes[1] );
+			for ( Node node : nodes ) {
+				session.persist( node );
+			}
+		} );
+
+		// the children refer to the roots, so they are inserted by a second batch
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.get( Node.class, nodes[2].id ).parent.name ).isEqualTo( "root" );
+			assertThat( session.get( Node.class, nodes[3].id ).parent.name ).isEqualTo( "other root" );
+		} );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "update Node set parent = null" ).executeUpdate();
+			session.createMutationQuery( "delete Node" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Node" )
+	@Table( name = "t_nodes" )
+	public static class Node {
+		@Id
+		@GeneratedValue( strategy = GenerationType.IDENTITY )
+		private Long id;
+		private String name;
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
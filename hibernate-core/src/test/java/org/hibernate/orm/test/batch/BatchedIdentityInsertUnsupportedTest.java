@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@value AvailableSettings#BATCH_IDENTITY_INSERTS} is ignored when the driver
+ * can't return the generated keys of batched inserts
+ */
+@RequiresDialect( H2Dialect.class )
+@ServiceRegistry(
+		settings = {
+				@Setting(
+						name = AvailableSettings.DIALECT,
+						value = "org.hibernate.orm.test.batch.BatchedIdentityInsertUnsupportedTest$NoBatchedGeneratedKeysDialect"
+				),
+				@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ),
+				@Setting( name = AvailableSettings.BATCH_IDENTITY_INSERTS, value = "true" )
+		}
+)
+@DomainModel( annotatedClasses = BatchedIdentityInsertUnsupportedTest.Item.class )
+@SessionFactory
+public class BatchedIdentityInsertUnsupportedTest {
+
+	@Test
+	public void testInsertIsNotDelayed(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Item item = new Item( "item" );
+			session.persist( item );
+			// inserted immediately, as without the setting
+			assertThat( item.id ).isNotNull();
+		} );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	public static class NoBatchedGeneratedKeysDialect extends H2Dialect {
+		public NoBatchedGeneratedKeysDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		@Override
+		public boolean supportsBatchedGeneratedKeys() {
+			return false;
+		}
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "t_unbatched_items" )
+	public static class Item {
+		@Id
+		@GeneratedValue( strategy = GenerationType.IDENTITY )
+		private Long id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batching of dynamic updates which share the same SQL
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" )
+)
+@DomainModel( annotatedClasses = DynamicUpdateBatchTest.Product.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class DynamicUpdateBatchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Product( i, "product " + i, 10 * i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSameDirtyAttributes(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createQuery( "from Product order by id", Product.class ).list();
+			statementInspector.clear();
+			for ( Product product : products ) {
+				product.name = "renamed " + product.id;
+			}
+			session.flush();
+			// all the updates share a single statement
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContain( "price" );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Product product : session.createQuery( "from Product", Product.class ).list() ) {
+				assertThat( product.name ).isEqualTo( "renamed " + product.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testDifferentDirtyAttributes(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createQuery( "from Product order by id", Product.class ).list();
+			statementInspector.clear();
+			products.get( 0 ).name = "renamed";
+			products.get( 1 ).price = 0;
+			products.get( 2 ).name = null;
+			products.get( 3 ).price = 1;
+		} );
+
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 4 );
+
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createQuery( "from Product order by id", Product.class ).list();
+			assertThat( products ).extracting( product -> product.name )
+					.containsExactly( "renamed", "product 2", null, "product 4" );
+			assertThat( products ).extracting( product -> product.price )
+					.containsExactly( 10, 0, 30, 1 );
+		} );
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "t_dynamic_update_product")
+	@DynamicUpdate
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		private Integer price;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Integer price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package org.hibernate.orm.test.bulkid;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+import org.hibernate.stat.MultiTableMutationStrategyKind;
+import org.hibernate.stat.QueryStatistics;
+
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Multi-table mutations with the dialect default strategy, and the ids
+ * passed inline when few rows match
+ */
+public class AdaptiveMutationStrategyIdTest extends AbstractMutationStrategyIdTest {
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.QUERY_MULTI_TABLE_MUTATION_INLINE_THRESHOLD, "5" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<? extends SqmMultiTableMutationStrategy> getMultiTableBulkIdStrategyClass() {
+		return null;
+	}
+
+	@Test
+	public void testStrategyChoice() {
+		final String inlineHql = "delete from Engineer where fellow = :fellow";
+		final String fallbackHql = "update Person set name = :name where employed = :employed";
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					entityCount() / 2,
+					session.createQuery( inlineHql ).setParameter( "fellow", true ).executeUpdate()
+			);
+			assertEquals(
+					entityCount(),
+					session.createQuery( fallbackHql )
+							.setParameter( "name", "John Doe" )
+							.setParameter( "employed", true )
+							.executeUpdate()
+			);
+		} );
+
+		final QueryStatistics inlineStatistics = sessionFactory().getStatistics().getQueryStatistics( inlineHql );
+		assertEquals( 1, inlineStatistics.getMultiTableMutationCount( MultiTableMutationStrategyKind.INLINE ) );
+
+		final QueryStatistics fallbackStatistics = sessionFactory().getStatistics().getQueryStatistics( fallbackHql );
+		assertEquals( 0, fallbackStatistics.getMultiTableMutationCount( MultiTableMutationStrategyKind.INLINE ) );
+		long fallbackCount = 0;
+		for ( MultiTableMutationStrategyKind kind : MultiTableMutationStrategyKind.values() ) {
+			fallbackCount += fallbackStatistics.getMultiTableMutationCount( kind );
+		}
+		assertEquals( 1, fallbackCount );
+	}
+}
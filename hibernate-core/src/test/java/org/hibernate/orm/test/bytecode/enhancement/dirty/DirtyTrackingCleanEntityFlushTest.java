@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.event.internal.DefaultFlushEntityEventListener.isUnequivocallyClean;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Flushing skips the entities which track their own dirtiness and are known
+ * to be clean, without skipping those whose state has to be checked.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+public class DirtyTrackingCleanEntityFlushTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { SimpleItem.class, DatedItem.class, TaggedItem.class };
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new SimpleItem( 1L, "simple" ) );
+			session.persist( new DatedItem( 1L, new Date() ) );
+			session.persist( new TaggedItem( 1L, "tag" ) );
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.remove( session.find( SimpleItem.class, 1L ) );
+			session.remove( session.find( DatedItem.class, 1L ) );
+			session.remove( session.find( TaggedItem.class, 1L ) );
+		} );
+	}
+
+	@Test
+	public void testCleanEntitySkipped() {
+		doInHibernate( this::sessionFactory, session -> {
+			final SimpleItem item = session.find( SimpleItem.class, 1L );
+			assertTrue( isClean( session, item ) );
+
+			item.name = "changed";
+			assertFalse( isClean( session, item ) );
+
+			session.flush();
+			// the flush cleared the dirty attributes
+			assertTrue( isClean( session, item ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed", session.find( SimpleItem.class, 1L ).name );
+		} );
+	}
+
+	@Test
+	public void testMutableStateVisited() {
+		doInHibernate( this::sessionFactory, session -> {
+			// a Date could be modified in place, unnoticed by the dirty tracker
+			assertFalse( isClean( session, session.find( DatedItem.class, 1L ) ) );
+			// collections have to be reached by the flush
+			assertFalse( isClean( session, session.find( TaggedItem.class, 1L ) ) );
+		} );
+	}
+
+	private static boolean isClean(Object session, Object entity) {
+		return isUnequivocallyClean(
+				entity,
+				( (SessionImplementor) session ).getPersistenceContextInternal().getEntry( entity )
+		);
+	}
+
+	@Entity(name = "SimpleItem")
+	public static class SimpleItem {
+		@Id
+		Long id;
+		String name;
+
+		SimpleItem() {
+		}
+
+		SimpleItem(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "DatedItem")
+	public static class DatedItem {
+		@Id
+		Long id;
+		@Temporal(TemporalType.TIMESTAMP)
+		Date created;
+
+		DatedItem() {
+		}
+
+		DatedItem(Long id, Date created) {
+			this.id = id;
+			this.created = created;
+		}
+	}
+
+	@Entity(name = "TaggedItem")
+	public static class TaggedItem {
+		@Id
+		Long id;
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+
+		TaggedItem() {
+		}
+
+		TaggedItem(Long id, String tag) {
+			this.id = id;
+			this.tags.add( tag );
+		}
+	}
+}
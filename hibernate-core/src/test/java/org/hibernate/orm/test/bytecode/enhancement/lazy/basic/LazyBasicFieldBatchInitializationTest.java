@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.basic;
+
+import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.hibernate.Hibernate.isPropertyInitialized;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Lazy basic attributes of several entities initialized by a single select
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class LazyBasicFieldBatchInitializationTest extends BaseCoreFunctionalTestCase {
+
+    private static final int NUMBER_OF_ENTITIES = 25;
+
+    @Override
+    public Class<?>[] getAnnotatedClasses() {
+        return new Class<?>[]{LazyEntity.class};
+    }
+
+    @Override
+    protected void configure(Configuration configuration) {
+        configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+        configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+    }
+
+    @Before
+    public void prepare() {
+        doInHibernate( this::sessionFactory, s -> {
+            for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+                s.persist( new LazyEntity( i, "desc " + i ) );
+            }
+        } );
+    }
+
+    @After
+    public void cleanup() {
+        doInHibernate( this::sessionFactory, s -> {
+            s.createMutationQuery( "delete LazyEntity" ).executeUpdate();
+        } );
+    }
+
+    @Test
+    public void testBatchInitialization() {
+        final Statistics statistics = sessionFactory().getStatistics();
+        doInHibernate( this::sessionFactory, s -> {
+            final List<LazyEntity> entities = s.createSelectionQuery( "from LazyEntity order by id", LazyEntity.class )
+                    .list();
+            statistics.clear();
+
+            for ( LazyEntity entity : entities ) {
+                assertEquals( "desc " + entity.id, entity.description );
+            }
+            assertEquals( 3, statistics.getPrepareStatementCount() );
+        } );
+    }
+
+    @Test
+    public void testBatchDoesNotOverwriteInitializedAttributes() {
+        doInHibernate( this::sessionFactory, s -> {
+            final LazyEntity first = s.get( LazyEntity.class, 0 );
+            final LazyEntity second = s.get( LazyEntity.class, 1 );
+            second.description = "changed";
+            final LazyEntity third = s.get( LazyEntity.class, 2 );
+            assertFalse( isPropertyInitialized( third, "description" ) );
+
+            assertEquals( "desc 0", first.description );
+            assertTrue( isPropertyInitialized( third, "description" ) );
+            assertEquals( "desc 2", third.description );
+            assertEquals( "changed", second.description );
+        } );
+        doInHibernate( this::sessionFactory, s -> {
+            assertEquals( "changed", s.get( LazyEntity.class, 1 ).description );
+        } );
+    }
+
+    // --- //
+
+    @Entity( name = "LazyEntity" )
+    @Table( name = "LAZY_ENTITY" )
+    @BatchSize( size = 10 )
+    private static class LazyEntity {
+
+        @Id
+        Integer id;
+
+        @Basic( fetch = FetchType.LAZY )
+        String description;
+
+        LazyEntity() {
+        }
+
+        LazyEntity(Integer id, String description) {
+            this.id = id;
+            this.description = description;
+        }
+    }
+}
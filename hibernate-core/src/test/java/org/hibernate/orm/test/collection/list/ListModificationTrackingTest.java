@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.list;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Row updates of a list, when the list records where it was modified
+ */
+@DomainModel( annotatedClasses = ListModificationTrackingTest.AnEntity.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class ListModificationTrackingTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final AnEntity entity = new AnEntity( 1 );
+					entity.tags.addAll( Arrays.asList( "a", "b", "c", "d", "e" ) );
+					session.persist( entity );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( AnEntity.class, 1 ) ) );
+	}
+
+	@Test
+	public void testSet(SessionFactoryScope scope) {
+		modify( scope, values -> values.set( 3, "x" ) );
+		assertEquals( 1, countUpdates( scope ) );
+		assertValues( scope, "a", "b", "c", "x", "e" );
+	}
+
+	@Test
+	public void testAppend(SessionFactoryScope scope) {
+		modify( scope, values -> values.add( "f" ) );
+		assertEquals( 0, countUpdates( scope ) );
+		assertEquals( 1, countStatements( scope, "insert" ) );
+		assertEquals( 0, countStatements( scope, "delete" ) );
+		assertValues( scope, "a", "b", "c", "d", "e", "f" );
+	}
+
+	@Test
+	public void testTruncate(SessionFactoryScope scope) {
+		modify( scope, values -> values.subList( 3, 5 ).clear() );
+		assertEquals( 0, countUpdates( scope ) );
+		assertEquals( 0, countStatements( scope, "insert" ) );
+		assertEquals( 2, countStatements( scope, "delete" ) );
+		assertValues( scope, "a", "b", "c" );
+	}
+
+	@Test
+	public void testInsertNearHead(SessionFactoryScope scope) {
+		modify( scope, values -> values.add( 1, "x" ) );
+		assertValues( scope, "a", "x", "b", "c", "d", "e" );
+	}
+
+	@Test
+	public void testRemoveByValue(SessionFactoryScope scope) {
+		modify( scope, values -> values.remove( "d" ) );
+		assertValues( scope, "a", "b", "c", "e" );
+	}
+
+	@Test
+	public void testModificationThroughIterators(SessionFactoryScope scope) {
+		modify(
+				scope,
+				values -> {
+					final ListIterator<String> listIterator = values.listIterator();
+					while ( listIterator.hasNext() ) {
+						if ( listIterator.next().equals( "b" ) ) {
+							listIterator.set( "y" );
+						}
+					}
+					final Iterator<String> iterator = values.iterator();
+					while ( iterator.hasNext() ) {
+						if ( iterator.next().equals( "d" ) ) {
+							iterator.remove();
+						}
+					}
+				}
+		);
+		assertValues( scope, "a", "y", "c", "e" );
+	}
+
+	@Test
+	public void testModificationThroughSubList(SessionFactoryScope scope) {
+		modify( scope, values -> values.subList( 2, 4 ).set( 1, "z" ) );
+		assertValues( scope, "a", "b", "c", "z", "e" );
+	}
+
+	@Test
+	public void testSort(SessionFactoryScope scope) {
+		modify( scope, values -> values.sort( String::compareTo ) );
+		modify( scope, values -> values.sort( ( first, second ) -> second.compareTo( first ) ) );
+		assertValues( scope, "e", "d", "c", "b", "a" );
+	}
+
+	private static void modify(SessionFactoryScope scope, Consumer<List<String>> modification) {
+		scope.inTransaction(
+				session -> {
+					final AnEntity entity = session.find( AnEntity.class, 1 );
+					entity.tags.size();
+					scope.getCollectingStatementInspector().clear();
+					modification.accept( entity.tags );
+				}
+		);
+	}
+
+	private static long countUpdates(SessionFactoryScope scope) {
+		return countStatements( scope, "update" );
+	}
+
+	private static long countStatements(SessionFactoryScope scope, String keyword) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		return statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.toLowerCase().startsWith( keyword ) )
+				.count();
+	}
+
+	private static void assertValues(SessionFactoryScope scope, String... expected) {
+		scope.inTransaction(
+				session -> assertEquals(
+						Arrays.asList( expected ),
+						session.find( AnEntity.class, 1 ).tags
+				)
+		);
+	}
+
+	@Entity( name = "AnEntity" )
+	public static class AnEntity {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@OrderColumn
+		private List<String> tags = new ArrayList<>();
+
+		public AnEntity() {
+		}
+
+		public AnEntity(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connections;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The routing tests of {@link ReadReplicaRoutingTest}, with the default
+ * connection handling mode, where a transaction acquires its connection
+ * when it begins, and holds it until it completes
+ */
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.connections.ReadReplicaRoutingTest$ReplicaConnectionProvider"
+		)
+)
+public class ReadReplicaRoutingDefaultHandlingTest extends ReadReplicaRoutingTest {
+
+	@Test
+	@Override
+	public void testReadOnlyQueryInTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the transaction began on the primary database
+			final String hql = "select i.name from Item i where i.id = 1";
+			assertThat( session.createQuery( hql, String.class ).setReadOnly( true ).getSingleResult() )
+					.isEqualTo( "primary" );
+			assertThat( session.createQuery( hql, String.class ).getSingleResult() )
+					.isEqualTo( "primary" );
+		} );
+	}
+
+	@Test
+	@Override
+	public void testFlushInReadOnlySession(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				final String hql = "select i.name from Item i where i.id = 1";
+				assertThat( session.createQuery( hql, String.class ).getSingleResult() ).isEqualTo( "replica" );
+
+				// the flush moves the transaction to the primary database
+				session.persist( new Item( 2, "second" ) );
+				session.flush();
+
+				assertThat( session.createQuery( hql, String.class ).getSingleResult() ).isEqualTo( "primary" );
+				session.getTransaction().commit();
+			}
+			finally {
+				if ( session.getTransaction().isActive() ) {
+					session.getTransaction().rollback();
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 2 ) ).isNotNull() );
+	}
+}
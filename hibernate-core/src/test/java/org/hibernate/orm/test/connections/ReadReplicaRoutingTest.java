@@ -0,0 +1,288 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connections;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing of read-only sessions and queries to a read replica by a
+ * {@link RoutingConnectionProvider}, using a second H2 database as the replica
+ */
+@RequiresDialect( H2Dialect.class )
+@ServiceRegistry(
+		settings = {
+				@Setting(
+						name = AvailableSettings.CONNECTION_PROVIDER,
+						value = "org.hibernate.orm.test.connections.ReadReplicaRoutingTest$ReplicaConnectionProvider"
+				),
+				@Setting( name = AvailableSettings.CONNECTION_HANDLING, value = "DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE" )
+		}
+)
+@DomainModel(
+		annotatedClasses = {
+				ReadReplicaRoutingTest.Item.class,
+				ReadReplicaRoutingTest.Vehicle.class,
+				ReadReplicaRoutingTest.Car.class
+		}
+)
+@SessionFactory
+public class ReadReplicaRoutingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) throws SQLException {
+		scope.inTransaction( session -> session.persist( new Item( 1, "primary" ) ) );
+
+		// the replica holds different data, to tell which database a query reads from
+		final ReplicaConnectionProvider connectionProvider = connectionProvider( scope );
+		final Connection connection = connectionProvider.getReplicaConnection();
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( "create table if not exists t_routed_item (id integer not null, name varchar(255), primary key (id))" );
+			statement.execute( "merge into t_routed_item key (id) values (1, 'replica')" );
+			connection.commit();
+		}
+		finally {
+			connectionProvider.closeReplicaConnection( connection );
+		}
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testReadOnlySession(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.setDefaultReadOnly( true );
+			assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "replica" );
+		} );
+
+		scope.inSession( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "primary" ) );
+	}
+
+	@Test
+	public void testReadOnlyQuery(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final String hql = "select i.name from Item i where i.id = 1";
+			assertThat( session.createQuery( hql, String.class ).setReadOnly( true ).getSingleResult() )
+					.isEqualTo( "replica" );
+			assertThat( session.createQuery( hql, String.class ).getSingleResult() )
+					.isEqualTo( "primary" );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyQueryInTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String hql = "select i.name from Item i where i.id = 1";
+			assertThat( session.createQuery( hql, String.class ).setReadOnly( true ).getSingleResult() )
+					.isEqualTo( "replica" );
+			// the query which is not read-only moves the transaction to the primary database
+			assertThat( session.createQuery( hql, String.class ).getSingleResult() )
+					.isEqualTo( "primary" );
+			assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "primary" );
+		} );
+	}
+
+	@Test
+	public void testFlushInReadOnlySession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final String hql = "select i.name from Item i where i.id = 1";
+			assertThat( session.createQuery( hql, String.class ).getSingleResult() ).isEqualTo( "replica" );
+
+			// the flush moves the transaction to the primary database
+			session.persist( new Item( 2, "second" ) );
+			session.flush();
+
+			// and the session then reads its own writes
+			assertThat( session.createQuery( hql, String.class ).getSingleResult() ).isEqualTo( "primary" );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 2 ) ).isNotNull() );
+	}
+
+	@Test
+	public void testLockingRead(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			final Item item = session.find( Item.class, 1, LockModeType.PESSIMISTIC_WRITE );
+			assertThat( item.name ).isEqualTo( "primary" );
+		} );
+	}
+
+	@Test
+	public void testReturningMutationInReadOnlySession(SessionFactoryScope scope) {
+		inReadOnlyTransaction( scope, session -> {
+			final String name = session.createQuery(
+							"update Item i set i.name = 'updated' where i.id = 1 returning i.name",
+							String.class
+					)
+					.getSingleResult();
+			assertThat( name ).isEqualTo( "updated" );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "updated" ) );
+	}
+
+	@Test
+	public void testMultiTableMutationInReadOnlySession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Car( 1, "primary", 4 ) ) );
+
+		// the replica has no tables for the joined hierarchy, so the selection
+		// of the matching ids fails unless it is executed on the primary database
+		inReadOnlyTransaction( scope, session -> assertThat(
+				session.createMutationQuery( "update Car c set c.name = 'updated', c.doors = 5" ).executeUpdate()
+		).isEqualTo( 1 ) );
+
+		scope.inTransaction( session -> {
+			final Car car = session.find( Car.class, 1 );
+			assertThat( car.name ).isEqualTo( "updated" );
+			assertThat( car.doors ).isEqualTo( 5 );
+		} );
+	}
+
+	private static void inReadOnlyTransaction(SessionFactoryScope scope, Consumer<SessionImplementor> action) {
+		scope.inSession( session -> {
+			// before the transaction begins, so that it begins on the read replica
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				action.accept( session );
+				session.getTransaction().commit();
+			}
+			finally {
+				if ( session.getTransaction().isActive() ) {
+					session.getTransaction().rollback();
+				}
+			}
+		} );
+	}
+
+	private static ReplicaConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		return (ReplicaConnectionProvider) scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+
+	public static class ReplicaConnectionProvider extends DriverManagerConnectionProviderImpl
+			implements RoutingConnectionProvider {
+		private final DriverManagerConnectionProviderImpl replica = new DriverManagerConnectionProviderImpl();
+
+		@Override
+		public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+			super.injectServices( serviceRegistry );
+			replica.injectServices( serviceRegistry );
+		}
+
+		@Override
+		public void configure(Map<String, Object> configurationValues) {
+			super.configure( configurationValues );
+			final Map<String, Object> replicaConfigurationValues = new HashMap<>( configurationValues );
+			replicaConfigurationValues.put( AvailableSettings.URL, "jdbc:h2:mem:read_replica;DB_CLOSE_DELAY=-1" );
+			replica.configure( replicaConfigurationValues );
+		}
+
+		@Override
+		public Connection getReplicaConnection() throws SQLException {
+			return replica.getConnection();
+		}
+
+		@Override
+		public void closeReplicaConnection(Connection conn) throws SQLException {
+			replica.closeConnection( conn );
+		}
+
+		@Override
+		public void stop() {
+			replica.stop();
+			super.stop();
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_routed_item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Table(name = "t_routed_vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		protected String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	@Table(name = "t_routed_car")
+	public static class Car extends Vehicle {
+		private int doors;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int doors) {
+			super( id, name );
+			this.doors = doors;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connections;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Release of idle connections with
+ * {@link org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode#DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE}
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.CONNECTION_HANDLING, value = "DELAYED_ACQUISITION_AND_RELEASE_WHEN_IDLE" )
+)
+@DomainModel( annotatedClasses = ReleaseWhenIdleTest.Item.class )
+@SessionFactory
+public class ReleaseWhenIdleTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReleaseOutsideTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.createQuery( "from Item", Item.class ).list();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testHoldDuringTransaction(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.beginTransaction();
+			// the transaction is begun on a connection only when needed
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+
+			session.persist( new Item( 1, "first" ) );
+			session.flush();
+			assertThat( isPhysicallyConnected( session ) ).isTrue();
+
+			session.createQuery( "from Item", Item.class ).list();
+			assertThat( isPhysicallyConnected( session ) ).isTrue();
+
+			session.getTransaction().commit();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 1 ) ).isNotNull() );
+	}
+
+	@Test
+	public void testRollback(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.beginTransaction();
+			session.persist( new Item( 2, "second" ) );
+			session.flush();
+			session.getTransaction().rollback();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Item.class, 2 ) ).isNull() );
+	}
+
+	@Test
+	public void testTransactionWithoutStatements(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.beginTransaction();
+			session.getTransaction().commit();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+
+			session.beginTransaction();
+			session.getTransaction().rollback();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testHoldWhileConnectionHoldsState(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final ResourceRegistry resourceRegistry = session.getJdbcCoordinator()
+					.getLogicalConnection()
+					.getResourceRegistry();
+			final Object state = new Object();
+			resourceRegistry.registerConnectionState( state );
+			session.createQuery( "from Item", Item.class ).list();
+			assertThat( isPhysicallyConnected( session ) ).isTrue();
+
+			resourceRegistry.releaseConnectionState( state );
+			session.createQuery( "from Item", Item.class ).list();
+			assertThat( isPhysicallyConnected( session ) ).isFalse();
+		} );
+	}
+
+	private static boolean isPhysicallyConnected(SessionImplementor session) {
+		return session.getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected();
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_idle_release_item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
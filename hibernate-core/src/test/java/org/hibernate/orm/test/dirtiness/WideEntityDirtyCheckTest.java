@@ -0,0 +1,241 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Dirty checking of an entity with more properties than fit in a single word of the dirty bitset
+ */
+@DomainModel( annotatedClasses = WideEntityDirtyCheckTest.WideEntity.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class WideEntityDirtyCheckTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new WideEntity( 1 ) ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete WideEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDirtyPropertiesAreDetected(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final WideEntity entity = session.find( WideEntity.class, 1 );
+					entity.a3 = -3;
+					entity.a64 = -64;
+					entity.a69 = -69;
+					statementInspector.clear();
+				}
+		);
+
+		statementInspector.assertExecutedCount( 1 );
+		final String update = statementInspector.getSqlQueries().get( 0 );
+		assertTrue( update.contains( "a3=" ) );
+		assertTrue( update.contains( "a64=" ) );
+		assertTrue( update.contains( "a69=" ) );
+		assertFalse( update.contains( "a4=" ) );
+		assertFalse( update.contains( "a63=" ) );
+
+		scope.inTransaction(
+				session -> {
+					final WideEntity entity = session.find( WideEntity.class, 1 );
+					assertEquals( -3, entity.a3 );
+					assertEquals( 4, entity.a4 );
+					assertEquals( -64, entity.a64 );
+					assertEquals( -69, entity.a69 );
+				}
+		);
+	}
+
+	@Test
+	public void testUnchangedEntityIsNotUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					final WideEntity entity = session.find( WideEntity.class, 1 );
+					entity.a65 = 65;
+					statementInspector.clear();
+				}
+		);
+		statementInspector.assertExecutedCount( 0 );
+	}
+
+	@Entity( name = "WideEntity" )
+	@DynamicUpdate
+	public static class WideEntity {
+		@Id
+		private Integer id;
+		private Integer a0;
+		private Integer a1;
+		private Integer a2;
+		private Integer a3;
+		private Integer a4;
+		private Integer a5;
+		private Integer a6;
+		private Integer a7;
+		private Integer a8;
+		private Integer a9;
+		private Integer a10;
+		private Integer a11;
+		private Integer a12;
+		private Integer a13;
+		private Integer a14;
+		private Integer a15;
+		private Integer a16;
+		private Integer a17;
+		private Integer a18;
+		private Integer a19;
+		private Integer a20;
+		private Integer a21;
+		private Integer a22;
+		private Integer a23;
+		private Integer a24;
+		private Integer a25;
+		private Integer a26;
+		private Integer a27;
+		private Integer a28;
+		private Integer a29;
+		private Integer a30;
+		private Integer a31;
+		private Integer a32;
+		private Integer a33;
+		private Integer a34;
+		private Integer a35;
+		private Integer a36;
+		private Integer a37;
+		private Integer a38;
+		private Integer a39;
+		private Integer a40;
+		private Integer a41;
+		private Integer a42;
+		private Integer a43;
+		private Integer a44;
+		private Integer a45;
+		private Integer a46;
+		private Integer a47;
+		private Integer a48;
+		private Integer a49;
+		private Integer a50;
+		private Integer a51;
+		private Integer a52;
+		private Integer a53;
+		private Integer a54;
+		private Integer a55;
+		private Integer a56;
+		private Integer a57;
+		private Integer a58;
+		private Integer a59;
+		private Integer a60;
+		private Integer a61;
+		private Integer a62;
+		private Integer a63;
+		private Integer a64;
+		private Integer a65;
+		private Integer a66;
+		private Integer a67;
+		private Integer a68;
+		private Integer a69;
+
+		public WideEntity() {
+		}
+
+		public WideEntity(Integer id) {
+			this.id = id;
+			this.a0 = 0;
+			this.a1 = 1;
+			this.a2 = 2;
+			this.a3 = 3;
+			this.a4 = 4;
+			this.a5 = 5;
+			this.a6 = 6;
+			this.a7 = 7;
+			this.a8 = 8;
+			this.a9 = 9;
+			this.a10 = 10;
+			this.a11 = 11;
+			this.a12 = 12;
+			this.a13 = 13;
+			this.a14 = 14;
+			this.a15 = 15;
+			this.a16 = 16;
+			this.a17 = 17;
+			this.a18 = 18;
+			this.a19 = 19;
+			this.a20 = 20;
+			this.a21 = 21;
+			this.a22 = 22;
+			this.a23 = 23;
+			this.a24 = 24;
+			this.a25 = 25;
+			this.a26 = 26;
+			this.a27 = 27;
+			this.a28 = 28;
+			this.a29 = 29;
+			this.a30 = 30;
+			this.a31 = 31;
+			this.a32 = 32;
+			this.a33 = 33;
+			this.a34 = 34;
+			this.a35 = 35;
+			this.a36 = 36;
+			this.a37 = 37;
+			this.a38 = 38;
+			this.a39 = 39;
+			this.a40 = 40;
+			this.a41 = 41;
+			this.a42 = 42;
+			this.a43 = 43;
+			this.a44 = 44;
+			this.a45 = 45;
+			this.a46 = 46;
+			this.a47 = 47;
+			this.a48 = 48;
+			this.a49 = 49;
+			this.a50 = 50;
+			this.a51 = 51;
+			this.a52 = 52;
+			this.a53 = 53;
+			this.a54 = 54;
+			this.a55 = 55;
+			this.a56 = 56;
+			this.a57 = 57;
+			this.a58 = 58;
+			this.a59 = 59;
+			this.a60 = 60;
+			this.a61 = 61;
+			this.a62 = 62;
+			this.a63 = 63;
+			this.a64 = 64;
+			this.a65 = 65;
+			this.a66 = 66;
+			this.a67 = 67;
+			this.a68 = 68;
+			this.a69 = 69;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.event.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.JdbcPreparedStatementExecutionEvent;
+import org.hibernate.event.jfr.internal.JfrEventManager;
+import org.hibernate.event.jfr.internal.SessionClosedEvent;
+import org.hibernate.event.jfr.internal.SessionFlushEvent;
+import org.hibernate.event.jfr.internal.SessionOpenEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.JFR_ENABLED, value = "true" )
+)
+@DomainModel( annotatedClasses = JfrEventsTest.Item.class )
+@SessionFactory
+public class JfrEventsTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEventManager(SessionFactoryScope scope) {
+		scope.inSession( session -> assertTrue( session.getEventManager() instanceof JfrEventManager ) );
+	}
+
+	@Test
+	public void testEventsAreRecorded(SessionFactoryScope scope) throws Exception {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( SessionOpenEvent.NAME ).withoutThreshold();
+			recording.enable( SessionClosedEvent.NAME ).withoutThreshold();
+			recording.enable( SessionFlushEvent.NAME ).withoutThreshold();
+			recording.enable( JdbcPreparedStatementExecutionEvent.NAME ).withoutThreshold();
+			recording.start();
+
+			scope.inTransaction( session -> session.persist( new Item( 1, "first" ) ) );
+
+			recording.stop();
+			final Path dump = Files.createTempFile( "hibernate-jfr", ".jfr" );
+			try {
+				recording.dump( dump );
+				events = RecordingFile.readAllEvents( dump );
+			}
+			finally {
+				Files.delete( dump );
+			}
+		}
+
+		final List<String> names = events.stream()
+				.map( event -> event.getEventType().getName() )
+				.collect( Collectors.toList() );
+		assertTrue( names.contains( SessionOpenEvent.NAME ) );
+		assertTrue( names.contains( SessionClosedEvent.NAME ) );
+		assertTrue( names.contains( JdbcPreparedStatementExecutionEvent.NAME ) );
+
+		final List<RecordedEvent> flushEvents = events.stream()
+				.filter( event -> event.getEventType().getName().equals( SessionFlushEvent.NAME ) )
+				.collect( Collectors.toList() );
+		assertEquals( 1, flushEvents.size() );
+		assertEquals( 1, flushEvents.get( 0 ).getInt( "numberOfEntitiesProcessed" ) );
+		assertFalse( flushEvents.get( 0 ).getBoolean( "isAutoFlush" ) );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
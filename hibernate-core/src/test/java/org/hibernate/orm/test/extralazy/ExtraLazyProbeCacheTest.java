@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.extralazy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+)
+@DomainModel( annotatedClasses = { ExtraLazyProbeCacheTest.Owner.class, ExtraLazyProbeCacheTest.Item.class } )
+@SessionFactory
+public class ExtraLazyProbeCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = new Owner( 1 );
+					owner.tags.addAll( Arrays.asList( "a", "b", "c" ) );
+					session.persist( owner );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.remove( session.find( Owner.class, 1 ) ) );
+	}
+
+	@Test
+	public void testContainsIsCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					statistics.clear();
+
+					for ( int i = 0; i < 3; i++ ) {
+						assertTrue( owner.tags.contains( "a" ) );
+						assertFalse( owner.tags.contains( "x" ) );
+					}
+					assertEquals( 2, statistics.getPrepareStatementCount() );
+					assertFalse( Hibernate.isInitialized( owner.tags ) );
+				}
+		);
+	}
+
+	@Test
+	public void testContainsAllUsesSingleQuery(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					statistics.clear();
+
+					assertFalse( owner.tags.containsAll( Arrays.asList( "a", "b", "x" ) ) );
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+
+					// both are known from the previous probe
+					assertTrue( owner.tags.containsAll( Arrays.asList( "a", "b" ) ) );
+					assertEquals( 1, statistics.getPrepareStatementCount() );
+
+					assertTrue( owner.tags.containsAll( Arrays.asList( "c", "a" ) ) );
+					assertEquals( 2, statistics.getPrepareStatementCount() );
+					assertFalse( Hibernate.isInitialized( owner.tags ) );
+				}
+		);
+	}
+
+	@Test
+	public void testProbesAreInvalidatedByFlush(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					assertFalse( owner.tags.contains( "z" ) );
+
+					session.createNativeMutationQuery( "insert into owner_tags (owner_id, tag) values (1, 'z')" )
+							.executeUpdate();
+					session.flush();
+
+					assertTrue( owner.tags.contains( "z" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testProbesAreInvalidatedByMutationQuery(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					assertFalse( owner.tags.contains( "z" ) );
+					assertTrue( owner.tags.contains( "a" ) );
+
+					// no flush happens, since nothing is pending
+					session.createNativeMutationQuery( "insert into owner_tags (owner_id, tag) values (1, 'z')" )
+							.executeUpdate();
+					session.createNativeMutationQuery( "delete from owner_tags where tag = 'a'" )
+							.executeUpdate();
+
+					assertTrue( owner.tags.contains( "z" ) );
+					assertFalse( owner.tags.contains( "a" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testEvictedElementIsReloaded(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Owner owner = session.find( Owner.class, 1 );
+					final Item item = new Item( 1 );
+					owner.items.add( item );
+					session.persist( item );
+				}
+		);
+		try {
+			scope.inTransaction(
+					session -> {
+						final Owner owner = session.find( Owner.class, 1 );
+						final Item item = owner.items.get( 0 );
+						assertSame( item, owner.items.get( 0 ) );
+
+						session.evict( item );
+						final Item reloaded = owner.items.get( 0 );
+						assertNotSame( item, reloaded );
+						assertTrue( session.contains( reloaded ) );
+						assertFalse( Hibernate.isInitialized( owner.items ) );
+					}
+			);
+		}
+		finally {
+			scope.inTransaction(
+					session -> {
+						final Owner owner = session.find( Owner.class, 1 );
+						final Item item = owner.items.get( 0 );
+						owner.items.clear();
+						session.remove( item );
+					}
+			);
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+
+		public Item() {
+		}
+
+		public Item(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@LazyCollection( LazyCollectionOption.EXTRA )
+		@CollectionTable( name = "owner_tags", joinColumns = @JoinColumn( name = "owner_id" ) )
+		@Column( name = "tag" )
+		private Set<String> tags = new HashSet<>();
+
+		@OneToMany
+		@LazyCollection( LazyCollectionOption.EXTRA )
+		@OrderColumn( name = "item_order" )
+		@JoinTable( name = "owner_items" )
+		private List<Item> items = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+}
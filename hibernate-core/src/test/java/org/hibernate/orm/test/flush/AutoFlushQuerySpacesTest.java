@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(
+		annotatedClasses = {
+				AutoFlushQuerySpacesTest.Item.class,
+				AutoFlushQuerySpacesTest.Owner.class,
+				AutoFlushQuerySpacesTest.Unrelated.class
+		}
+)
+@SessionFactory
+public class AutoFlushQuerySpacesTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Item( 1, "item" ) );
+					session.persist( new Unrelated( 1 ) );
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete Item" ).executeUpdate();
+					session.createMutationQuery( "delete Owner" ).executeUpdate();
+					session.createMutationQuery( "delete Unrelated" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testDirtyCheckingSkippedForUnrelatedQuery(SessionFactoryScope scope) {
+		final FlushCountingListener listener = new FlushCountingListener();
+		try ( SessionImplementor session = (SessionImplementor) scope.getSessionFactory()
+				.withOptions()
+				.eventListeners( listener )
+				.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				final Item item = session.find( Item.class, 1 );
+				item.name = "changed";
+
+				session.createSelectionQuery( "from Unrelated", Unrelated.class ).list();
+				assertEquals( 0, listener.entitiesProcessed );
+
+				assertEquals(
+						"changed",
+						session.createSelectionQuery( "select i.name from Item i", String.class )
+								.getSingleResult()
+				);
+				assertEquals( 1, listener.entitiesProcessed );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+
+	@Test
+	public void testFlushTimeCascadeIsConsidered(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Item item = session.find( Item.class, 1 );
+					item.owner = new Owner( 1 );
+
+					assertEquals(
+							1L,
+							session.createSelectionQuery( "select count(*) from Owner", Long.class )
+									.getSingleResult()
+					);
+				}
+		);
+	}
+
+	private static class FlushCountingListener implements SessionEventListener {
+		private int entitiesProcessed;
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			entitiesProcessed = numberOfEntities;
+		}
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne( cascade = CascadeType.ALL )
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Unrelated" )
+	public static class Unrelated {
+		@Id
+		private Integer id;
+
+		public Unrelated() {
+		}
+
+		public Unrelated(Integer id) {
+			this.id = id;
+		}
+	}
+}
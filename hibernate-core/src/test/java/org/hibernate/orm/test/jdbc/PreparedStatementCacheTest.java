@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ServiceRegistry(
+		settings = {
+				@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+				@Setting( name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "8" ),
+				@Setting( name = AvailableSettings.STATEMENT_CACHE_HOT_THRESHOLD, value = "1" )
+		}
+)
+@DomainModel( annotatedClasses = PreparedStatementCacheTest.SimpleEntity.class )
+@SessionFactory
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new SimpleEntity( 1, "first" ) ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete SimpleEntity" ).executeUpdate() );
+	}
+
+	@Test
+	public void testHotStatementIsPreparedOnce(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 5; i++ ) {
+						final String name = session.createSelectionQuery(
+										"select e.name from SimpleEntity e where e.id = :id",
+										String.class
+								)
+								.setParameter( "id", 1 )
+								.getSingleResult();
+						assertEquals( "first", name );
+					}
+				}
+		);
+
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( 1, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 4, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Test
+	public void testHotMutationIsPreparedOnce(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction(
+				session -> {
+					for ( int i = 2; i <= 6; i++ ) {
+						session.persist( new SimpleEntity( i, "entity " + i ) );
+						session.flush();
+					}
+				}
+		);
+
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( 1, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 4, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Test
+	public void testCachedStatementsDoNotOutliveConnection(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction(
+					session -> assertEquals(
+							"first",
+							session.createSelectionQuery(
+											"select e.name from SimpleEntity e where e.id = :id",
+											String.class
+									)
+									.setParameter( "id", 1 )
+									.getSingleResult()
+					)
+			);
+		}
+
+		// the connection is released after each transaction, together with its cached statements
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		assertEquals( 0, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Entity( name = "SimpleEntity" )
+	public static class SimpleEntity {
+		@Id
+		private Integer id;
+		private String name;
+
+		public SimpleEntity() {
+		}
+
+		public SimpleEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
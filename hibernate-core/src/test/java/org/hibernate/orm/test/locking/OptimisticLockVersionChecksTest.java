@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.locking;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.lock.OptimisticEntityLockException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Grouped version checks of entities locked with {@link LockMode#OPTIMISTIC}
+ * and {@link LockMode#OPTIMISTIC_FORCE_INCREMENT}
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" )
+)
+@DomainModel( annotatedClasses = OptimisticLockVersionChecksTest.Document.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class OptimisticLockVersionChecksTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Document( i, "document " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+	}
+
+	@Test
+	public void testVerifyVersions(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final List<Document> documents = session.createQuery( "from Document", Document.class ).list();
+			for ( Document document : documents ) {
+				session.lock( document, LockMode.OPTIMISTIC );
+			}
+			statementInspector.clear();
+		} );
+
+		// a single query verifies all the versions
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWith( "select count(*)" );
+	}
+
+	@Test
+	public void testVerifyStaleVersion(SessionFactoryScope scope) {
+		try {
+			scope.inTransaction( session -> {
+				final List<Document> documents = session.createQuery( "from Document", Document.class ).list();
+				for ( Document document : documents ) {
+					session.lock( document, LockMode.OPTIMISTIC );
+				}
+				scope.inTransaction( otherSession -> otherSession.find( Document.class, 3 ).title = "changed" );
+			} );
+			fail( "Expecting an optimistic lock failure" );
+		}
+		catch (Exception e) {
+			Throwable cause = e;
+			while ( cause != null && !( cause instanceof OptimisticEntityLockException ) ) {
+				cause = cause.getCause();
+			}
+			assertThat( cause ).isNotNull();
+			assertThat( ( (OptimisticEntityLockException) cause ).getEntity() ).extracting( "id" ).isEqualTo( 3 );
+		}
+	}
+
+	@Test
+	public void testForceIncrementVersions(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( session -> {
+			final List<Document> documents = session.createQuery( "from Document", Document.class ).list();
+			for ( Document document : documents ) {
+				session.lock( document, LockMode.OPTIMISTIC_FORCE_INCREMENT );
+			}
+			statementInspector.clear();
+		} );
+
+		// the version updates share a single batched statement
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWith( "update" );
+
+		scope.inTransaction( session -> {
+			for ( Document document : session.createQuery( "from Document", Document.class ).list() ) {
+				assertThat( document.version ).isEqualTo( 1 );
+			}
+		} );
+	}
+
+	@Entity(name = "Document")
+	@Table(name = "t_locked_document")
+	public static class Document {
+		@Id
+		private Integer id;
+		private String title;
+		@Version
+		private Integer version;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping.fetch.subselect;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sub-select fetching of a lazy many-to-one
+ */
+@DomainModel(annotatedClasses = {
+		SimpleToOneSubSelectFetchTests.Customer.class,
+		SimpleToOneSubSelectFetchTests.Invoice.class
+})
+@SessionFactory( useCollectingStatementInspector = true )
+public class SimpleToOneSubSelectFetchTests {
+
+	@Test
+	public void smokeTest(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			statementInspector.clear();
+			final List<Invoice> invoices = session.createQuery( "from Invoice i where i.amount < 4 order by i.id", Invoice.class )
+					.list();
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( invoices ).hasSize( 4 );
+			for ( Invoice invoice : invoices ) {
+				assertThat( Hibernate.isInitialized( invoice.customer ) ).isFalse();
+			}
+
+			// initializing one of the customers initializes them all
+			statementInspector.clear();
+			assertThat( invoices.get( 0 ).customer.getName() ).isEqualTo( "Customer 0" );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( " in (select" );
+
+			for ( Invoice invoice : invoices ) {
+				assertThat( invoice.customer.getName() ).isEqualTo( "Customer " + invoice.amount % 2 );
+			}
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+			// the customer which is not referenced by any of the invoices is not loaded
+			assertThat( Hibernate.isInitialized( session.getReference( Customer.class, 2 ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testFindIsNotAffected(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		scope.inTransaction( (session) -> {
+			final Invoice invoice = session.find( Invoice.class, 4 );
+			statementInspector.clear();
+			assertThat( invoice.customer.getName() ).isEqualTo( "Customer 1" );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( " in (select" );
+		} );
+	}
+
+	@BeforeEach
+	void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer[] customers = new Customer[3];
+			for ( int i = 0; i < customers.length; i++ ) {
+				customers[i] = new Customer( i, "Customer " + i );
+				session.persist( customers[i] );
+			}
+			for ( int i = 0; i < 4; i++ ) {
+				session.persist( new Invoice( i, i, customers[i % 2] ) );
+			}
+			session.persist( new Invoice( 4, 4, customers[1] ) );
+			session.persist( new Invoice( 5, 5, customers[2] ) );
+		} );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Invoice" ).executeUpdate();
+			session.createMutationQuery( "delete Customer" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	@Table( name = "t_customers" )
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "Invoice" )
+	@Table( name = "t_invoices" )
+	public static class Invoice {
+		@Id
+		private Integer id;
+		private Integer amount;
+		@ManyToOne( fetch = FetchType.LAZY )
+		@Fetch( FetchMode.SUBSELECT )
+		private Customer customer;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, Integer amount, Customer customer) {
+			this.id = id;
+			this.amount = amount;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryExecutionObserver;
+import org.hibernate.stat.QueryExecutionPhase;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.QUERY_EXECUTION_OBSERVER,
+				value = "org.hibernate.orm.test.query.QueryExecutionObserverTest$RecordingObserver"
+		)
+)
+@DomainModel(annotatedClasses = QueryExecutionObserverTest.Item.class)
+@SessionFactory
+public class QueryExecutionObserverTest {
+
+	private static final String HQL = "select i from Item i where i.id < :id";
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testObserverIsNotified(SessionFactoryScope scope) {
+		final RecordingObserver observer = (RecordingObserver) scope.getSessionFactory()
+				.getQueryEngine()
+				.getQueryExecutionObserver();
+		observer.clear();
+
+		scope.inTransaction(
+				session -> {
+					assertEquals( 2, session.createQuery( HQL, Item.class ).setParameter( "id", 3 ).list().size() );
+					assertEquals( 1, session.createQuery( HQL, Item.class ).setParameter( "id", 2 ).list().size() );
+				}
+		);
+
+		// parsing, translation and rendering only happen for the first execution
+		assertEquals(
+				List.of(
+						QueryExecutionPhase.PARSE,
+						QueryExecutionPhase.TRANSLATE,
+						QueryExecutionPhase.RENDER,
+						QueryExecutionPhase.EXECUTE,
+						QueryExecutionPhase.HYDRATE,
+						QueryExecutionPhase.EXECUTE,
+						QueryExecutionPhase.HYDRATE
+				),
+				observer.phases
+		);
+		assertEquals( List.of( 2, 1 ), observer.rowCounts );
+		assertTrue( observer.planCacheHits.contains( Boolean.FALSE ) );
+		assertTrue( observer.planCacheHits.contains( Boolean.TRUE ) );
+		assertFalse( observer.queries.isEmpty() );
+		for ( String query : observer.queries ) {
+			assertEquals( HQL, query );
+		}
+	}
+
+	public static class RecordingObserver implements QueryExecutionObserver {
+		private final List<QueryExecutionPhase> phases = Collections.synchronizedList( new ArrayList<>() );
+		private final List<Integer> rowCounts = Collections.synchronizedList( new ArrayList<>() );
+		private final List<Boolean> planCacheHits = Collections.synchronizedList( new ArrayList<>() );
+		private final List<String> queries = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public void queryPlanCacheAccessed(String query, boolean hit) {
+			if ( HQL.equals( query ) ) {
+				planCacheHits.add( hit );
+			}
+		}
+
+		@Override
+		public void queryPhaseCompleted(String query, QueryExecutionPhase phase, long nanoseconds) {
+			assertTrue( nanoseconds >= 0 );
+			phases.add( phase );
+			queries.add( query );
+		}
+
+		@Override
+		public void queryExecuted(String query, String sql, int rowCount, long nanoseconds) {
+			rowCounts.add( rowCount );
+			queries.add( query );
+		}
+
+		void clear() {
+			phases.clear();
+			rowCounts.clear();
+			planCacheHits.clear();
+			queries.clear();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Executes a cached query plan with alternating limit shapes, which requires
+ * switching between the rendered variants of the same SQL AST, without
+ * translating the SQM tree to a SQL AST again.
+ */
+@ServiceRegistry(
+		settings = @Setting(
+				name = AvailableSettings.SEMANTIC_QUERY_TRANSLATOR,
+				value = "org.hibernate.orm.test.query.QueryPlanLimitVariantsTest$CountingSqmTranslatorFactory"
+		)
+)
+@DomainModel(annotatedClasses = QueryPlanLimitVariantsTest.Item.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class QueryPlanLimitVariantsTest {
+
+	private static final String HQL = "select i.id from Item i order by i.id";
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 5; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testAlternatingLimits(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction(
+				session -> {
+					statementInspector.clear();
+					CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.set( 0 );
+
+					List<Integer> ids = session.createQuery( HQL, Integer.class ).list();
+					assertEquals( List.of( 1, 2, 3, 4, 5 ), ids );
+					assertEquals( 1, CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() );
+					final String unlimitedSql = statementInspector.getSqlQueries().get( 0 );
+
+					ids = session.createQuery( HQL, Integer.class ).setMaxResults( 2 ).list();
+					assertEquals( List.of( 1, 2 ), ids );
+					final String limitedSql = statementInspector.getSqlQueries().get( 1 );
+					assertNotEquals( unlimitedSql, limitedSql );
+
+					ids = session.createQuery( HQL, Integer.class ).list();
+					assertEquals( List.of( 1, 2, 3, 4, 5 ), ids );
+					assertEquals( unlimitedSql, statementInspector.getSqlQueries().get( 2 ) );
+
+					ids = session.createQuery( HQL, Integer.class ).setMaxResults( 3 ).list();
+					assertEquals( List.of( 1, 2, 3 ), ids );
+
+					ids = session.createQuery( HQL, Integer.class ).setFirstResult( 1 ).setMaxResults( 2 ).list();
+					assertEquals( List.of( 2, 3 ), ids );
+
+					ids = session.createQuery( HQL, Integer.class ).setMaxResults( 2 ).list();
+					assertEquals( List.of( 1, 2 ), ids );
+
+					// every limit was applied to the SQL AST of the first translation
+					assertEquals( 1, CountingSqmTranslatorFactory.SELECT_TRANSLATIONS.get() );
+				}
+		);
+	}
+
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		static final AtomicInteger SELECT_TRANSLATIONS = new AtomicInteger();
+
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			SELECT_TRANSLATIONS.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.query.IllegalQueryOperationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Mutation queries with a {@code returning} clause
+ */
+@RequiresDialect( H2Dialect.class )
+@DomainModel( annotatedClasses = MutationReturningTest.Item.class )
+@SessionFactory
+public class MutationReturningTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1, "hammer", 10 ) );
+			session.persist( new Item( 2, "saw", 20 ) );
+			session.persist( new Item( 3, "drill", 30 ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUpdateReturning(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Integer> prices = session.createQuery(
+							"update Item i set i.price = i.price + 1 where i.id < 3 returning i.price",
+							Integer.class
+					)
+					.getResultList();
+			assertThat( prices ).containsExactlyInAnyOrder( 11, 21 );
+		} );
+	}
+
+	@Test
+	public void testDeleteReturning(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createQuery(
+							"delete from Item i where i.price >= :price returning i.id, i.name",
+							Object[].class
+					)
+					.setParameter( "price", 20 )
+					.getResultList();
+			assertThat( rows ).hasSize( 2 );
+			assertThat( rows ).extracting( row -> row[1] ).containsExactlyInAnyOrder( "saw", "drill" );
+			assertThat( session.createQuery( "select count(*) from Item", Long.class ).getSingleResult() )
+					.isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void testInsertReturning(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String name = session.createQuery(
+							"insert into Item (id, name, price) values (4, 'wrench', 40) returning name",
+							String.class
+					)
+					.getSingleResult();
+			assertThat( name ).isEqualTo( "wrench" );
+		} );
+	}
+
+	@Test
+	public void testExecuteUpdateWithReturning(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final int count = session.createMutationQuery( "update Item set price = 0 returning id" )
+					.executeUpdate();
+			assertThat( count ).isEqualTo( 3 );
+		} );
+	}
+
+	@Test
+	public void testScrollWithReturningIsRejected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String hql = "update Item i set i.price = 0 returning i.id";
+			assertThatThrownBy( () -> session.createQuery( hql, Integer.class ).scroll() )
+					.isInstanceOf( IllegalQueryOperationException.class )
+					.hasMessageContaining( "cannot be scrolled or streamed" );
+			assertThatThrownBy( () -> session.createQuery( hql, Integer.class ).getResultStream() )
+					.isInstanceOf( IllegalQueryOperationException.class );
+			// nothing was updated
+			assertThat( session.createQuery( "select count(*) from Item where price = 0", Long.class ).getSingleResult() )
+					.isEqualTo( 0L );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_returning_item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private Integer price;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Integer price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
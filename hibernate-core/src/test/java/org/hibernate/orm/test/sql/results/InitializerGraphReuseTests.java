@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeated executions of the same plan, which share the pooled initializers
+ */
+@DomainModel( annotatedClasses = {
+		InitializerGraphReuseTests.Parent.class,
+		InitializerGraphReuseTests.Child.class
+} )
+@SessionFactory
+public class InitializerGraphReuseTests {
+	private static final String QUERY = "select p from Parent p left join fetch p.children order by p.id";
+
+	@Test
+	public void testRepeatedQueryExecution(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( (session) -> {
+				final List<Parent> parents = session.createSelectionQuery( QUERY, Parent.class ).list();
+				verify( parents );
+			} );
+		}
+
+		scope.inTransaction( (session) -> {
+			verify( session.createSelectionQuery( QUERY, Parent.class ).list() );
+			session.clear();
+			verify( session.createSelectionQuery( QUERY, Parent.class ).list() );
+		} );
+	}
+
+	@Test
+	public void testInterleavedLockedExecution(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			verify( session.createSelectionQuery( QUERY, Parent.class ).list() );
+			session.clear();
+
+			final Parent locked = session.get( Parent.class, 1, LockMode.PESSIMISTIC_WRITE );
+			assertThat( session.getCurrentLockMode( locked ) ).isEqualTo( LockMode.PESSIMISTIC_WRITE );
+			session.clear();
+
+			final List<Parent> parents = session.createSelectionQuery( QUERY, Parent.class ).list();
+			verify( parents );
+			assertThat( session.getCurrentLockMode( parents.get( 0 ) ) ).isEqualTo( LockMode.READ );
+		} );
+	}
+
+	@Test
+	public void testRepeatedFind(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Child child = session.find( Child.class, i * 10 );
+				assertThat( child.name ).isEqualTo( "child " + i * 10 );
+				assertThat( session.getIdentifier( child.parent ) ).isEqualTo( i );
+			}
+		} );
+	}
+
+	private static void verify(List<Parent> parents) {
+		assertThat( parents ).hasSize( 3 );
+		for ( int i = 0; i < parents.size(); i++ ) {
+			final Parent parent = parents.get( i );
+			assertThat( parent.id ).isEqualTo( i + 1 );
+			assertThat( Hibernate.isInitialized( parent.children ) ).isTrue();
+			assertThat( parent.children ).hasSize( parent.id );
+			for ( Child child : parent.children ) {
+				assertThat( child.name ).startsWith( "child " + parent.id );
+			}
+		}
+	}
+
+	@BeforeEach
+	void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Parent parent = new Parent( i, "parent " + i );
+				session.persist( parent );
+				for ( int j = 0; j < i; j++ ) {
+					final Child child = new Child( i * 10 + j, "child " + ( i * 10 + j ), parent );
+					parent.children.add( child );
+					session.persist( child );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Child" ).executeUpdate();
+			session.createMutationQuery( "delete Parent" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Parent" )
+	@Table( name = "t_parents" )
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "parent" )
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Child" )
+	@Table( name = "t_children" )
+	public static class Child {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk inserts of a stateless session, using multi-row inserts
+ */
+@RequiresDialect( H2Dialect.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10" ) )
+@DomainModel(
+		annotatedClasses = {
+				StatelessSessionBulkInsertTest.Record.class,
+				StatelessSessionBulkInsertTest.IdentityRecord.class
+		}
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class StatelessSessionBulkInsertTest {
+
+	@Test
+	public void testMultiRowInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Record> records = new ArrayList<>();
+		for ( int i = 0; i < 25; i++ ) {
+			records.add( new Record( i, "record " + i ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.bulkInsert( records ) );
+		// 10 rows per statement
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( records.get( 0 ).version ).isNotNull();
+
+		scope.inStatelessSession( session -> {
+			assertThat( session.createQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 25L );
+			for ( Record record : records ) {
+				final Record loaded = session.get( Record.class, record.id );
+				assertThat( loaded.name ).isEqualTo( record.name );
+				assertThat( loaded.version ).isEqualTo( record.version );
+			}
+		} );
+	}
+
+	@Test
+	public void testRowsPerStatementWithoutBatching(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Record> records = new ArrayList<>();
+		for ( int i = 0; i < 250; i++ ) {
+			records.add( new Record( i, "record " + i ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> {
+			session.setJdbcBatchSize( 0 );
+			session.bulkInsert( records );
+		} );
+		// 100 rows per statement
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+
+		scope.inStatelessSession( session -> {
+			assertThat( session.createQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 250L );
+		} );
+	}
+
+	@Test
+	public void testIdentityFallback(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ ) {
+			entities.add( new Record( i, "record " + i ) );
+			entities.add( new IdentityRecord( "identity record " + i ) );
+		}
+
+		scope.inStatelessTransaction( session -> session.bulkInsert( entities ) );
+
+		scope.inStatelessSession( session -> {
+			assertThat( session.createQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 3L );
+			for ( Object entity : entities ) {
+				if ( entity instanceof IdentityRecord ) {
+					final IdentityRecord record = (IdentityRecord) entity;
+					assertThat( record.id ).isNotNull();
+					assertThat( session.get( IdentityRecord.class, record.id ).name ).isEqualTo( record.name );
+				}
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Record" ).executeUpdate();
+			session.createMutationQuery( "delete from IdentityRecord" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Record")
+	@Table(name = "t_bulk_record")
+	public static class Record {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public Record() {
+		}
+
+		public Record(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "IdentityRecord")
+	@Table(name = "t_bulk_identity_record")
+	public static class IdentityRecord {
+		@Id
+		@GeneratedValue( strategy = GenerationType.IDENTITY )
+		private Long id;
+		private String name;
+
+		public IdentityRecord() {
+		}
+
+		public IdentityRecord(String name) {
+			this.name = name;
+		}
+	}
+}
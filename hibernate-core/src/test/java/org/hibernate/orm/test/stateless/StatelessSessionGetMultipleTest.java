@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loading of multiple entities by id with a stateless session
+ */
+@DomainModel( annotatedClasses = StatelessSessionGetMultipleTest.Record.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class StatelessSessionGetMultipleTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.insert( new Record( i, "record " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Record" ).executeUpdate() );
+	}
+
+	@Test
+	public void testGetMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inStatelessSession( session -> {
+			final List<Record> records = session.getMultiple( Record.class, List.of( 4, 99, 1, 4, 2 ) );
+			assertThat( records ).hasSize( 5 );
+			assertThat( records.get( 0 ).name ).isEqualTo( "record 4" );
+			assertThat( records.get( 1 ) ).isNull();
+			assertThat( records.get( 2 ).name ).isEqualTo( "record 1" );
+			assertThat( records.get( 3 ) ).isSameAs( records.get( 0 ) );
+			assertThat( records.get( 4 ).name ).isEqualTo( "record 2" );
+		} );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+
+		scope.inStatelessSession( session -> {
+			// the entities are not retained by the session between calls
+			final Record first = session.getMultiple( Record.class, List.of( 3 ) ).get( 0 );
+			final Record second = session.getMultiple( Record.class, List.of( 3 ) ).get( 0 );
+			assertThat( first.name ).isEqualTo( "record 3" );
+			assertThat( second ).isNotSameAs( first );
+		} );
+	}
+
+	@Entity(name = "Record")
+	@Table(name = "t_multi_get_record")
+	public static class Record {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Record() {
+		}
+
+		public Record(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SkipForDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The operations of a stateless session on multiple entities, and upserts
+ */
+@DomainModel(
+		annotatedClasses = {
+				StatelessSessionMultipleOperationsTest.Record.class,
+				StatelessSessionMultipleOperationsTest.VersionedRecord.class
+		}
+)
+@SessionFactory( useCollectingStatementInspector = true )
+public class StatelessSessionMultipleOperationsTest {
+
+	@Test
+	public void testMultipleOperations(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Record> records = new ArrayList<>();
+		for ( int i = 0; i < 5; i++ ) {
+			records.add( new Record( i, "record " + i ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( records ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		scope.inStatelessSession( session -> {
+			assertThat( session.createQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 5L );
+		} );
+
+		for ( Record record : records ) {
+			record.name = "updated " + record.id;
+		}
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( records ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		scope.inStatelessSession( session -> {
+			for ( Record record : records ) {
+				assertThat( session.get( Record.class, record.id ).name ).isEqualTo( "updated " + record.id );
+			}
+		} );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( records.subList( 0, 3 ) ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		scope.inStatelessSession( session -> {
+			assertThat( session.createQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	public void testUpsert(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insert( new Record( 1, "existing" ) ) );
+
+		scope.inStatelessTransaction( session -> {
+			session.upsert( new Record( 1, "updated" ) );
+			session.upsert( new Record( 2, "inserted" ) );
+		} );
+
+		scope.inStatelessSession( session -> {
+			assertThat( session.get( Record.class, 1 ).name ).isEqualTo( "updated" );
+			assertThat( session.get( Record.class, 2 ).name ).isEqualTo( "inserted" );
+		} );
+
+		// a row is not deleted when its values are all null
+		scope.inStatelessTransaction( session -> session.upsertMultiple( List.of(
+				new Record( 1, null ),
+				new Record( 3, "also inserted" )
+		) ) );
+
+		scope.inStatelessSession( session -> {
+			assertThat( session.get( Record.class, 1 ) ).isNotNull();
+			assertThat( session.get( Record.class, 1 ).name ).isNull();
+			assertThat( session.get( Record.class, 3 ).name ).isEqualTo( "also inserted" );
+		} );
+	}
+
+	@Test
+	public void testUpsertVersioned(SessionFactoryScope scope) {
+		final VersionedRecord record = new VersionedRecord( 1, "new" );
+		scope.inStatelessTransaction( session -> session.upsert( record ) );
+		assertThat( record.version ).isNotNull();
+		final Integer initialVersion = record.version;
+
+		record.name = "updated";
+		scope.inStatelessTransaction( session -> session.upsert( record ) );
+		assertThat( record.version ).isEqualTo( initialVersion + 1 );
+
+		scope.inStatelessSession( session -> {
+			final VersionedRecord loaded = session.get( VersionedRecord.class, 1 );
+			assertThat( loaded.name ).isEqualTo( "updated" );
+			assertThat( loaded.version ).isEqualTo( initialVersion + 1 );
+		} );
+	}
+
+	@Test
+	@RequiresDialect( PostgreSQLDialect.class )
+	public void testUpsertSqlPostgreSQL(SessionFactoryScope scope) {
+		assertThat( upsertSql( scope ) )
+				.endsWith( "values (?, ?) on conflict (id) do update set name=excluded.name" );
+	}
+
+	@Test
+	@RequiresDialect( value = MySQLDialect.class, majorVersion = 8, minorVersion = 0, microVersion = 19 )
+	@SkipForDialect( dialectClass = MariaDBDialect.class )
+	public void testUpsertSqlMySQL(SessionFactoryScope scope) {
+		assertThat( upsertSql( scope ) )
+				.endsWith( "values (?, ?) as new on duplicate key update name=new.name" );
+	}
+
+	@Test
+	@RequiresDialect( MariaDBDialect.class )
+	public void testUpsertSqlMariaDB(SessionFactoryScope scope) {
+		assertThat( upsertSql( scope ) )
+				.endsWith( "values (?, ?) on duplicate key update name=values(name)" );
+	}
+
+	private static String upsertSql(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.upsert( new Record( 1, "inserted" ) ) );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+		return statementInspector.getSqlQueries().get( 0 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Record" ).executeUpdate();
+			session.createMutationQuery( "delete from VersionedRecord" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Record")
+	@Table(name = "t_record")
+	public static class Record {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Record() {
+		}
+
+		public Record(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "VersionedRecord")
+	@Table(name = "t_versioned_record")
+	public static class VersionedRecord {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public VersionedRecord() {
+		}
+
+		public VersionedRecord(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
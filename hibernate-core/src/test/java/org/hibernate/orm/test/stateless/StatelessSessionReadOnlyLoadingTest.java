@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+
+import org.hibernate.annotations.NaturalId;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Entities loaded by a stateless session are hydrated without a snapshot
+ * of their state, but still only once per result
+ */
+@DomainModel(
+		annotatedClasses = {
+				StatelessSessionReadOnlyLoadingTest.Category.class,
+				StatelessSessionReadOnlyLoadingTest.Item.class
+		}
+)
+@SessionFactory
+public class StatelessSessionReadOnlyLoadingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> {
+					final Category first = new Category( 1, "first", new byte[] { 1, 2 } );
+					final Category second = new Category( 2, "second", new byte[] { 3, 4 } );
+					session.insert( first );
+					session.insert( second );
+					for ( int i = 0; i < 4; i++ ) {
+						session.insert( new Item( i, i % 2 == 0 ? first : second ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Item" ).executeUpdate();
+					session.createMutationQuery( "delete from Category" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testEntitiesAreResolvedOncePerResult(SessionFactoryScope scope) {
+		scope.inStatelessSession(
+				session -> {
+					final List<Item> items = session.createQuery(
+							"select i from Item i join fetch i.category order by i.id",
+							Item.class
+					).list();
+					assertEquals( 4, items.size() );
+					assertSame( items.get( 0 ).category, items.get( 2 ).category );
+					assertSame( items.get( 1 ).category, items.get( 3 ).category );
+					assertEquals( "first", items.get( 0 ).category.code );
+					assertEquals( "second", items.get( 1 ).category.code );
+				}
+		);
+	}
+
+	@Test
+	public void testUpdateOfMutableState(SessionFactoryScope scope) {
+		scope.inStatelessTransaction(
+				session -> {
+					final Category category = session.createQuery(
+							"from Category where code = :code",
+							Category.class
+					).setParameter( "code", "first" ).getSingleResult();
+					category.data[0] = 5;
+					session.update( category );
+				}
+		);
+		scope.inStatelessSession(
+				session -> {
+					final Category category = (Category) session.get( Category.class, 1 );
+					assertArrayEquals( new byte[] { 5, 2 }, category.data );
+				}
+		);
+	}
+
+	@Entity(name = "Category")
+	@Table(name = "t_category")
+	public static class Category {
+		@Id
+		private Integer id;
+		@NaturalId
+		private String code;
+		private byte[] data;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String code, byte[] data) {
+			this.id = id;
+			this.code = code;
+			this.data = data;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "t_item")
+	public static class Item {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Category category;
+
+		public Item() {
+		}
+
+		public Item(Integer id, Category category) {
+			this.id = id;
+			this.category = category;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.QueryExecutionPhase;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+)
+@DomainModel( annotatedClasses = QueryExecutionPhaseStatisticsTest.Item.class )
+@SessionFactory
+public class QueryExecutionPhaseStatisticsTest {
+
+	private static final String HQL = "select i from Item i";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						session.persist( new Item( i, "item " + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPhasesAreRecorded(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 5; i++ ) {
+			scope.inTransaction( session -> assertEquals( 3, session.createQuery( HQL, Item.class ).list().size() ) );
+		}
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( HQL );
+		assertEquals( 5, queryStatistics.getExecutionCount() );
+		// parsing and translation are cached
+		assertEquals( 1, queryStatistics.getPhaseCount( QueryExecutionPhase.PARSE ) );
+		assertEquals( 1, queryStatistics.getPhaseCount( QueryExecutionPhase.TRANSLATE ) );
+		assertEquals( 1, queryStatistics.getPhaseCount( QueryExecutionPhase.RENDER ) );
+		assertEquals( 5, queryStatistics.getPhaseCount( QueryExecutionPhase.EXECUTE ) );
+		assertEquals( 5, queryStatistics.getPhaseCount( QueryExecutionPhase.HYDRATE ) );
+
+		assertEquals( 3, queryStatistics.getExecutionRowCountPercentile( 50 ) );
+		assertEquals( 3, queryStatistics.getExecutionRowCountPercentile( 99 ) );
+		// percentiles are in microseconds, the maximum in milliseconds
+		assertTrue( queryStatistics.getExecutionTimePercentile( 99 ) <= ( queryStatistics.getExecutionMaxTime() + 1 ) * 1000 );
+		assertTrue(
+				queryStatistics.getPhaseTimePercentile( QueryExecutionPhase.EXECUTE, 50 )
+						<= queryStatistics.getPhaseTimePercentile( QueryExecutionPhase.EXECUTE, 99 )
+		);
+	}
+
+	@Test
+	public void testPercentiles(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 1; i <= 100; i++ ) {
+			// sub-millisecond executions
+			statistics.queryExecuted( "percentiles", i, 0, i * 5 );
+		}
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( "percentiles" );
+		assertEquals( 0, queryStatistics.getExecutionMaxTime() );
+		assertEquals( 500, queryStatistics.getExecutionTimePercentile( 100 ) );
+		// values are reported with a relative error of at most 1/16
+		assertWithinRelativeError( 250, queryStatistics.getExecutionTimePercentile( 50 ) );
+		assertWithinRelativeError( 475, queryStatistics.getExecutionTimePercentile( 95 ) );
+		assertWithinRelativeError( 99, queryStatistics.getExecutionRowCountPercentile( 99 ) );
+		assertEquals( 1, queryStatistics.getExecutionRowCountPercentile( 0 ) );
+	}
+
+	private static void assertWithinRelativeError(long expected, long actual) {
+		assertTrue(
+				actual >= expected && actual <= expected + expected / 16,
+				"Expected " + expected + " within relative error, but was " + actual
+		);
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
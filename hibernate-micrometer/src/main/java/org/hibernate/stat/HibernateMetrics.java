@@ -147,6 +147,14 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.statements.cache.requests",
+				"The number of hot statements reused from the prepared statement cache",
+				Statistics::getPreparedStatementCacheHitCount, "result", "hit"
+		);
+		counter(registry, "hibernate.statements.cache.requests",
+				"The number of hot statements which had to be prepared because they were not cached",
+				Statistics::getPreparedStatementCacheMissCount, "result", "miss"
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -18,6 +18,7 @@ import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PostLoadEventListener;
 
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,6 +35,12 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	/**
+	 * The percentiles published for each query, using the same {@code phi}
+	 * tag as percentiles published by Micrometer timers
+	 */
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
@@ -182,6 +189,58 @@ public class HibernateQueryMetrics implements MeterBinder {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				for ( QueryExecutionPhase phase : QueryExecutionPhase.values() ) {
+					final String phaseName = phase.name().toLowerCase( Locale.ROOT );
+					FunctionTimer.builder(
+							"hibernate.query.phase",
+							queryStatistics,
+							stats -> stats.getPhaseCount( phase ),
+							stats -> stats.getPhaseTotalMicroseconds( phase ),
+							TimeUnit.MICROSECONDS
+					)
+							.tags( tags )
+							.tags( "query", query, "phase", phaseName )
+							.description( "Time spent in a phase of query executions" )
+							.register( meterRegistry );
+				}
+
+				for ( double percentile : PERCENTILES ) {
+					final String phi = String.valueOf( percentile );
+					TimeGauge.builder(
+							"hibernate.query.execution.percentile",
+							queryStatistics,
+							TimeUnit.MICROSECONDS,
+							stats -> stats.getExecutionTimePercentile( percentile * 100 )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", phi )
+							.description( "Query execution time percentile" )
+							.register( meterRegistry );
+
+					Gauge.builder(
+							"hibernate.query.execution.rows.percentile",
+							queryStatistics,
+							stats -> stats.getExecutionRowCountPercentile( percentile * 100 )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", phi )
+							.description( "Percentile of the number of rows processed for a query" )
+							.register( meterRegistry );
+
+					for ( QueryExecutionPhase phase : QueryExecutionPhase.values() ) {
+						TimeGauge.builder(
+								"hibernate.query.phase.percentile",
+								queryStatistics,
+								TimeUnit.MICROSECONDS,
+								stats -> stats.getPhaseTimePercentile( phase, percentile * 100 )
+						)
+								.tags( tags )
+								.tags( "query", query, "phase", phase.name().toLowerCase( Locale.ROOT ), "phi", phi )
+								.description( "Percentile of the time spent in a phase of query executions" )
+								.register( meterRegistry );
+					}
+				}
 			}
 		}
 	}